@@ -0,0 +1,130 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.bean.annotation;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.util.ClassUtils;
+
+/**
+ * <p>Generates the precompiled index of annotation handlers used by {@link AnnotationHandlerUtils}.  The
+ * index merges the contents of all <code>META-INF/sst.annotation.handlers</code> files visible on the 
+ * classpath and omits any entries whose annotation or handler class cannot be loaded, so that no classpath
+ * scan or failed class loading takes place when the application starts.</p>
+ * 
+ * <p>Because the index replaces the individual properties files, it should only be generated by the build
+ * of the final application, with the complete runtime classpath.  For example, with Maven:</p>
+ * 
+ * <pre class="code">
+ * &lt;plugin&gt;
+ *   &lt;groupId&gt;org.codehaus.mojo&lt;/groupId&gt;
+ *   &lt;artifactId&gt;exec-maven-plugin&lt;/artifactId&gt;
+ *   &lt;executions&gt;
+ *     &lt;execution&gt;
+ *       &lt;phase&gt;process-classes&lt;/phase&gt;
+ *       &lt;goals&gt;&lt;goal&gt;java&lt;/goal&gt;&lt;/goals&gt;
+ *       &lt;configuration&gt;
+ *         &lt;mainClass&gt;org.simpliccity.sst.bean.annotation.AnnotationHandlerIndexGenerator&lt;/mainClass&gt;
+ *         &lt;arguments&gt;&lt;argument&gt;${project.build.outputDirectory}&lt;/argument&gt;&lt;/arguments&gt;
+ *       &lt;/configuration&gt;
+ *     &lt;/execution&gt;
+ *   &lt;/executions&gt;
+ * &lt;/plugin&gt;
+ * </pre>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see AnnotationHandlerUtils
+ *
+ */
+public final class AnnotationHandlerIndexGenerator 
+{
+	// Private constructor to hide default
+	private AnnotationHandlerIndexGenerator()
+	{
+		super();
+	}
+	
+	/**
+	 * Writes the index of annotation handlers beneath the specified output directory.
+	 * 
+	 * @param args The output directory (typically the build output directory for classes).
+	 * @throws IOException If the configuration cannot be read or the index cannot be written.
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length != 1)
+		{
+			throw new IllegalArgumentException("Usage: AnnotationHandlerIndexGenerator <output directory>");
+		}
+		
+		File indexFile = generateIndex(new File(args[0]), ClassUtils.getDefaultClassLoader());
+		System.out.println("Generated annotation handler index: " + indexFile.getAbsolutePath());
+	}
+	
+	/**
+	 * Writes the index of the annotation handlers visible to the specified class loader.
+	 * 
+	 * @param outputDirectory The root directory beneath which the index resource is written.
+	 * @param classLoader The class loader used to locate the handler configuration.
+	 * @return The generated index file.
+	 * @throws IOException If the configuration cannot be read or the index cannot be written.
+	 */
+	public static File generateIndex(File outputDirectory, ClassLoader classLoader) throws IOException
+	{
+		// Always read the individual properties files, ignoring any existing index
+		Properties handlerNames = PropertiesLoaderUtils.loadAllProperties(AnnotationHandlerUtils.PROPERTIES_RESOURCE, classLoader);
+		Map<Class<? extends Annotation>, Class<?>> handlerClasses = AnnotationHandlerUtils.resolveHandlerClasses(handlerNames, classLoader);
+		
+		// Sort the entries so that the generated index is stable between builds
+		Map<String, String> entries = new TreeMap<>();
+		for (Entry<Class<? extends Annotation>, Class<?>> entry : handlerClasses.entrySet())
+		{
+			entries.put(entry.getKey().getName(), entry.getValue().getName());
+		}
+		
+		File indexFile = new File(outputDirectory, AnnotationHandlerUtils.INDEX_RESOURCE);
+		File parent = indexFile.getParentFile();
+		if (!parent.isDirectory() && !parent.mkdirs())
+		{
+			throw new IOException("Unable to create directory [" + parent.getAbsolutePath() + "].");
+		}
+		
+		try (Writer writer = new OutputStreamWriter(new FileOutputStream(indexFile), StandardCharsets.ISO_8859_1))
+		{
+			writer.write("# Generated by " + AnnotationHandlerIndexGenerator.class.getName() + "; do not edit.\n");
+			for (Entry<String, String> entry : entries.entrySet())
+			{
+				writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+			}
+		}
+		
+		return indexFile;
+	}
+}
@@ -18,13 +18,23 @@ package org.simpliccity.sst.bean.annotation;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.WeakHashMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.simpliccity.sst.config.startup.StartupPhase;
+import org.simpliccity.sst.config.startup.StartupProfiler;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.util.ClassUtils;
 
 /**
  * <p>A utility class that manages the process of loading annotation handler configurations from properties files.
@@ -40,13 +50,30 @@ import org.springframework.core.io.support.PropertiesLoaderUtils;
  * <p>Each individual SST JAR file contains the necessary properties file to initialize any handlers needed to
  * support its functionality.</p>
  * 
+ * <p>The configuration is read and the configured classes are loaded only once for each class loader; 
+ * only the handler instances themselves are created for each caller, so that handlers may hold state.  The cached
+ * configuration does not keep a class loader, such as that of a redeployed web application, from being collected.  An 
+ * application can also avoid the classpath scan for the properties files entirely by generating a merged index
+ * of its handlers at build time with {@link AnnotationHandlerIndexGenerator}.  If the resource 
+ * <code>META-INF/sst.annotation.handlers.index</code> is present, it is used in place of the individual
+ * properties files.</p>
+ * 
  * @author Kevin Fox
  * @since 0.3.0
  *
  */
 public final class AnnotationHandlerUtils 
 {
-	private static final String PROPERTIES_RESOURCE = "META-INF/sst.annotation.handlers";
+	static final String PROPERTIES_RESOURCE = "META-INF/sst.annotation.handlers";
+	
+	/**
+	 * The name of the classpath resource containing the precompiled index of annotation handlers.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static final String INDEX_RESOURCE = "META-INF/sst.annotation.handlers.index";
+	
+	private static final Map<ClassLoader, HandlerRegistry> REGISTRIES = new WeakHashMap<>();
 	
 	private static Log logger = LogFactory.getLog(AnnotationHandlerUtils.class);
 
@@ -67,17 +94,84 @@ public final class AnnotationHandlerUtils
 	 */
 	public static <T> Map<Class<? extends Annotation>, T> loadAnnotationHandlersFromPropertiesResource(Class<T> handlerType)
 	{
-		Map<Class<? extends Annotation>, T> result = new HashMap<>();
+		return loadAnnotationHandlersFromPropertiesResource(handlerType, ClassUtils.getDefaultClassLoader());
+	}
+	
+	/**
+	 * Retrieves instances of the configured annotation handlers of the specified type, as visible to the specified
+	 * class loader.  The handler configuration is read the first time that handlers are requested for the class loader
+	 * and reused for subsequent requests; new handler instances are created for each request.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param handlerType The type of handler to load.
+	 * @param classLoader The class loader used to locate the handler configuration.
+	 * @param <T> The handler class.
+	 * @return A map correlating an annotation type to an instance of the configured handler.
+	 */
+	public static <T> Map<Class<? extends Annotation>, T> loadAnnotationHandlersFromPropertiesResource(Class<T> handlerType, ClassLoader classLoader)
+	{
+		long start = StartupProfiler.start();
+		
+		HandlerRegistry registry;
+		synchronized (REGISTRIES)
+		{
+			registry = REGISTRIES.get(classLoader);
+			if (registry == null)
+			{
+				registry = new HandlerRegistry(loadHandlerNames(classLoader), classLoader);
+				REGISTRIES.put(classLoader, registry);
+			}
+		}
 		
+		Map<Class<? extends Annotation>, T> result = registry.getHandlers(handlerType);
+		
+		StartupProfiler.record(StartupPhase.ANNOTATION_HANDLER_LOADING, handlerType, start);
+		
+		return result;
+	}
+	
+	/**
+	 * Discards the handler configuration loaded for all class loaders, so that it is reloaded
+	 * the next time that handlers are requested.
+	 * 
+	 * @since 1.0.0
+	 */
+	public static void clearCache()
+	{
+		synchronized (REGISTRIES)
+		{
+			REGISTRIES.clear();
+		}
+	}
+	
+	/**
+	 * Reads the configured mappings of annotation class names to handler class names, merging the contents
+	 * of all properties files on the classpath.  The precompiled index is used instead, if present.
+	 * 
+	 * @param classLoader The class loader used to locate the handler configuration.
+	 * @return The configured mappings; <code>null</code> if they could not be read.
+	 */
+	static Properties loadHandlerNames(ClassLoader classLoader)
+	{
 		// Load properties files
 		Properties handlerNames = null;
 		try
 		{
-			logger.debug("Loading annotation handler mappings of type " + handlerType.getName() + " from all located instances of " + PROPERTIES_RESOURCE + ".");
-			// Handles merging properties from multiple resources on the class path with the same name.
-			// This allows the definition of delegate mappings to be handled locally in each JAR file
-			// using a file with the specified resource name.
-			handlerNames = PropertiesLoaderUtils.loadAllProperties(PROPERTIES_RESOURCE);
+			ClassPathResource index = new ClassPathResource(INDEX_RESOURCE, classLoader);
+			if (index.exists())
+			{
+				logger.debug("Loading annotation handler mappings from precompiled index " + INDEX_RESOURCE + ".");
+				handlerNames = PropertiesLoaderUtils.loadProperties(index);
+			}
+			else
+			{
+				logger.debug("Loading annotation handler mappings from all located instances of " + PROPERTIES_RESOURCE + ".");
+				// Handles merging properties from multiple resources on the class path with the same name.
+				// This allows the definition of delegate mappings to be handled locally in each JAR file
+				// using a file with the specified resource name.
+				handlerNames = PropertiesLoaderUtils.loadAllProperties(PROPERTIES_RESOURCE, classLoader);
+			}
 		}
 		catch (IOException e)
 		{
@@ -85,6 +179,20 @@ public final class AnnotationHandlerUtils
 			logger.warn("Unable to read properties resources.", e);
 		} 
 		
+		return handlerNames;
+	}
+	
+	/**
+	 * Resolves the annotation and handler classes for the configured mappings.  Invalid entries are skipped.
+	 * 
+	 * @param handlerNames The configured mappings of annotation class names to handler class names.
+	 * @param classLoader The class loader used to load the annotation and handler classes.
+	 * @return A map correlating each annotation type to the configured handler class.
+	 */
+	static Map<Class<? extends Annotation>, Class<?>> resolveHandlerClasses(Properties handlerNames, ClassLoader classLoader)
+	{
+		Map<Class<? extends Annotation>, Class<?>> result = new LinkedHashMap<>();
+		
 		// If any properties were loaded...
 		if (handlerNames != null)
 		{
@@ -92,35 +200,33 @@ public final class AnnotationHandlerUtils
 			for (String key : handlerNames.stringPropertyNames())
 			{
 				String handlerName = handlerNames.getProperty(key);
-				logger.debug("Creating annotation handler instance [" + key + ", " + handlerName + "]");
 				
 				// Load annotation class to use as key
-				Class<? extends Annotation> annotationClass = getAnnotationClass(key);
+				Class<? extends Annotation> annotationClass = getAnnotationClass(key, classLoader);
 				
 				// Load handler class
-				T handler = processHandlerClass(handlerName, handlerType);
+				Class<?> handlerClass = getHandlerClass(handlerName, classLoader);
 				
 				// If both are available, add to result
-				if (annotationClass != null && handler != null)
+				if (annotationClass != null && handlerClass != null)
 				{
-					result.put(annotationClass, handler);
-					logger.debug("Added handler to result list [" + key + ", " + handlerName + "]");
+					result.put(annotationClass, handlerClass);
 				}			
 			}
 		}
 		
-		return result;		
+		return result;
 	}
 	
 	@SuppressWarnings("unchecked")
-	private static Class<? extends Annotation> getAnnotationClass(String annotationName)
+	private static Class<? extends Annotation> getAnnotationClass(String annotationName, ClassLoader classLoader)
 	{
 		Class<? extends Annotation> result = null;
 		
 		try 
 		{
 			// Load the annotation class
-			result = (Class<? extends Annotation>) Class.forName(annotationName);
+			result = (Class<? extends Annotation>) ClassUtils.forName(annotationName, classLoader);
 			logger.debug("Successfully loaded annotation class: " + annotationName);
 		} 
 		catch (ClassNotFoundException e) 
@@ -132,31 +238,129 @@ public final class AnnotationHandlerUtils
 		return result;
 	}
 	
-	@SuppressWarnings("unchecked")
-	private static <T> T processHandlerClass(String handlerName, Class<T> desiredType)
+	private static Class<?> getHandlerClass(String handlerName, ClassLoader classLoader)
 	{
-		T result = null;
-		try
+		Class<?> result = null;
+		
+		try 
 		{
 			// Load handler class
-			Class<?> handlerClass = Class.forName(handlerName);
-			logger.debug("Successfully loaded handler class: " + handlerClass);
-			
-			// Check if it is of the desired type
-			if (desiredType.isAssignableFrom(handlerClass))
-			{
-				// If so, create a new instance
-				result = (T) handlerClass.newInstance();
-				logger.debug("Successfully created instance of handler class: " + handlerName);
-			}			
-			
-		}
-		catch (ClassNotFoundException | InstantiationException | IllegalAccessException e) 
+			result = ClassUtils.forName(handlerName, classLoader);
+			logger.debug("Successfully loaded handler class: " + handlerName);
+		} 
+		catch (ClassNotFoundException e) 
 		{
 			// Allow processing to continue with a warning, skipping this handler
 			logger.warn("Unable to process specified handler class [" + handlerName + "].", e);
+		}
+		
+		return result;
+	}
+	
+	private static Object createHandler(Class<?> handlerClass)
+	{
+		Object result = null;
+		try
+		{
+			result = handlerClass.newInstance();
+			logger.debug("Successfully created instance of handler class: " + handlerClass.getName());
+		}
+		catch (InstantiationException | IllegalAccessException e) 
+		{
+			// Allow processing to continue with a warning, skipping this handler
+			logger.warn("Unable to process specified handler class [" + handlerClass.getName() + "].", e);
 		} 
 		
 		return result;
 	}
+	
+	/**
+	 * The handler classes configured for a single class loader.  The classes are only weakly referenced, since
+	 * they may have been loaded by the class loader that keys the registry; otherwise the registry would keep that
+	 * class loader from ever being collected.
+	 * 
+	 * @author Kevin Fox
+	 *
+	 */
+	private static class HandlerRegistry
+	{
+		private final List<HandlerMapping> handlerMappings = new ArrayList<>();
+		
+		private final Map<Class<?>, List<HandlerMapping>> handlerMappingsByType = new WeakHashMap<>();
+		
+		public HandlerRegistry(Properties handlerNames, ClassLoader classLoader)
+		{
+			for (Entry<Class<? extends Annotation>, Class<?>> entry : resolveHandlerClasses(handlerNames, classLoader).entrySet())
+			{
+				handlerMappings.add(new HandlerMapping(entry.getKey(), entry.getValue()));
+			}
+		}
+		
+		@SuppressWarnings("unchecked")
+		public <T> Map<Class<? extends Annotation>, T> getHandlers(Class<T> handlerType)
+		{
+			Map<Class<? extends Annotation>, T> result = new HashMap<>();
+			
+			for (HandlerMapping mapping : getHandlerMappings(handlerType))
+			{
+				Class<? extends Annotation> annotationClass = mapping.annotationClass.get();
+				Class<?> handlerClass = mapping.handlerClass.get();
+				
+				// Both classes remain reachable for as long as the class loader that keys this registry
+				if (annotationClass != null && handlerClass != null)
+				{
+					T handler = (T) createHandler(handlerClass);
+					if (handler != null)
+					{
+						result.put(annotationClass, handler);
+						logger.debug("Added handler to result list [" + annotationClass.getName() + ", " + handlerClass.getName() + "]");
+					}
+				}
+			}
+			
+			return result;
+		}
+		
+		private synchronized List<HandlerMapping> getHandlerMappings(Class<?> handlerType)
+		{
+			List<HandlerMapping> result = handlerMappingsByType.get(handlerType);
+			
+			if (result == null)
+			{
+				result = new ArrayList<>();
+				for (HandlerMapping mapping : handlerMappings)
+				{
+					// Check if it is of the desired type
+					Class<?> handlerClass = mapping.handlerClass.get();
+					if (handlerClass != null && handlerType.isAssignableFrom(handlerClass))
+					{
+						result.add(mapping);
+					}
+				}
+				
+				handlerMappingsByType.put(handlerType, result);
+			}
+			
+			return result;
+		}
+	}
+	
+	/**
+	 * A weakly-referenced mapping from an annotation class to its handler class.
+	 * 
+	 * @author Kevin Fox
+	 *
+	 */
+	private static class HandlerMapping
+	{
+		private final WeakReference<Class<? extends Annotation>> annotationClass;
+		
+		private final WeakReference<Class<?>> handlerClass;
+		
+		public HandlerMapping(Class<? extends Annotation> annotationClass, Class<?> handlerClass)
+		{
+			this.annotationClass = new WeakReference<Class<? extends Annotation>>(annotationClass);
+			this.handlerClass = new WeakReference<Class<?>>(handlerClass);
+		}
+	}
 }
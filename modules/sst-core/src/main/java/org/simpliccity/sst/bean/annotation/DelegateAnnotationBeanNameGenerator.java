@@ -17,11 +17,18 @@
 package org.simpliccity.sst.bean.annotation;
 
 import java.lang.annotation.Annotation;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.simpliccity.sst.bean.namespace.AbstractAnnotationNamespaceBeanNameGenerator;
+import org.simpliccity.sst.config.startup.StartupPhase;
+import org.simpliccity.sst.config.startup.StartupProfiler;
 import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
@@ -46,7 +53,12 @@ import org.springframework.core.type.AnnotationMetadata;
  * {@link org.springframework.beans.factory.support.BeanNameGenerator}s.  Concrete
  * subclasses override the {@link #getDelegates()} method to specify the mapping
  * between annotation types recognized by Spring annotation scanning and the 
- * corresponding {@link org.springframework.beans.factory.support.BeanNameGenerator}s.
+ * corresponding {@link org.springframework.beans.factory.support.BeanNameGenerator}s.</p>
+ * 
+ * <p>The delegates are indexed by annotation type name, and the delegate (if any) reached through the
+ * meta-annotations of each annotation type is remembered once resolved, so the cost of selecting a 
+ * delegate for a bean depends only on the number of annotations on the bean, not on the number of 
+ * registered delegates.</p>
  * 
  * @author Kevin Fox
  * 
@@ -57,6 +69,8 @@ public abstract class DelegateAnnotationBeanNameGenerator extends AnnotationBean
 {
 	private Log logger = LogFactory.getLog(DelegateAnnotationBeanNameGenerator.class);
 	
+	private volatile DelegateIndex delegateIndex;
+	
 	/**
 	 * <p>Generate a bean name for the given bean definition.</p>
 	 * 
@@ -79,14 +93,26 @@ public abstract class DelegateAnnotationBeanNameGenerator extends AnnotationBean
 		if (delegateGenerator != null)
 		{
 			logger.debug("Generating bean name using delegate name generator: " + delegateGenerator.getClass().getName());
-			result = delegateGenerator.generateBeanName(definition, registry);
+			if (delegateGenerator instanceof AbstractAnnotationNamespaceBeanNameGenerator)
+			{
+				// Namespace name generators record their own timings
+				result = delegateGenerator.generateBeanName(definition, registry);
+			}
+			else
+			{
+				long start = StartupProfiler.start();
+				result = delegateGenerator.generateBeanName(definition, registry);
+				StartupProfiler.record(StartupPhase.BEAN_NAME_GENERATION, delegateGenerator.getClass(), start);
+			}
 		}
 		
 		// If name is still null, default to the behavior of AnnotationBeanNameGenerator
 		if (result == null)
 		{
 			logger.debug("Generating bean name using default.");
+			long start = StartupProfiler.start();
 			result = super.generateBeanName(definition, registry);
+			StartupProfiler.record(StartupPhase.BEAN_NAME_GENERATION, AnnotationBeanNameGenerator.class, start);
 		}
 
 		return result;
@@ -109,17 +135,107 @@ public abstract class DelegateAnnotationBeanNameGenerator extends AnnotationBean
 			AnnotationMetadata annotationMetadata = ((AnnotatedBeanDefinition) definition).getMetadata();
 			
 			// Look for an annotation on the bean that matches a known delegate
+			result = getDelegateIndex(delegates).getDelegate(annotationMetadata);
+		}
+		
+		return result;
+	}
+	
+	private DelegateIndex getDelegateIndex(Map<Class<? extends Annotation>, BeanNameGenerator> delegates)
+	{
+		DelegateIndex index = delegateIndex;
+		
+		// Rebuild the index if the delegates have been replaced
+		if (index == null || index.delegates != delegates)
+		{
+			index = new DelegateIndex(delegates);
+			delegateIndex = index;
+		}
+		
+		return index;
+	}
+	
+	/**
+	 * An index of the delegate name generators keyed by the name of the corresponding annotation type.
+	 * 
+	 * @author Kevin Fox
+	 *
+	 */
+	private static class DelegateIndex
+	{
+		// Marks an annotation type whose meta-annotations do not match any delegate
+		private static final String NO_DELEGATE = "";
+		
+		private final Map<Class<? extends Annotation>, BeanNameGenerator> delegates;
+		
+		private final Map<String, BeanNameGenerator> generators = new HashMap<>();
+		
+		private final ConcurrentMap<String, String> metaAnnotationDelegates = new ConcurrentHashMap<>();
+		
+		public DelegateIndex(Map<Class<? extends Annotation>, BeanNameGenerator> delegates)
+		{
+			this.delegates = delegates;
+			
 			for (Entry<Class<? extends Annotation>, BeanNameGenerator> entry : delegates.entrySet())
 			{
-				if (annotationMetadata.isAnnotated(entry.getKey().getName()))
+				generators.put(entry.getKey().getName(), entry.getValue());
+			}
+		}
+		
+		public BeanNameGenerator getDelegate(AnnotationMetadata annotationMetadata)
+		{
+			BeanNameGenerator result = null;
+			
+			Set<String> annotationTypes = annotationMetadata.getAnnotationTypes();
+			
+			// Annotations applied directly to the bean take precedence...
+			for (String annotationType : annotationTypes)
+			{
+				result = generators.get(annotationType);
+				if (result != null)
 				{
-					result = entry.getValue();
-					// Return delegate for first matching annotation
 					break;
 				}
 			}
+			
+			// ... over those reached through meta-annotations
+			if (result == null)
+			{
+				for (String annotationType : annotationTypes)
+				{
+					String delegateType = getMetaAnnotationDelegate(annotationMetadata, annotationType);
+					if (!NO_DELEGATE.equals(delegateType))
+					{
+						result = generators.get(delegateType);
+						break;
+					}
+				}
+			}
+			
+			return result;
 		}
 		
-		return result;
-	}	
+		private String getMetaAnnotationDelegate(AnnotationMetadata annotationMetadata, String annotationType)
+		{
+			String result = metaAnnotationDelegates.get(annotationType);
+			
+			if (result == null)
+			{
+				// The meta-annotations of a type are the same wherever it is used, so resolve them only once
+				result = NO_DELEGATE;
+				for (String metaAnnotationType : annotationMetadata.getMetaAnnotationTypes(annotationType))
+				{
+					if (generators.containsKey(metaAnnotationType))
+					{
+						result = metaAnnotationType;
+						break;
+					}
+				}
+				
+				metaAnnotationDelegates.putIfAbsent(annotationType, result);
+			}
+			
+			return result;
+		}
+	}
 }
@@ -0,0 +1,157 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.bean.lookup;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of the metadata held by a {@link BeanMetadataLookupContainer}, suitable for use as the key
+ * of a cache of lookup results.  Two keys are equal if they were created from containers of the same class with the
+ * same discriminator and equal metadata attributes.  The hash code is computed once, when the key is created, so
+ * probing a cache with a key costs no more than comparing its attributes.  A key used only to probe a cache (see
+ * {@link #probe(BeanMetadataLookupContainer)}) refers to the metadata returned by the container without copying it, 
+ * and is only {@link #snapshot() copied} when it is stored.
+ * 
+ * <p>Metadata attribute values are expected to be immutable and to implement <code>equals</code> and
+ * <code>hashCode</code> (as strings and classes do).</p>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see BeanMetadataLookupManager
+ *
+ */
+public final class BeanMetadataLookupKey 
+{
+	private final Class<?> containerClass;
+	private final Class<?> discriminator;
+	private final Map<String, Object> attributes;
+	private final int hash;
+	private final boolean snapshot;
+	
+	/**
+	 * Creates a new key from the current metadata of the specified container.
+	 * 
+	 * @param container A wrapper class for the metadata specifying the desired bean.
+	 */
+	public BeanMetadataLookupKey(BeanMetadataLookupContainer<?> container)
+	{
+		this(container.getClass(), container.getLookupDiscriminator(), copyAttributes(container.getMetadataAttributes()), true);
+	}
+	
+	private BeanMetadataLookupKey(Class<?> containerClass, Class<?> discriminator, Map<String, Object> attributes, boolean snapshot)
+	{
+		this.containerClass = containerClass;
+		this.discriminator = discriminator;
+		this.attributes = attributes;
+		this.snapshot = snapshot;
+		
+		int result = containerClass.hashCode();
+		result = 31 * result + ((discriminator == null) ? 0 : discriminator.hashCode());
+		result = 31 * result + attributes.hashCode();
+		this.hash = result;
+	}
+	
+	/**
+	 * Creates a key that refers to the metadata of the specified container without copying it.  The key is only
+	 * suitable for probing a cache while the metadata is not modified; use {@link #snapshot()} to obtain a key
+	 * that can be stored.
+	 * 
+	 * @param container A wrapper class for the metadata specifying the desired bean.
+	 * @return A key for the current metadata of the container.
+	 */
+	static BeanMetadataLookupKey probe(BeanMetadataLookupContainer<?> container)
+	{
+		Map<String, Object> metadata = container.getMetadataAttributes();
+		return new BeanMetadataLookupKey(container.getClass(), container.getLookupDiscriminator(), (metadata == null) ? Collections.<String, Object>emptyMap() : metadata, false);
+	}
+	
+	/**
+	 * Returns a key, equal to this one, whose metadata attributes are an immutable copy.
+	 * 
+	 * @return This key, if it was created with {@link #BeanMetadataLookupKey(BeanMetadataLookupContainer)}; a copy
+	 * of it otherwise.
+	 */
+	BeanMetadataLookupKey snapshot()
+	{
+		return snapshot ? this : new BeanMetadataLookupKey(containerClass, discriminator, copyAttributes(attributes), true);
+	}
+	
+	/**
+	 * Returns the class that is the discriminator for the lookup.
+	 * 
+	 * @return The lookup discriminator.
+	 * 
+	 * @see BeanMetadataLookupContainer#getLookupDiscriminator()
+	 */
+	public Class<?> getDiscriminator()
+	{
+		return discriminator;
+	}
+	
+	/**
+	 * Returns the metadata attributes captured by this key.
+	 * 
+	 * @return The metadata attributes; an unmodifiable copy unless this key was created by 
+	 * {@link #probe(BeanMetadataLookupContainer)}.
+	 */
+	public Map<String, Object> getAttributes()
+	{
+		return attributes;
+	}
+
+	@Override
+	public int hashCode() 
+	{
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object obj) 
+	{
+		boolean result;
+		
+		if (this == obj)
+		{
+			result = true;
+		}
+		else if (obj instanceof BeanMetadataLookupKey)
+		{
+			BeanMetadataLookupKey other = (BeanMetadataLookupKey) obj;
+			result = hash == other.hash && containerClass == other.containerClass && discriminator == other.discriminator && attributes.equals(other.attributes);
+		}
+		else
+		{
+			result = false;
+		}
+		
+		return result;
+	}
+
+	private static Map<String, Object> copyAttributes(Map<String, Object> metadata)
+	{
+		return (metadata == null) ? Collections.<String, Object>emptyMap() : Collections.unmodifiableMap(new HashMap<>(metadata));
+	}
+
+	@Override
+	public String toString() 
+	{
+		return "BeanMetadataLookupKey [discriminator=" + discriminator + ", attributes=" + attributes + "]";
+	}
+}
@@ -16,11 +16,18 @@
 
 package org.simpliccity.sst.bean.lookup;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ApplicationContextEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
 
 /**
  * <p>Main controller for the <code>lookup</code> framework.  Manages the process of locating a bean in
@@ -54,6 +61,12 @@ import org.springframework.context.ApplicationContextAware;
  *  	private BeanMetadataLookupManager lookupManager;
  *  </pre>
  * 
+ * <p>When the configured strategy implements {@link CacheableBeanMetadataLookupStrategy}, the results of lookups
+ * that the strategy reports as cacheable (e.g. lookups of singleton beans) are cached, keyed by an immutable
+ * {@link BeanMetadataLookupKey}, so that repeated lookups with the same metadata need neither generate a bean name
+ * nor query the application context.  The cache is invalidated whenever an application context is refreshed or 
+ * closed.</p>
+ * 
  * @author Kevin Fox
  * @since 0.3.0
  * 
@@ -61,12 +74,24 @@ import org.springframework.context.ApplicationContextAware;
  * @see org.simpliccity.sst.bean.lookup.namespace.MappedNameBeanMetadataLookupStrategy
  *
  */
-public class BeanMetadataLookupManager implements ApplicationContextAware 
+public class BeanMetadataLookupManager implements ApplicationContextAware, ApplicationListener<ApplicationContextEvent> 
 {
+	/**
+	 * The default maximum number of cached lookup results (<b>Default</b>: {@value}).
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 4096;
+	
+	// Placeholder for a cached lookup that found no bean
+	private static final Object NO_BEAN = new Object();
+	
 	private Log logger = LogFactory.getLog(this.getClass());
 	
 	private ApplicationContext context;	
 	private BeanMetadataLookupStrategy lookupStrategy;
+	
+	private boolean cacheLookups = true;
+	private int cacheSize = DEFAULT_CACHE_SIZE;
+	private ConcurrentMap<BeanMetadataLookupKey, Object> lookupCache = new ConcurrentHashMap<>();
 
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException 
@@ -102,6 +127,92 @@ public class BeanMetadataLookupManager implements ApplicationContextAware
 	public void setLookupStrategy(BeanMetadataLookupStrategy strategy) 
 	{
 		this.lookupStrategy = strategy;
+		clearCache();
+	}
+
+	/**
+	 * Indicates whether the results of cacheable lookups are cached.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return <code>true</code> if lookup results are cached; <code>false</code> otherwise.
+	 */
+	public boolean isCacheLookups() 
+	{
+		return cacheLookups;
+	}
+
+	/**
+	 * Specifies whether the results of cacheable lookups are cached.  Lookups are only cached when the configured
+	 * strategy implements {@link CacheableBeanMetadataLookupStrategy}.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param cacheLookups <code>true</code> to cache lookup results; <code>false</code> otherwise.
+	 */
+	public void setCacheLookups(boolean cacheLookups) 
+	{
+		this.cacheLookups = cacheLookups;
+		clearCache();
+	}
+
+	/**
+	 * Returns the maximum number of cached lookup results.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return The maximum size of the lookup cache.
+	 */
+	public int getCacheSize() 
+	{
+		return cacheSize;
+	}
+
+	/**
+	 * Specifies the maximum number of cached lookup results.  When the limit is reached, the cache is cleared
+	 * and starts over.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param cacheSize The maximum size of the lookup cache.
+	 */
+	public void setCacheSize(int cacheSize) 
+	{
+		this.cacheSize = cacheSize;
+		clearCache();
+	}
+	
+	/**
+	 * Discards all cached lookup results, along with any information cached by the lookup strategy.
+	 * 
+	 * @since 1.0.0
+	 */
+	public void clearCache()
+	{
+		lookupCache.clear();
+		
+		if (lookupStrategy instanceof CacheableBeanMetadataLookupStrategy)
+		{
+			((CacheableBeanMetadataLookupStrategy) lookupStrategy).clearCache();
+		}
+	}
+
+	/**
+	 * Invalidates the lookup cache when an application context is refreshed or closed, since the beans 
+	 * available for lookup may have changed.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param event The application context event.
+	 */
+	@Override
+	public void onApplicationEvent(ApplicationContextEvent event) 
+	{
+		if (event instanceof ContextRefreshedEvent || event instanceof ContextClosedEvent)
+		{
+			logger.debug("Invalidating bean metadata lookup cache.");
+			clearCache();
+		}
 	}
 
 	/**
@@ -115,6 +226,44 @@ public class BeanMetadataLookupManager implements ApplicationContextAware
 	 * found; <code>null</code> otherwise.
 	 */
 	public <T> Object lookupBeanByMetadata(BeanMetadataLookupContainer<T> container)
+	{
+		Object result;
+		
+		if (isCacheLookups() && getLookupStrategy() instanceof CacheableBeanMetadataLookupStrategy)
+		{
+			// Probe with the container's metadata as is; it is only copied if the result is cached
+			BeanMetadataLookupKey key = BeanMetadataLookupKey.probe(container);
+			
+			Object cached = lookupCache.get(key);
+			if (cached == null)
+			{
+				result = performLookup(container);
+				
+				// Only cache results that the strategy reports will not change until the context is refreshed
+				if (((CacheableBeanMetadataLookupStrategy) getLookupStrategy()).isCacheable(getApplicationContext(), container))
+				{
+					if (lookupCache.size() >= cacheSize)
+					{
+						lookupCache.clear();
+					}
+					
+					lookupCache.put(key.snapshot(), (result == null) ? NO_BEAN : result);
+				}
+			}
+			else
+			{
+				result = (cached == NO_BEAN) ? null : cached;
+			}
+		}
+		else
+		{
+			result = performLookup(container);
+		}
+		
+		return result;
+	}
+	
+	private <T> Object performLookup(BeanMetadataLookupContainer<T> container)
 	{
 		Object result = null;
 		
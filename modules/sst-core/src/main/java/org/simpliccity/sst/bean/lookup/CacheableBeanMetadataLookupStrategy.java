@@ -0,0 +1,50 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.bean.lookup;
+
+import org.springframework.beans.factory.BeanFactory;
+
+/**
+ * An extension of {@link BeanMetadataLookupStrategy} for strategies that can tell whether the result of a lookup
+ * may be reused.  The {@link BeanMetadataLookupManager} only caches the results of lookups performed by a strategy 
+ * that implements this interface.
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see BeanMetadataLookupManager#setCacheLookups(boolean)
+ *
+ */
+public interface CacheableBeanMetadataLookupStrategy extends BeanMetadataLookupStrategy
+{
+	/**
+	 * Determines whether every lookup with the specified metadata returns the same result until the bean factory
+	 * is refreshed; for example, because the matching bean is a singleton or because there is no matching bean.
+	 * 
+	 * @param factory The bean factory searched for the desired bean.
+	 * @param container A wrapper class for the metadata specifying the desired bean.
+	 * @param <T> The class to which the container applies.
+	 * @return <code>true</code> if the result of the lookup may be cached; <code>false</code> otherwise.
+	 */
+	<T> boolean isCacheable(BeanFactory factory, BeanMetadataLookupContainer<T> container);
+	
+	/**
+	 * Discards any information cached by the strategy itself.  Called by the {@link BeanMetadataLookupManager}
+	 * whenever its own cache is invalidated.
+	 */
+	void clearCache();
+}
@@ -110,22 +110,14 @@ public class DynamicTypedComponentAnnotationNamespaceBeanNameGenerator extends A
 	}
 
 	@Override
-	protected String postProcessName(String baseName, String... nameComponents)
+	protected void appendNameSuffix(StringBuilder name, String... nameComponents)
 	{
-		// Initialize a StringBuffer from the generated name
-		StringBuilder result = new StringBuilder(baseName);
-		
 		// Append the metadata attributes to the name (skipping the first name component, which is the type)
-		for (int i = 0; i < nameComponents.length; i++)
+		for (int i = 1; i < nameComponents.length; i++)
 		{
-			if (i > 0)
-			{
-				result.append(".<");
-				result.append(nameComponents[i]);
-				result.append(">");
-			}
+			name.append(".<");
+			name.append(nameComponents[i]);
+			name.append('>');
 		}
-		
-		return result.toString();
 	}
 }
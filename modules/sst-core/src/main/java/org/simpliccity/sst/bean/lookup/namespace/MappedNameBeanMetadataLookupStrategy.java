@@ -17,7 +17,11 @@
 package org.simpliccity.sst.bean.lookup.namespace;
 
 import java.lang.annotation.Annotation;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -25,6 +29,7 @@ import org.simpliccity.sst.bean.annotation.AnnotationHandlerUtils;
 import org.simpliccity.sst.bean.lookup.BeanMetadataLookupContainer;
 import org.simpliccity.sst.bean.lookup.BeanMetadataLookupException;
 import org.simpliccity.sst.bean.lookup.BeanMetadataLookupStrategy;
+import org.simpliccity.sst.bean.lookup.CacheableBeanMetadataLookupStrategy;
 import org.simpliccity.sst.bean.lookup.annotation.DynamicTypedComponent;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
@@ -40,6 +45,14 @@ import org.springframework.beans.factory.BeanFactory;
  * {@link org.simpliccity.sst.bean.annotation.AnnotationHandlerUtils} is used to load the available {@link BeanMetadataLookupNameMapper}
  * instances for supported annotation types.</p>
  * 
+ * <p>A lookup for which no bean of the mapped name exists returns <code>null</code> without raising an exception.
+ * The names found to be missing are remembered separately for each bean factory, up to the 
+ * {@link #setNegativeCacheSize(int) negative cache size}, so that repeated lookups of the same missing bean cost a 
+ * single hash probe, even when the strategy is shared by a parent context and its children.  Since the cache assumes that no beans are
+ * added to the bean factory after it has been refreshed, it should be {@link #clearNegativeCache() cleared} if beans
+ * are registered dynamically.  The {@link org.simpliccity.sst.bean.lookup.BeanMetadataLookupManager} clears it whenever
+ * the application context is refreshed.</p>
+ * 
  * @author Kevin Fox
  * @since 0.3.0
  * 
@@ -50,12 +63,21 @@ import org.springframework.beans.factory.BeanFactory;
  * @see org.simpliccity.sst.bean.lookup.annotation.DynamicTypedComponent
  *
  */
-public class MappedNameBeanMetadataLookupStrategy implements BeanMetadataLookupStrategy
+public class MappedNameBeanMetadataLookupStrategy implements CacheableBeanMetadataLookupStrategy
 {
+	/**
+	 * The default maximum number of missing bean names remembered (<b>Default</b>: {@value}).
+	 */
+	public static final int DEFAULT_NEGATIVE_CACHE_SIZE = 1024;
+	
 	private Log logger = LogFactory.getLog(this.getClass());
 	
 	private Map<Class<? extends Annotation>, BeanMetadataLookupNameMapper> annotationMappers ;
 	
+	private int negativeCacheSize = DEFAULT_NEGATIVE_CACHE_SIZE;
+	
+	private Map<BeanFactory, Set<String>> negativeCaches = Collections.synchronizedMap(new WeakHashMap<BeanFactory, Set<String>>());
+	
 	/**
 	 * Creates and initializes a new instance of <code>MappedNameBeanMetadataLookupStrategy</code>.
 	 */
@@ -67,6 +89,74 @@ public class MappedNameBeanMetadataLookupStrategy implements BeanMetadataLookupS
 		logger.debug("Succesfully loaded name mapper mappings [" + annotationMappers.size() + "]");
 	}
 	
+	/**
+	 * Returns the maximum number of missing bean names remembered by this strategy for each bean factory.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return The maximum size of the negative cache; <code>0</code> if the cache is disabled.
+	 */
+	public int getNegativeCacheSize() 
+	{
+		return negativeCacheSize;
+	}
+
+	/**
+	 * Specifies the maximum number of missing bean names remembered by this strategy for each bean factory.  When 
+	 * the limit is reached, the cache for the factory is cleared and starts over.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param negativeCacheSize The maximum size of the negative cache; <code>0</code> to disable the cache.
+	 */
+	public void setNegativeCacheSize(int negativeCacheSize) 
+	{
+		this.negativeCacheSize = negativeCacheSize;
+		clearNegativeCache();
+	}
+	
+	/**
+	 * Discards all of the missing bean names remembered by this strategy, for every bean factory.  This is necessary
+	 * if beans are added to a bean factory after lookups have been performed.
+	 * 
+	 * @since 1.0.0
+	 */
+	public void clearNegativeCache()
+	{
+		negativeCaches.clear();
+	}
+
+	@Override
+	public <T> boolean isCacheable(BeanFactory factory, BeanMetadataLookupContainer<T> container) 
+	{
+		boolean result;
+		
+		try
+		{
+			@SuppressWarnings("unchecked")
+			Class<? extends Annotation> mapperKey = container.isAnnotatedLookup() ? (Class<? extends Annotation>) container.getLookupDiscriminator() : DynamicTypedComponent.class;
+			String beanName = generateLookupName(mapperKey, container);
+			
+			// A bean found to be missing by the preceding lookup is answered by the negative cache
+			boolean exists = containsBean(factory, beanName);
+			
+			// The result of looking up a missing bean or a singleton does not change until the factory is refreshed
+			result = !exists || factory.isSingleton(beanName);
+		}
+		catch (BeanMetadataLookupException | BeansException e)
+		{
+			result = false;
+		}
+		
+		return result;
+	}
+
+	@Override
+	public void clearCache() 
+	{
+		clearNegativeCache();
+	}
+
 	@Override
 	public <T> Object getAnnotatedBean(BeanFactory factory,	BeanMetadataLookupContainer<T> container) throws BeanMetadataLookupException 
 	{
@@ -76,14 +166,17 @@ public class MappedNameBeanMetadataLookupStrategy implements BeanMetadataLookupS
 		
 		// Get the bean from the bean factory
 		Object result = null;
-		try
+		if (containsBean(factory, beanName))
 		{
-			result = factory.getBean(beanName);
-			logger.debug("Retrieved the named bean [" + beanName + "] from the bean factory.");
-		}
-		catch (BeansException e)
-		{
-			throw new BeanMetadataLookupException("Unable to retrieve the named bean [" + beanName + "] from the bean factory.", e);
+			try
+			{
+				result = factory.getBean(beanName);
+				logger.debug("Retrieved the named bean [" + beanName + "] from the bean factory.");
+			}
+			catch (BeansException e)
+			{
+				throw new BeanMetadataLookupException("Unable to retrieve the named bean [" + beanName + "] from the bean factory.", e);
+			}
 		}
 		
 		return result;
@@ -97,19 +190,81 @@ public class MappedNameBeanMetadataLookupStrategy implements BeanMetadataLookupS
 		
 		// Get the typed bean from the bean factory
 		T result = null;
-		try
+		if (containsBean(factory, beanName))
+		{
+			try
+			{
+				result = factory.getBean(beanName, container.getLookupDiscriminator());
+				logger.debug("Retrieved the named bean [" + beanName + "] from the bean factory.");
+			}
+			catch (BeansException e)
+			{
+				throw new BeanMetadataLookupException("Unable to retrieve the named bean [" + beanName + "] from the bean factory.", e);
+			}
+		}
+
+		return result;
+	}
+	
+	private boolean containsBean(BeanFactory factory, String beanName)
+	{
+		boolean result;
+		
+		Set<String> negativeCache = negativeCaches.get(factory);
+		if (negativeCache != null && negativeCache.contains(beanName))
 		{
-			result = factory.getBean(beanName, container.getLookupDiscriminator());
-			logger.debug("Retrieved the named bean [" + beanName + "] from the bean factory.");
+			// A known miss costs a single hash probe
+			result = false;
 		}
-		catch (BeansException e)
+		else
 		{
-			throw new BeanMetadataLookupException("Unable to retrieve the named bean [" + beanName + "] from the bean factory.", e);
+			// Check for the bean by name, since a failed retrieval would construct (and discard) an exception
+			result = factory.containsBean(beanName);
+			if (!result)
+			{
+				if (logger.isDebugEnabled())
+				{
+					logger.debug("No bean named [" + beanName + "] exists in the bean factory.");
+				}
+				
+				rememberMissingBean(factory, beanName);
+			}
 		}
-
+		
 		return result;
 	}
 	
+	private void rememberMissingBean(BeanFactory factory, String beanName)
+	{
+		if (negativeCacheSize > 0)
+		{
+			Set<String> negativeCache = getNegativeCache(factory);
+			
+			// Start over, rather than tracking usage, when the cache is full
+			if (negativeCache.size() >= negativeCacheSize)
+			{
+				negativeCache.clear();
+			}
+			
+			negativeCache.add(beanName);
+		}
+	}
+	
+	private Set<String> getNegativeCache(BeanFactory factory)
+	{
+		synchronized (negativeCaches)
+		{
+			Set<String> result = negativeCaches.get(factory);
+			if (result == null)
+			{
+				result = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+				negativeCaches.put(factory, result);
+			}
+			
+			return result;
+		}
+	}
+	
 	private <T> String generateLookupName(Class<? extends Annotation> mapperKey, BeanMetadataLookupContainer<T> container) throws BeanMetadataLookupException
 	{
 		BeanMetadataLookupNameMapper mapper = annotationMappers.get(mapperKey);		
@@ -20,6 +20,8 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.simpliccity.sst.bean.BeanNameGeneratorListener;
 import org.simpliccity.sst.bean.annotation.AnnotationBeanNameGeneratorEvent;
+import org.simpliccity.sst.config.startup.StartupPhase;
+import org.simpliccity.sst.config.startup.StartupProfiler;
 import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
@@ -28,6 +30,10 @@ import org.springframework.core.type.AnnotationMetadata;
 /**
  * <p>Provides base functionality needed to support bean naming for Spring annotation scanning.</p>
  * 
+ * <p>Each call to {@link #generateBeanName(BeanDefinition, BeanDefinitionRegistry)} is recorded by the
+ * {@link StartupProfiler} under {@link StartupPhase#BEAN_NAME_GENERATION}, whether the generator is used 
+ * directly by annotation scanning or through a {@link org.simpliccity.sst.bean.annotation.DelegateAnnotationBeanNameGenerator}.</p>
+ * 
  * @author Michael Clark
  * @since 0.3.0
  *
@@ -39,6 +45,7 @@ public abstract class AbstractAnnotationNamespaceBeanNameGenerator extends Abstr
 	@Override
 	public String generateBeanName(BeanDefinition definition, BeanDefinitionRegistry registry)
 	{
+		long start = StartupProfiler.start();
 		String result = null;
 		
 		// Check to see whether this bean definition has an appropriate annotation and is supported by this name generator
@@ -67,6 +74,8 @@ public abstract class AbstractAnnotationNamespaceBeanNameGenerator extends Abstr
 			}
 		}
 		
+		StartupProfiler.record(StartupPhase.BEAN_NAME_GENERATION, getClass(), start);
+		
 		return result;
 	}
 
@@ -16,32 +16,78 @@
 
 package org.simpliccity.sst.bean.namespace;
 
-import java.text.MessageFormat;
-
 /**
  * <p>An abstract implementation of {@link NamespaceBeanNameGenerator} based on 
  * {@link java.text.MessageFormat MessageFormat}.  The name pattern must follow
  * the formatting rules for a {@link java.text.MessageFormat MessageFormat} pattern.</p>
  * 
+ * <p>The pattern is compiled into a {@link NamespaceNameTemplate} the first time a name is generated, so
+ * generating a name does not require the pattern to be parsed again.  Each name is rendered into a buffer
+ * reused by the current thread.</p>
+ * 
  * @author Kevin Fox
  * @since 0.3.0
  *
  */
 public abstract class AbstractPatternNamespaceBeanNameGenerator implements NamespaceBeanNameGenerator
 {
+	// Buffers larger than this are not kept for reuse
+	private static final int MAX_BUFFER_CAPACITY = 1024;
+	
+	private static final ThreadLocal<StringBuilder> BUFFER = new ThreadLocal<StringBuilder>()
+	{
+		@Override protected StringBuilder initialValue()
+		{
+			return new StringBuilder(128);
+		}
+	};
+	
+	private volatile NamespaceNameTemplate nameTemplate;
 
 	/**
-	 * Generates a bean name using {@link java.text.MessageFormat#format(String, Object...)} according
-	 * to the format pattern returned by {@link #getNamespaceNamePattern()}.  Arguments are passed 
-	 * directly to {@link java.text.MessageFormat#format(String, Object...)} in the order received.
+	 * Generates a bean name according to the format pattern returned by {@link #getNamespaceNamePattern()}.  
+	 * The result is the same as that of {@link java.text.MessageFormat#format(String, Object...)}, with the
+	 * arguments passed in the order received, followed by any suffix added by {@link #appendNameSuffix(StringBuilder, String...)}.
 	 */
 	@Override
 	public String generateQualifiedName(String... nameComponents)
 	{
-		String baseName =  MessageFormat.format(getNamespaceNamePattern(), (Object[]) nameComponents);
+		StringBuilder buffer = BUFFER.get();
+		buffer.setLength(0);
+		
+		getNameTemplate().render(buffer, nameComponents);
+		appendNameSuffix(buffer, nameComponents);
+		String baseName = buffer.toString();
+		
+		if (buffer.capacity() > MAX_BUFFER_CAPACITY)
+		{
+			BUFFER.remove();
+		}
 		
 		return postProcessName(baseName, nameComponents);
 	}
+	
+	/**
+	 * Returns the compiled form of the pattern returned by {@link #getNamespaceNamePattern()}.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return The name template for the namespace.
+	 */
+	protected NamespaceNameTemplate getNameTemplate()
+	{
+		NamespaceNameTemplate result = nameTemplate;
+		
+		// Compile the pattern on first use (or if it has changed); a race only results in redundant compilation
+		String pattern = getNamespaceNamePattern();
+		if (result == null || !result.getPattern().equals(pattern))
+		{
+			result = NamespaceNameTemplate.compile(pattern);
+			nameTemplate = result;
+		}
+		
+		return result;
+	}
 
 	/**
 	 * Specifies the pattern used to generate names for beans in the namespace.
@@ -52,6 +98,21 @@ public abstract class AbstractPatternNamespaceBeanNameGenerator implements Names
 	 */
 	protected abstract String getNamespaceNamePattern();
 	
+	/**
+	 * Allows a suffix to be appended to the name rendered from the naming pattern, directly in the buffer 
+	 * used to generate the name.  Subclasses that extend the name with additional components should override
+	 * this method rather than {@link #postProcessName(String, String...)}, to avoid copying the name.
+	 * 
+	 * @param name The buffer holding the name rendered from the namespace pattern.
+	 * @param nameComponents The original name components.
+	 * 
+	 * @since 1.0.0
+	 */
+	protected void appendNameSuffix(StringBuilder name, String... nameComponents)
+	{
+		// No suffix by default
+	}
+	
 	/**
 	 * Allows additional processing of the name after the base name has been generated using the 
 	 * specified naming pattern.  Subclasses can override this method to implement custom post
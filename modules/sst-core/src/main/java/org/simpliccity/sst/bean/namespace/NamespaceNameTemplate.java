@@ -0,0 +1,259 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.bean.namespace;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>A namespace name pattern compiled, once, into an alternating list of literal segments and argument references, 
+ * so that a name can be rendered by simply appending its segments and components in order.  Patterns follow the
+ * formatting rules for a {@link MessageFormat} pattern, and rendering a name with a template produces the same result 
+ * as {@link MessageFormat#format(String, Object...)} with string arguments.</p>
+ * 
+ * <p>Only plain argument references (e.g. <code>{0}</code>) are compiled.  A pattern that uses format types or 
+ * styles (e.g. <code>{0,number}</code>) is rendered with {@link MessageFormat} instead.</p>
+ * 
+ * <p>Templates are immutable and may be shared between threads.</p>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see AbstractPatternNamespaceBeanNameGenerator
+ *
+ */
+public final class NamespaceNameTemplate 
+{
+	private final String pattern;
+	
+	// Literal text before, between and after the argument references (one more than the number of arguments)
+	private final String[] literals;
+	
+	// Index of the argument for each reference; null if the pattern could not be compiled
+	private final int[] arguments;
+	
+	private final int literalLength;
+	
+	private NamespaceNameTemplate(String pattern, String[] literals, int[] arguments)
+	{
+		this.pattern = pattern;
+		this.literals = literals;
+		this.arguments = arguments;
+		
+		int length = 0;
+		if (literals != null)
+		{
+			for (String literal : literals)
+			{
+				length += literal.length();
+			}
+		}
+		this.literalLength = length;
+	}
+	
+	/**
+	 * Compiles a name pattern.
+	 * 
+	 * @param pattern A name pattern following the formatting rules for a {@link MessageFormat} pattern.
+	 * @return The compiled template.
+	 */
+	public static NamespaceNameTemplate compile(String pattern)
+	{
+		List<String> literals = new ArrayList<>();
+		List<Integer> arguments = new ArrayList<>();
+		
+		StringBuilder literal = new StringBuilder();
+		boolean quoted = false;
+		boolean compiled = true;
+		
+		int i = 0;
+		while (compiled && i < pattern.length())
+		{
+			char c = pattern.charAt(i);
+			
+			if (c == '\'')
+			{
+				// A doubled quote is a literal quote; a single quote starts or ends a quoted section
+				if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'')
+				{
+					literal.append(c);
+					i++;
+				}
+				else
+				{
+					quoted = !quoted;
+				}
+			}
+			else if (c == '{' && !quoted)
+			{
+				int end = pattern.indexOf('}', i);
+				int index = (end < 0) ? -1 : parseArgumentIndex(pattern.substring(i + 1, end));
+				if (index < 0)
+				{
+					// Format types, styles and malformed references are left to MessageFormat
+					compiled = false;
+				}
+				else
+				{
+					literals.add(literal.toString());
+					literal.setLength(0);
+					arguments.add(index);
+					i = end;
+				}
+			}
+			else
+			{
+				literal.append(c);
+			}
+			
+			i++;
+		}
+		
+		NamespaceNameTemplate result;
+		
+		if (compiled)
+		{
+			literals.add(literal.toString());
+			
+			int[] argumentArray = new int[arguments.size()];
+			for (int j = 0; j < argumentArray.length; j++)
+			{
+				argumentArray[j] = arguments.get(j);
+			}
+			
+			result = new NamespaceNameTemplate(pattern, literals.toArray(new String[literals.size()]), argumentArray);
+		}
+		else
+		{
+			result = new NamespaceNameTemplate(pattern, null, null);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns the pattern from which this template was compiled.
+	 * 
+	 * @return The name pattern.
+	 */
+	public String getPattern()
+	{
+		return pattern;
+	}
+	
+	/**
+	 * Indicates whether the pattern was compiled into segments or is rendered by {@link MessageFormat}.
+	 * 
+	 * @return <code>true</code> if the pattern was compiled; <code>false</code> otherwise.
+	 */
+	public boolean isCompiled()
+	{
+		return arguments != null;
+	}
+	
+	/**
+	 * Renders a name from the specified components.
+	 * 
+	 * @param nameComponents The name components, referenced by index from the pattern.
+	 * @return The rendered name.
+	 */
+	public String render(String... nameComponents)
+	{
+		StringBuilder result = new StringBuilder(estimateLength(nameComponents));
+		render(result, nameComponents);
+		
+		return result.toString();
+	}
+	
+	/**
+	 * Renders a name from the specified components, appending it to a buffer.
+	 * 
+	 * @param buffer The buffer to which the name is appended.
+	 * @param nameComponents The name components, referenced by index from the pattern.
+	 */
+	public void render(StringBuilder buffer, String... nameComponents)
+	{
+		if (isCompiled())
+		{
+			buffer.append(literals[0]);
+			for (int i = 0; i < arguments.length; i++)
+			{
+				int index = arguments[i];
+				if (nameComponents != null && index < nameComponents.length)
+				{
+					buffer.append(nameComponents[index]);
+				}
+				else
+				{
+					// Like MessageFormat, leave a reference to a missing argument in place
+					buffer.append('{').append(index).append('}');
+				}
+				
+				buffer.append(literals[i + 1]);
+			}
+		}
+		else
+		{
+			buffer.append(MessageFormat.format(pattern, (Object[]) nameComponents));
+		}
+	}
+	
+	/**
+	 * Estimates the length of a name rendered from the specified components.
+	 * 
+	 * @param nameComponents The name components.
+	 * @return The estimated length of the name.
+	 */
+	public int estimateLength(String... nameComponents)
+	{
+		int result = literalLength;
+		
+		if (nameComponents != null)
+		{
+			for (String component : nameComponents)
+			{
+				result += (component == null) ? 4 : component.length();
+			}
+		}
+		
+		return result;
+	}
+
+	@Override
+	public String toString() 
+	{
+		return "NamespaceNameTemplate [" + pattern + "]";
+	}
+	
+	private static int parseArgumentIndex(String reference)
+	{
+		int result = -1;
+		
+		if (!reference.isEmpty() && reference.length() < 10)
+		{
+			result = 0;
+			for (int i = 0; result >= 0 && i < reference.length(); i++)
+			{
+				char c = reference.charAt(i);
+				result = (c >= '0' && c <= '9') ? result * 10 + (c - '0') : -1;
+			}
+		}
+		
+		return result;
+	}
+}
@@ -21,6 +21,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import org.simpliccity.sst.config.startup.StartupPhase;
+import org.simpliccity.sst.config.startup.StartupProfiler;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.env.PropertyResolver;
 import org.springframework.core.type.AnnotatedTypeMetadata;
@@ -89,6 +91,8 @@ public final class ConfigurationAnnotationUtils
 	 */
 	public static MultiValueMap<String, Object> getResolvedAttributes(PropertyResolver resolver, AnnotatedTypeMetadata metadata, String annotationName)
 	{
+		long start = StartupProfiler.start();
+		
 		MultiValueMap<String, Object> attributes = metadata.getAllAnnotationAttributes(annotationName);
 		
 		if (attributes == null)
@@ -106,6 +110,8 @@ public final class ConfigurationAnnotationUtils
 			}	
 		}
 		
+		StartupProfiler.record(StartupPhase.PLACEHOLDER_RESOLUTION, annotationName, start);
+		
 		return attributes;
 	}
 	
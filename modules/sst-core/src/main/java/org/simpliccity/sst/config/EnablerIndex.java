@@ -0,0 +1,208 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.core.type.AnnotationMetadata;
+
+/**
+ * An index of the annotated bean definitions in a {@link BeanDefinitionRegistry}, keyed by the names
+ * of the annotations (including meta-annotations) present on each definition.  The annotation metadata
+ * of each definition is read only once, when the definition is first indexed, so that {@link IfEnabledCondition}
+ * can locate the beans marked with an "enabler" annotation with a simple lookup rather than examining
+ * every registered bean for every configuration.
+ * 
+ * <p>One index is maintained for each registry by its {@link EnablerRegistry}; the index does not retain
+ * a reference to the registry itself.  Each time the index is used, the definitions in the registry are compared
+ * by identity with those indexed: definitions registered since the index was created are added, and the index is
+ * rebuilt if any definition has been removed or replaced.</p>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see IfEnabledCondition
+ *
+ */
+final class EnablerIndex 
+{
+	private final Map<String, BeanDefinition> indexedDefinitions = new HashMap<>();
+	
+	private final Map<String, List<EnablingBean>> annotatedBeans = new HashMap<>();
+	
+	/**
+	 * Creates an empty index.  The registry is examined when the index is first used.
+	 */
+	EnablerIndex()
+	{
+		super();
+	}
+	
+	/**
+	 * Returns the beans in the registry that are marked, directly or through a meta-annotation, with the 
+	 * specified annotation.
+	 * 
+	 * @param registry The Spring bean registry for which the index is maintained.
+	 * @param annotationName The class name of the annotation.
+	 * @return The beans marked with the annotation; an empty list if there are none.
+	 */
+	public synchronized List<EnablingBean> getAnnotatedBeans(BeanDefinitionRegistry registry, String annotationName)
+	{
+		update(registry);
+		
+		List<EnablingBean> result = annotatedBeans.get(annotationName);
+		
+		return (result == null) ? Collections.<EnablingBean>emptyList() : new ArrayList<>(result);
+	}
+	
+	private void update(BeanDefinitionRegistry registry)
+	{
+		String[] names = registry.getBeanDefinitionNames();
+		
+		// Index new definitions, checking that those already indexed have not been replaced
+		boolean replaced = false;
+		for (int i = 0; i < names.length && !replaced; i++)
+		{
+			BeanDefinition bean = registry.getBeanDefinition(names[i]);
+			BeanDefinition indexed = indexedDefinitions.get(names[i]);
+			if (indexed == null)
+			{
+				indexedDefinitions.put(names[i], bean);
+				indexDefinition(names[i], bean);
+			}
+			else if (indexed != bean)
+			{
+				replaced = true;
+			}
+		}
+		
+		// Every definition in the registry is now indexed, so any others have been removed
+		if (replaced || indexedDefinitions.size() != names.length)
+		{
+			rebuild(registry);
+		}
+	}
+	
+	private void rebuild(BeanDefinitionRegistry registry)
+	{
+		indexedDefinitions.clear();
+		annotatedBeans.clear();
+		
+		for (String name : registry.getBeanDefinitionNames())
+		{
+			BeanDefinition bean = registry.getBeanDefinition(name);
+			indexedDefinitions.put(name, bean);
+			indexDefinition(name, bean);
+		}
+	}
+	
+	private void indexDefinition(String name, BeanDefinition bean)
+	{
+		// Only annotated beans can carry an "enabler" annotation
+		if (bean instanceof AnnotatedBeanDefinition)
+		{
+			AnnotationMetadata annotationMetadata = ((AnnotatedBeanDefinition) bean).getMetadata();
+			
+			EnablingBean enablingBean = new EnablingBean(name, ConfigurationAnnotationUtils.getClassName(annotationMetadata), ConfigurationAnnotationUtils.getEnablerName(annotationMetadata));
+			
+			for (String annotationType : annotationMetadata.getAnnotationTypes())
+			{
+				addAnnotatedBean(annotationType, enablingBean);
+				
+				for (String metaAnnotationType : annotationMetadata.getMetaAnnotationTypes(annotationType))
+				{
+					addAnnotatedBean(metaAnnotationType, enablingBean);
+				}
+			}
+		}
+	}
+	
+	private void addAnnotatedBean(String annotationName, EnablingBean enablingBean)
+	{
+		List<EnablingBean> beans = annotatedBeans.get(annotationName);
+		if (beans == null)
+		{
+			beans = new ArrayList<>(1);
+			annotatedBeans.put(annotationName, beans);
+		}
+		
+		// The same annotation may be reached through more than one path
+		if (beans.isEmpty() || beans.get(beans.size() - 1) != enablingBean)
+		{
+			beans.add(enablingBean);
+		}
+	}
+	
+	/**
+	 * The indexed information about a bean marked with a particular annotation.
+	 * 
+	 * @author Kevin Fox
+	 *
+	 */
+	static final class EnablingBean
+	{
+		private final String beanName;
+		
+		private final String className;
+		
+		private final String enablerName;
+		
+		private EnablingBean(String beanName, String className, String enablerName)
+		{
+			this.beanName = beanName;
+			this.className = className;
+			this.enablerName = enablerName;
+		}
+
+		/**
+		 * Returns the name under which the bean is registered.
+		 * 
+		 * @return The bean name.
+		 */
+		public String getBeanName() 
+		{
+			return beanName;
+		}
+
+		/**
+		 * Returns the class name of the bean.
+		 * 
+		 * @return The class name of the bean; "unknown" if it could not be determined from the metadata.
+		 */
+		public String getClassName() 
+		{
+			return className;
+		}
+
+		/**
+		 * Returns the name of the "enabler" annotation on which the bean itself depends.
+		 * 
+		 * @return The class name of the bean's own {@code @IfEnabled} "enabler", if any; <code>null</code>, otherwise.
+		 */
+		public String getEnablerName() 
+		{
+			return enablerName;
+		}
+	}
+}
@@ -16,13 +16,27 @@
 
 package org.simpliccity.sst.config;
 
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 
 /**
  * A cache of the configured "enabler" annotations.  This information is maintained
  * by {@link IfEnabledCondition} during the loading of the application context.
  * 
+ * <p>A separate cache is kept for each {@link BeanDefinitionRegistry}, so that application contexts 
+ * that are loaded concurrently (or that form a hierarchy) do not see each other's "enabler" annotations.
+ * An application context and its underlying bean factory share the same cache.  Each cache also holds 
+ * the {@link EnablerIndex} of the bean definitions in the registry.</p>
+ * 
  * @author Kevin Fox
  * @since 1.0.0
  * 
@@ -32,19 +46,47 @@ import java.util.Set;
  */
 public final class EnablerRegistry 
 {
-	private static Set<String> enablers = new HashSet<>();
+	private static final Map<BeanDefinitionRegistry, EnablerRegistry> REGISTRIES = Collections.synchronizedMap(new WeakHashMap<BeanDefinitionRegistry, EnablerRegistry>());
+	
+	private final Set<String> enablers = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+	
+	private final EnablerIndex index = new EnablerIndex();
 	
 	private EnablerRegistry()
 	{
 		super();
 	}
 	
+	/**
+	 * Returns the cache for the specified bean registry, creating it if necessary.
+	 * 
+	 * @param registry The Spring bean registry.
+	 * @return The cache of "enabler" annotations for the registry.
+	 */
+	public static EnablerRegistry forRegistry(BeanDefinitionRegistry registry)
+	{
+		BeanDefinitionRegistry key = getRegistryKey(registry);
+		
+		EnablerRegistry result;
+		synchronized (REGISTRIES)
+		{
+			result = REGISTRIES.get(key);
+			if (result == null)
+			{
+				result = new EnablerRegistry();
+				REGISTRIES.put(key, result);
+			}
+		}
+		
+		return result;
+	}
+	
 	/**
 	 * Adds the class name of an "enabler" annotation to the cache.
 	 * 
 	 * @param name The class name of an "enabler" annotation.
 	 */
-	public static void addEnabler(String name)
+	public void addEnabler(String name)
 	{
 		enablers.add(name);
 	}
@@ -55,18 +97,67 @@ public final class EnablerRegistry
 	 * @param name The class name of the "enabler" annotation for which to check.
 	 * @return <code>true</code> if the class name exists in the cache; <code>false</code> otherwise.
 	 */
-	public static boolean contains(String name)
+	public boolean contains(String name)
 	{
 		return enablers.contains(name);
 	}
 	
 	/**
-	 * Clears all entries from the cache.  This would be necessary if the application context is reloaded.
+	 * Returns the index of the bean definitions in the registry.
+	 * 
+	 * @return The index of the bean definitions.
+	 */
+	EnablerIndex getIndex()
+	{
+		return index;
+	}
+	
+	/**
+	 * Clears the cache associated with the specified application context.  This would be necessary if the 
+	 * application context is reloaded.
+	 * 
+	 * @param context The application context to be reset.
 	 * 
 	 * @see EnablerRegistryEventListener
 	 */
+	public static void reset(ApplicationContext context)
+	{
+		try
+		{
+			AutowireCapableBeanFactory beanFactory = context.getAutowireCapableBeanFactory();
+			if (beanFactory instanceof BeanDefinitionRegistry)
+			{
+				REGISTRIES.remove(beanFactory);
+			}
+		}
+		catch (IllegalStateException e)
+		{
+			// The bean factory is not available, so there is no cache to clear
+		}
+	}
+	
+	/**
+	 * Clears the caches for all registries.
+	 */
 	public static void reset()
 	{
-		enablers.clear();
+		REGISTRIES.clear();
+	}
+	
+	private static BeanDefinitionRegistry getRegistryKey(BeanDefinitionRegistry registry)
+	{
+		BeanDefinitionRegistry result = registry;
+		
+		// Conditions may be evaluated against either an application context or its bean factory
+		if (registry instanceof ConfigurableApplicationContext)
+		{
+			ConfigurableListableBeanFactory beanFactory = ((ConfigurableApplicationContext) registry).getBeanFactory();
+			if (beanFactory instanceof BeanDefinitionRegistry)
+			{
+				result = (BeanDefinitionRegistry) beanFactory;
+			}
+		}
+		
+		return result;
 	}
 }
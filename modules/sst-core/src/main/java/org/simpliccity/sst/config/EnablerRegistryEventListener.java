@@ -27,8 +27,8 @@ import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 /**
- * A Spring {@link EventListener} used to clear the cache of discovered "enabler" annotations whenever
- * the application context could be reinitialized.
+ * A Spring {@link EventListener} used to clear the cache of discovered "enabler" annotations (and the
+ * associated index of bean definitions) for an application context whenever it could be reinitialized.
  * 
  * @author Kevin Fox
  * @since 1.0.0
@@ -45,7 +45,7 @@ public class EnablerRegistryEventListener
 	@EventListener({ContextRefreshedEvent.class, ContextStartedEvent.class, ContextStoppedEvent.class, ContextClosedEvent.class})
 	public void resetEnablerRegistry(ApplicationContextEvent event)
 	{
-		EnablerRegistry.reset();
+		EnablerRegistry.reset(event.getApplicationContext());
 		logger.debug("Reset EnablerRegistry due to monitored application context event [" + event.getClass().getSimpleName() + "]." );
 	}
 }
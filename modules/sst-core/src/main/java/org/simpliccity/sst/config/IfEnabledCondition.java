@@ -16,18 +16,18 @@
 
 package org.simpliccity.sst.config;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
-import org.springframework.beans.factory.config.BeanDefinition;
+import org.simpliccity.sst.config.EnablerIndex.EnablingBean;
+import org.simpliccity.sst.config.startup.StartupPhase;
+import org.simpliccity.sst.config.startup.StartupProfiler;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.context.annotation.ConfigurationCondition;
 import org.springframework.core.type.AnnotatedTypeMetadata;
-import org.springframework.core.type.AnnotationMetadata;
 
 /**
  * A {@link ConfigurationCondition} that allows a configuration to be processed if some bean within the
@@ -51,6 +51,11 @@ import org.springframework.core.type.AnnotationMetadata;
  * public class MyConfiguration {
  * </pre>
  * 
+ * <p>The "enabler" annotations found are cached separately for each registry by {@link EnablerRegistry}, so
+ * that application contexts may be loaded concurrently.  The beans marked with each annotation are located 
+ * through an {@link EnablerIndex} maintained for the registry, so the annotation metadata of each bean 
+ * definition is read only once, regardless of the number of configurations that are checked.</p>
+ * 
  * @author Kevin Fox
  * @since 1.0.0
  * 
@@ -61,22 +66,26 @@ public class IfEnabledCondition implements ConfigurationCondition
 {
 	private Log logger = LogFactory.getLog(this.getClass());
 	
-	private Deque<String> enablerSearchStack = new ArrayDeque<>();
+	private Set<String> enablerSearchStack = new HashSet<>();
 	
 	@Override
 	public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) 
 	{
+		long start = StartupProfiler.start();
+		
 		String className = ConfigurationAnnotationUtils.getClassName(metadata);
 		String enabler = ConfigurationAnnotationUtils.getEnablerName(metadata);
 		
 		BeanDefinitionRegistry registry = context.getRegistry();
 		
-		boolean result = new EnablerChecker().checkActive(className, enabler, registry);
+		boolean result = new EnablerChecker(registry).checkActive(className, enabler, EnablerRegistry.forRegistry(registry));
 		
 		if (!result)
 		{
 			logger.debug("Configuration disabled: configuration [" + className + "], enabler [" + enabler + "].");			
 		}
+		
+		StartupProfiler.record(StartupPhase.IF_ENABLED_CONDITION, enabler, start);
 				
 		return result;
 	}
@@ -95,22 +104,29 @@ public class IfEnabledCondition implements ConfigurationCondition
 	 */
 	private class EnablerChecker
 	{
+		private BeanDefinitionRegistry registry;
+		
+		public EnablerChecker(BeanDefinitionRegistry registry)
+		{
+			this.registry = registry;
+		}
+		
 		/**
 		 * Determines whether the specified class should be activated based on whether a bean exists in the registry
 		 * with the specified "enabler" annotation.
 		 * 
 		 * @param className The class name of the bean being checked.
 		 * @param enabler The class name of the "enabler" annotation.
-		 * @param registry The Spring bean registry.
+		 * @param enablers The cache of "enabler" annotations for the Spring bean registry.
 		 * @return <code>true</code> if a bean with the "enabler" annotation exists in the registry; <code>false</code> otherwise.
 		 */
-		public boolean checkActive(String className, String enabler, BeanDefinitionRegistry registry)
+		public boolean checkActive(String className, String enabler, EnablerRegistry enablers)
 		{
 			// Push the current "enabler" of interest on the search stack, to help prevent an endless loop
-			enablerSearchStack.push(enabler);
+			enablerSearchStack.add(enabler);
 			
 			// Check the cache to see if this "enabler" has already been found
-			boolean enabled = EnablerRegistry.contains(enabler);
+			boolean enabled = enablers.contains(enabler);
 			
 			if (enabled)
 			{
@@ -119,68 +135,53 @@ public class IfEnabledCondition implements ConfigurationCondition
 			}
 			else
 			{
-				// Otherwise, we need to check all of the registered beans to see if any have the desired "enabler" as an annotation
-				String[] names = registry.getBeanDefinitionNames();
-				for (String name : names)
+				// Otherwise, we need to check the registered beans that have the desired "enabler" as an annotation
+				for (EnablingBean bean : enablers.getIndex().getAnnotatedBeans(registry, enabler))
 				{
-					BeanDefinition bean = registry.getBeanDefinition(name);
-					
-					enabled = checkBeanForEnabler(enabler, registry, bean);
+					enabled = checkBeanActive(enablers, bean);
 					
 					if (enabled)
 					{
 						// If an applicable bean is found, the "enabler" is active (and we cache this knowledge)
-						EnablerRegistry.addEnabler(enabler);
-						logger.debug("Configuration enabled: configuration [" + className + "], enabler [" + enabler + "], cause [" + bean.getBeanClassName() + "].");
+						enablers.addEnabler(enabler);
+						logger.debug("Configuration enabled: configuration [" + className + "], enabler [" + enabler + "], cause [" + bean.getClassName() + "].");
 						break;
 					}
 				}
 			}
 
 			// Pop the current "enabler" of interest from the search stack
-			enablerSearchStack.pop();
+			enablerSearchStack.remove(enabler);
 			
 			return enabled;
 		}
 		
-		private boolean checkBeanForEnabler(String enabler, BeanDefinitionRegistry registry, BeanDefinition bean)
+		private boolean checkBeanActive(EnablerRegistry enablers, EnablingBean bean)
 		{
-			boolean activatesEnabler = false;
-			
-			// Only mess with annotated beans
-			if (bean instanceof AnnotatedBeanDefinition)
+			// This bean could have its own @IfEnabled annotation, which means we have found another "enabler" to consider
+			String beanEnabler = bean.getEnablerName();
+			boolean activeBean;
+			if (beanEnabler == null)
 			{
-				AnnotationMetadata annotationMetadata = ((AnnotatedBeanDefinition) bean).getMetadata();
-				
-				// This bean could have its own @IfEnabled annotation, which means we have found another "enabler" to consider
-				String beanEnabler = ConfigurationAnnotationUtils.getEnablerName(annotationMetadata);
-				boolean activeBean;
-				if (beanEnabler == null)
+				// If not, life is easy, the bean provides the current "enabler"
+				activeBean = true;
+			}
+			else
+			{
+				// Before this bean can be considered to provide the original "enabler", it's necessary to ensure that it is active, itself (i.e. that its own "enabler" exists somewhere)
+				if (enablerSearchStack.contains(beanEnabler))
 				{
-					// If not, life is easy, just process this bean for the current "enabler"
-					activeBean = true;
+					// If the new "enabler" is already on the search stack, it's being processed, so skip this bean in the current pass
+					activeBean = false;
 				}
 				else
 				{
-					// Before this bean can be considered to provide the original "enabler", it's necessary to ensure that it is active, itself (i.e. that its own "enabler" exists somewhere)
-					if (enablerSearchStack.contains(beanEnabler))
-					{
-						// If the new "enabler" is already on the search stack, it's being processed, so skip this bean in the current pass
-						activeBean = false;
-					}
-					else
-					{
-						// On the other hand, if we haven't previously checked on the new "enabler", make a recursive call to do so
-						String beanClassName = ConfigurationAnnotationUtils.getClassName(annotationMetadata);
-						activeBean = new EnablerChecker().checkActive(beanClassName, beanEnabler, registry);
-					}
+					// On the other hand, if we haven't previously checked on the new "enabler", make a recursive call to do so
+					activeBean = new EnablerChecker(registry).checkActive(bean.getClassName(), beanEnabler, enablers);
 				}
-
-				// If we know the bean to be active, check to see if it has the "enabler" annotation
-				activatesEnabler = activeBean && annotationMetadata.isAnnotated(enabler);
 			}
 						
-			return activatesEnabler;			
+			return activeBean;			
 		}
 	}
 }
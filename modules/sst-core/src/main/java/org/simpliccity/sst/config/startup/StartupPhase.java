@@ -0,0 +1,60 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.config.startup;
+
+/**
+ * The phases of SST configuration processing measured by the {@link StartupProfiler}.
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ *
+ */
+public enum StartupPhase 
+{
+	/**
+	 * Loading of the annotation handlers configured in <code>META-INF/sst.annotation.handlers</code>; recorded per handler type.
+	 */
+	ANNOTATION_HANDLER_LOADING,
+	
+	/**
+	 * Generation of bean names during annotation scanning; recorded per name generator class.  Covers subclasses of 
+	 * {@link org.simpliccity.sst.bean.namespace.AbstractAnnotationNamespaceBeanNameGenerator} and the generators
+	 * invoked by a {@link org.simpliccity.sst.bean.annotation.DelegateAnnotationBeanNameGenerator}.  Names generated
+	 * from metadata when beans are looked up are not included.
+	 */
+	BEAN_NAME_GENERATION,
+	
+	/**
+	 * Evaluation of {@code @IfEnabled} conditions; recorded per "enabler" annotation.
+	 */
+	IF_ENABLED_CONDITION,
+	
+	/**
+	 * Resolution of property placeholders in configuration annotation attributes; recorded per annotation type.
+	 */
+	PLACEHOLDER_RESOLUTION,
+	
+	/**
+	 * Execution of property loaders; recorded per property loader class.
+	 */
+	PROPERTY_LOADING,
+	
+	/**
+	 * Initialization of transformations ahead of first use; recorded per transformer class.
+	 */
+	TRANSFORMER_WARM_UP
+}
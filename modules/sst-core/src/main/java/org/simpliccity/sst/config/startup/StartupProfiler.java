@@ -0,0 +1,212 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.config.startup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Collects timings and counts for the phases of SST configuration processing that take place while application
+ * contexts start.  Profiling is disabled by default, in which case the instrumented code only pays for a check of
+ * a flag.  It is enabled by setting the system property <code>sst.startup.profiling</code> to <code>true</code> or
+ * by calling {@link #setEnabled(boolean)}; because much of the instrumented work happens before any beans are
+ * created, it cannot be enabled through the application context itself.</p>
+ * 
+ * <p>Instrumented code brackets each operation as follows:</p>
+ * 
+ * <pre class="code">
+ * long start = StartupProfiler.start();
+ * ...
+ * StartupProfiler.record(StartupPhase.PROPERTY_LOADING, loader.getClass(), start);
+ * </pre>
+ * 
+ * <p>Measurements are accumulated for the JVM as a whole and summarized by {@link #getReport()}.  The 
+ * {@link StartupReportEventListener} logs the report whenever an application context is refreshed.</p>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see StartupReport
+ *
+ */
+public final class StartupProfiler 
+{
+	/**
+	 * The name of the system property that enables profiling.
+	 */
+	public static final String ENABLED_PROPERTY = "sst.startup.profiling";
+	
+	private static final ConcurrentMap<StartupPhase, ConcurrentMap<String, Measurement>> MEASUREMENTS = new ConcurrentHashMap<>();
+	
+	private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+	
+	// Private constructor to hide default
+	private StartupProfiler()
+	{
+		super();
+	}
+	
+	/**
+	 * Indicates whether profiling is enabled.
+	 * 
+	 * @return <code>true</code> if measurements are being recorded; <code>false</code> otherwise.
+	 */
+	public static boolean isEnabled() 
+	{
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables profiling.  Measurements already recorded are retained.
+	 * 
+	 * @param enabled <code>true</code> to record measurements; <code>false</code> otherwise.
+	 */
+	public static void setEnabled(boolean enabled) 
+	{
+		StartupProfiler.enabled = enabled;
+	}
+
+	/**
+	 * Marks the start of an operation to be measured.
+	 * 
+	 * @return The start time to pass to {@link #record(StartupPhase, String, long)}; <code>0</code> if profiling
+	 * is disabled.
+	 */
+	public static long start()
+	{
+		return enabled ? System.nanoTime() : 0;
+	}
+	
+	/**
+	 * Records the completion of an operation.
+	 * 
+	 * @param phase The phase to which the operation belongs.
+	 * @param name The name under which the operation is counted within the phase, such as the name of the class 
+	 * performing it.
+	 * @param start The value returned by {@link #start()} when the operation began.
+	 */
+	public static void record(StartupPhase phase, String name, long start)
+	{
+		// An operation that started while profiling was disabled is not recorded
+		if (enabled && start != 0)
+		{
+			getMeasurement(phase, name).add(System.nanoTime() - start);
+		}
+	}
+	
+	/**
+	 * Records the completion of an operation performed by the specified class.
+	 * 
+	 * @param phase The phase to which the operation belongs.
+	 * @param type The class performing the operation.
+	 * @param start The value returned by {@link #start()} when the operation began.
+	 */
+	public static void record(StartupPhase phase, Class<?> type, long start)
+	{
+		if (enabled && start != 0)
+		{
+			record(phase, type.getName(), start);
+		}
+	}
+	
+	/**
+	 * Summarizes the measurements recorded so far.
+	 * 
+	 * @return A snapshot of the recorded measurements.
+	 */
+	public static StartupReport getReport()
+	{
+		List<StartupReport.Entry> entries = new ArrayList<>();
+		
+		for (Entry<StartupPhase, ConcurrentMap<String, Measurement>> phase : MEASUREMENTS.entrySet())
+		{
+			for (Entry<String, Measurement> measurement : phase.getValue().entrySet())
+			{
+				Measurement value = measurement.getValue();
+				entries.add(new StartupReport.Entry(phase.getKey(), measurement.getKey(), value.count.get(), value.totalTime.get(), value.maxTime.get()));
+			}
+		}
+		
+		return new StartupReport(entries);
+	}
+	
+	/**
+	 * Discards all recorded measurements.
+	 */
+	public static void reset()
+	{
+		MEASUREMENTS.clear();
+	}
+	
+	private static Measurement getMeasurement(StartupPhase phase, String name)
+	{
+		ConcurrentMap<String, Measurement> measurements = MEASUREMENTS.get(phase);
+		if (measurements == null)
+		{
+			ConcurrentMap<String, Measurement> newMeasurements = new ConcurrentHashMap<>();
+			measurements = MEASUREMENTS.putIfAbsent(phase, newMeasurements);
+			if (measurements == null)
+			{
+				measurements = newMeasurements;
+			}
+		}
+		
+		Measurement result = measurements.get(name);
+		if (result == null)
+		{
+			Measurement newMeasurement = new Measurement();
+			result = measurements.putIfAbsent(name, newMeasurement);
+			if (result == null)
+			{
+				result = newMeasurement;
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * The accumulated count and timings for a single named operation.
+	 * 
+	 * @author Kevin Fox
+	 *
+	 */
+	private static class Measurement
+	{
+		private final AtomicLong count = new AtomicLong();
+		
+		private final AtomicLong totalTime = new AtomicLong();
+		
+		private final AtomicLong maxTime = new AtomicLong();
+		
+		public void add(long elapsed)
+		{
+			count.incrementAndGet();
+			totalTime.addAndGet(elapsed);
+			
+			long max = maxTime.get();
+			while (elapsed > max && !maxTime.compareAndSet(max, elapsed))
+			{
+				max = maxTime.get();
+			}
+		}
+	}
+}
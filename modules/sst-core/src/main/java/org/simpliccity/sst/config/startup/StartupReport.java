@@ -0,0 +1,231 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.config.startup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * <p>A snapshot of the measurements recorded by the {@link StartupProfiler}.  Each {@link Entry} summarizes
+ * the operations recorded under a single name within a {@link StartupPhase}.  Entries are ordered by phase
+ * and, within each phase, by descending total time.</p>
+ * 
+ * <p>The {@link #toString()} form of the report is a table suitable for logging.</p>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see StartupProfiler#getReport()
+ *
+ */
+public class StartupReport 
+{
+	private static final double NANOS_PER_MILLI = 1000000.0;
+	
+	private final List<Entry> entries;
+	
+	/**
+	 * Creates a report containing the specified entries.
+	 * 
+	 * @param entries The summarized measurements.
+	 */
+	public StartupReport(List<Entry> entries)
+	{
+		List<Entry> sorted = new ArrayList<>(entries);
+		Collections.sort(sorted, new EntryComparator());
+		
+		this.entries = Collections.unmodifiableList(sorted);
+	}
+	
+	/**
+	 * Returns all entries in the report.
+	 * 
+	 * @return An unmodifiable list of the entries.
+	 */
+	public List<Entry> getEntries()
+	{
+		return entries;
+	}
+	
+	/**
+	 * Returns the entries for the specified phase.
+	 * 
+	 * @param phase The phase of interest.
+	 * @return The entries recorded for the phase; an empty list if there are none.
+	 */
+	public List<Entry> getEntries(StartupPhase phase)
+	{
+		List<Entry> result = new ArrayList<>();
+		
+		for (Entry entry : entries)
+		{
+			if (entry.getPhase() == phase)
+			{
+				result.add(entry);
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns the total time recorded for the specified phase.
+	 * 
+	 * @param phase The phase of interest.
+	 * @return The total time, in nanoseconds.
+	 */
+	public long getTotalTime(StartupPhase phase)
+	{
+		long result = 0;
+		
+		for (Entry entry : getEntries(phase))
+		{
+			result += entry.getTotalTime();
+		}
+		
+		return result;
+	}
+	
+	@Override
+	public String toString()
+	{
+		StringBuilder result = new StringBuilder("SST startup report");
+		
+		StartupPhase currentPhase = null;
+		for (Entry entry : entries)
+		{
+			if (entry.getPhase() != currentPhase)
+			{
+				currentPhase = entry.getPhase();
+				result.append(String.format("%n%s: total %.3f ms", currentPhase, getTotalTime(currentPhase) / NANOS_PER_MILLI));
+			}
+			
+			result.append(String.format("%n  %-80s count %8d  total %10.3f ms  max %10.3f ms", entry.getName(), entry.getCount(), entry.getTotalTime() / NANOS_PER_MILLI, entry.getMaxTime() / NANOS_PER_MILLI));
+		}
+		
+		if (entries.isEmpty())
+		{
+			result.append(String.format("%n  No measurements recorded."));
+		}
+		
+		return result.toString();
+	}
+	
+	/**
+	 * The summarized measurements for a single named operation within a phase.
+	 * 
+	 * @author Kevin Fox
+	 *
+	 */
+	public static class Entry
+	{
+		private final StartupPhase phase;
+		
+		private final String name;
+		
+		private final long count;
+		
+		private final long totalTime;
+		
+		private final long maxTime;
+		
+		/**
+		 * Creates a new entry.
+		 * 
+		 * @param phase The phase to which the operation belongs.
+		 * @param name The name under which the operation was recorded.
+		 * @param count The number of times the operation was performed.
+		 * @param totalTime The total time spent in the operation, in nanoseconds.
+		 * @param maxTime The longest single execution of the operation, in nanoseconds.
+		 */
+		public Entry(StartupPhase phase, String name, long count, long totalTime, long maxTime)
+		{
+			this.phase = phase;
+			this.name = name;
+			this.count = count;
+			this.totalTime = totalTime;
+			this.maxTime = maxTime;
+		}
+
+		/**
+		 * Returns the phase to which the operation belongs.
+		 * 
+		 * @return The phase.
+		 */
+		public StartupPhase getPhase() 
+		{
+			return phase;
+		}
+
+		/**
+		 * Returns the name under which the operation was recorded.
+		 * 
+		 * @return The name of the operation.
+		 */
+		public String getName() 
+		{
+			return name;
+		}
+
+		/**
+		 * Returns the number of times the operation was performed.
+		 * 
+		 * @return The count.
+		 */
+		public long getCount() 
+		{
+			return count;
+		}
+
+		/**
+		 * Returns the total time spent in the operation.
+		 * 
+		 * @return The total time, in nanoseconds.
+		 */
+		public long getTotalTime() 
+		{
+			return totalTime;
+		}
+
+		/**
+		 * Returns the longest single execution of the operation.
+		 * 
+		 * @return The maximum time, in nanoseconds.
+		 */
+		public long getMaxTime() 
+		{
+			return maxTime;
+		}
+	}
+	
+	private static class EntryComparator implements Comparator<Entry>
+	{
+		@Override
+		public int compare(Entry first, Entry second) 
+		{
+			int result = first.getPhase().compareTo(second.getPhase());
+			if (result == 0)
+			{
+				result = Long.compare(second.getTotalTime(), first.getTotalTime());
+			}
+			
+			return result;
+		}
+	}
+}
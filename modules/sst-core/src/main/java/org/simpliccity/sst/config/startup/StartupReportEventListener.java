@@ -0,0 +1,48 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.config.startup;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * A Spring {@link EventListener} that logs the {@link StartupReport} at <code>INFO</code> level whenever
+ * an application context has been refreshed, if startup profiling is enabled.
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see StartupProfiler
+ *
+ */
+@Component
+public class StartupReportEventListener 
+{
+	private Log logger = LogFactory.getLog(this.getClass());
+	
+	@EventListener(ContextRefreshedEvent.class)
+	public void reportStartup(ContextRefreshedEvent event)
+	{
+		if (StartupProfiler.isEnabled())
+		{
+			logger.info("Application context [" + event.getApplicationContext().getDisplayName() + "] refreshed. " + StartupProfiler.getReport());
+		}
+	}
+}
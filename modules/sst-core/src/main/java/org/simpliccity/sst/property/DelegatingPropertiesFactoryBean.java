@@ -19,6 +19,8 @@ package org.simpliccity.sst.property;
 import java.io.IOException;
 import java.util.Properties;
 
+import org.simpliccity.sst.config.startup.StartupPhase;
+import org.simpliccity.sst.config.startup.StartupProfiler;
 import org.springframework.beans.factory.config.PropertiesFactoryBean;
 
 /**
@@ -59,6 +61,8 @@ public class DelegatingPropertiesFactoryBean extends PropertiesFactoryBean
 	@Override
 	protected void loadProperties(Properties props) throws IOException
 	{
+		long start = StartupProfiler.start();
 		getPropertyLoader().loadProperties(props);
+		StartupProfiler.record(StartupPhase.PROPERTY_LOADING, getPropertyLoader().getClass(), start);
 	}
 }
@@ -21,6 +21,8 @@ import java.util.Arrays;
 import java.util.Properties;
 import java.util.Set;
 
+import org.simpliccity.sst.config.startup.StartupPhase;
+import org.simpliccity.sst.config.startup.StartupProfiler;
 import org.simpliccity.sst.property.PropertyLoader;
 import org.springframework.core.env.EnumerablePropertySource;
 
@@ -53,6 +55,7 @@ public class PropertyLoaderPropertySource extends EnumerablePropertySource<Prope
 		super(name, source);
 		
 		// Use source as property loader to load properties into internal Properties instance
+		long start = StartupProfiler.start();
 		try 
 		{
 			getSource().loadProperties(properties);
@@ -64,6 +67,8 @@ public class PropertyLoaderPropertySource extends EnumerablePropertySource<Prope
 			logger.error("Unable to initialize PropertyLoader-based PropertySource [" + name + "].", e);
 		}
 		
+		StartupProfiler.record(StartupPhase.PROPERTY_LOADING, source.getClass(), start);
+		
 		// Cache property names from internal Properties instance
 		Set<Object> keys = properties.keySet();
 		propNames = keys.toArray(new String[keys.size()]);
@@ -16,8 +16,12 @@
 
 package org.simpliccity.sst.service.security;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -51,13 +55,25 @@ import org.springframework.context.ApplicationEventPublisherAware;
  */
 public abstract class AbstractSecuredMessageProcessor implements ApplicationEventPublisherAware, InitializingBean
 {
+	/**
+	 * The default maximum number of unsecured controlled objects remembered for each point in the request 
+	 * lifecycle (<b>Default</b>: {@value}).
+	 * 
+	 * @since 1.0.0
+	 */
+	public static final int DEFAULT_NO_CONTROL_CACHE_SIZE = 1024;
+	
 	private Log logger = LogFactory.getLog(this.getClass());
 	
 	private ApplicationEventPublisher eventPublisher;
 	
 	private ServiceSecurityHandler securityHandler;
 	
-	private Map<Object, SecuredMessageEvaluator> controls = new HashMap<>();
+	private Map<ApplyWhen, ConcurrentMap<Object, SecuredMessageEvaluator>> controls = createControlCache();
+	
+	private Map<ApplyWhen, Set<Object>> noControls = createNoControlCache();
+	
+	private int noControlCacheSize = DEFAULT_NO_CONTROL_CACHE_SIZE;
 
 	@Autowired
 	private BeanMetadataLookupManager lookupManager;
@@ -100,6 +116,39 @@ public abstract class AbstractSecuredMessageProcessor implements ApplicationEven
 		this.securityHandler = securityHandler;
 	}
 	
+	/**
+	 * Returns the maximum number of controlled objects without an applicable access control that are remembered
+	 * for each point in the request lifecycle.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return The maximum size of the cache of unsecured controlled objects; <code>0</code> if the cache is disabled.
+	 */
+	public int getNoControlCacheSize() 
+	{
+		return noControlCacheSize;
+	}
+
+	/**
+	 * Specifies the maximum number of controlled objects without an applicable access control that are remembered
+	 * for each point in the request lifecycle.  When the limit is reached, the cache is cleared and starts over, so
+	 * that controlled objects created for individual requests cannot cause it to grow without bound.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param noControlCacheSize The maximum size of the cache of unsecured controlled objects; <code>0</code> to 
+	 * disable the cache.
+	 */
+	public void setNoControlCacheSize(int noControlCacheSize) 
+	{
+		this.noControlCacheSize = noControlCacheSize;
+		
+		for (Set<Object> noControl : noControls.values())
+		{
+			noControl.clear();
+		}
+	}
+	
 	/**
 	 * <p>Retrieves the {@code @SecuredMessage} annotation associated with the service request.  
 	 * {@link SecuredMessage} provides the details of the security constraint defined for the
@@ -120,7 +169,9 @@ public abstract class AbstractSecuredMessageProcessor implements ApplicationEven
 	 * Retrieves the element associated with the service request that is annotated with the {@code @SecuredMessage} 
 	 * annotation that specifies the security constraint(s) to be applied.  The default behavior returns the
 	 * specified service object.  Concrete subclasses can override this method if further logic is needed to
-	 * extract the actual annotated element.
+	 * extract the actual annotated element.  This method is called for every request, since its result is the key
+	 * used to cache the access controls; overriding implementations should be inexpensive and should return objects
+	 * that are equal for requests subject to the same access controls.
 	 * 
 	 * @param service The service framework-specific representation of the service endpoint processing
 	 * a request.
@@ -217,10 +268,13 @@ public abstract class AbstractSecuredMessageProcessor implements ApplicationEven
 	
 	/**
 	 * Retrieves the {@link SecuredMessageEvaluator} used to process the access controls for a service request.
-	 * To improve performance, this class maintains an internal cache of evaluators.  The method will retrieve
-	 * an evaluator from the cache, if available.  Otherwise, it will construct one from the {@code @SecuredMessage}
-	 * annotation on the controlled object (see {@link #getControlledObject(Object, ServiceSemanticContext)}) associated
-	 * with the request.
+	 * To improve performance, this class maintains an internal, thread-safe cache of evaluators keyed by the controlled
+	 * object and the point in the request lifecycle.  The method will retrieve an evaluator from the cache, if available.  
+	 * Otherwise, it will construct one from the {@code @SecuredMessage} annotation on the controlled object (see 
+	 * {@link #getControlledObject(Object, ServiceSemanticContext)}) associated with the request.  The absence of an 
+	 * applicable annotation is cached as well, up to the {@link #setNoControlCacheSize(int) configured limit}, so that 
+	 * unsecured requests do not repeat the annotation lookup.  The controlled object itself is retrieved for every 
+	 * request, before the cache is consulted, since it may depend on the request.
 	 * 
 	 * @param service The service framework-specific representation of the service endpoint processing a request.
 	 * @param semanticContext The context of a service request.
@@ -234,10 +288,11 @@ public abstract class AbstractSecuredMessageProcessor implements ApplicationEven
 		Object controlledObject = getControlledObject(service, semanticContext);
 		
 		// Look for a payload control evaluator in the cache
-		SecuredMessageEvaluator control = controls.get(controlledObject);
+		ConcurrentMap<Object, SecuredMessageEvaluator> cache = controls.get(when);
+		SecuredMessageEvaluator control = cache.get(controlledObject);
 		
-		// If none is found...
-		if (control == null)
+		// If none is found and the controlled object is not known to be unsecured...
+		if (control == null && !noControls.get(when).contains(controlledObject))
 		{
 			logger.debug("Creating new secured message evaluator for service implementation [" + controlledObject + "].");
 			
@@ -247,12 +302,20 @@ public abstract class AbstractSecuredMessageProcessor implements ApplicationEven
 			// If the annotation information is found and applies ...
 			if (annotation != null && annotation.apply() == when)
 			{
-				// ...create a corresponding evaluator and add it to the cache
+				// ...create a corresponding evaluator and add it to the cache (keeping any evaluator created concurrently by another request)
 				control = new SecuredMessageEvaluator(annotation, getSecurityHandler(), getLookupManager());
-				controls.put(controlledObject, control);
+				SecuredMessageEvaluator existing = cache.putIfAbsent(controlledObject, control);
+				if (existing != null)
+				{
+					control = existing;
+				}
+			}
+			else
+			{
+				rememberNoControl(controlledObject, when);
 			}
 		}
-			
+		
 		if (control != null && control.applies(when))
 		{
 			logger.debug("Access control defined for endpoint.");
@@ -266,6 +329,47 @@ public abstract class AbstractSecuredMessageProcessor implements ApplicationEven
 		return control;
 	}
 	
+	private void rememberNoControl(Object controlledObject, ApplyWhen when)
+	{
+		if (noControlCacheSize > 0)
+		{
+			Set<Object> noControl = noControls.get(when);
+			
+			// Start over, rather than tracking usage, when the cache is full
+			if (noControl.size() >= noControlCacheSize)
+			{
+				noControl.clear();
+			}
+			
+			noControl.add(controlledObject);
+		}
+	}
+	
+	private static Map<ApplyWhen, ConcurrentMap<Object, SecuredMessageEvaluator>> createControlCache()
+	{
+		Map<ApplyWhen, ConcurrentMap<Object, SecuredMessageEvaluator>> result = new EnumMap<>(ApplyWhen.class);
+		
+		// The maps for each point in the lifecycle are created up front, so that only their contents change
+		for (ApplyWhen when : ApplyWhen.values())
+		{
+			result.put(when, new ConcurrentHashMap<Object, SecuredMessageEvaluator>());
+		}
+		
+		return result;
+	}
+	
+	private static Map<ApplyWhen, Set<Object>> createNoControlCache()
+	{
+		Map<ApplyWhen, Set<Object>> result = new EnumMap<>(ApplyWhen.class);
+		
+		for (ApplyWhen when : ApplyWhen.values())
+		{
+			result.put(when, Collections.newSetFromMap(new ConcurrentHashMap<Object, Boolean>()));
+		}
+		
+		return result;
+	}
+	
 	/**
 	 * Generates an application event for the access control decision applied to the service request.
 	 * 
@@ -0,0 +1,45 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform;
+
+/**
+ * A runtime exception indicating that a transformation bean reached a source object whose transformation to the
+ * same target class was already in progress, without having registered a target for it.  This is an error in the 
+ * transformation bean, which must call {@link Transformer#registerTarget(Object, Object)} before following the 
+ * references that lead back to its source, so it is always surfaced, regardless of 
+ * {@link Transformer#isSurfaceExceptions()}.
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see Transformer#registerTarget(Object, Object)
+ *
+ */
+public class CyclicTransformationException extends TransformationException 
+{
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Creates a new CyclicTransformationException with a message.
+	 * 
+	 * @param msg The message describing the exception.
+	 */
+	public CyclicTransformationException(String msg) 
+	{
+		super(msg, null);
+	}
+}
@@ -25,19 +25,27 @@ import org.simpliccity.sst.bean.annotation.BeanAnnotationUtils;
 import org.simpliccity.sst.transform.annotation.InTransform;
 import org.simpliccity.sst.transform.annotation.OutTransform;
 import org.simpliccity.sst.transform.annotation.Transformation;
+import org.simpliccity.sst.transform.annotation.TransformationCacheKey;
 import org.simpliccity.sst.transform.annotation.TransformationCacheMode;
+import org.simpliccity.sst.transform.cache.IdentityCacheKey;
 import org.simpliccity.sst.transform.cache.TransformationCacheManager;
 import org.simpliccity.sst.transform.cache.annotation.InTransformCacheIndex;
 import org.simpliccity.sst.transform.cache.annotation.OutTransformCacheIndex;
+import org.simpliccity.sst.transform.invoke.MethodHandleTransformationMethodInvokerFactory;
+import org.simpliccity.sst.transform.invoke.TransformationDispatcher;
+import org.simpliccity.sst.transform.invoke.TransformationMethodInvoker;
+import org.simpliccity.sst.transform.invoke.TransformationMethodInvokerFactory;
 
 /**
  * A proxy class used to provide a standard interface for an annotated transformation bean.
  * Since transformation beans are defined completely through the use of {@link Transformation}
  * and related annotations, not by implementing a particular interface, the actual method(s)
- * used to perform the configured transformation(s) must be invoked via reflection.  This proxy
- * class encapsulates the details for performing the appropriate method invocations by means of
- * reflection, including all necessary interactions with the 
- * {@link org.simpliccity.sst.transform.cache.TransformationCacheManager}.
+ * used to perform the configured transformation(s) must be discovered via reflection.  This proxy
+ * class encapsulates the details for performing the appropriate method invocations, including all
+ * necessary interactions with the {@link org.simpliccity.sst.transform.cache.TransformationCacheManager}.
+ * The annotated methods are bound once, when the proxy is created, using a 
+ * {@link org.simpliccity.sst.transform.invoke.TransformationMethodInvokerFactory}, or taken directly from a
+ * {@link org.simpliccity.sst.transform.invoke.TransformationDispatcher} generated at compile time.
  * 
  * @author Kevin Fox
  * @since 0.3.0
@@ -53,17 +61,20 @@ public class TransformationProxy
 	private Object transformer;
 	private boolean surfaceTransformationExceptions;
 	private Transformation configuration;
-	private Method outboundTransformationMethod;
-	private Method inboundTransformationMethod;
+	private TransformationCacheMode cacheMode;
+	private TransformationCacheKey cacheKey;
+	private TransformationMethodInvoker outboundTransformationInvoker;
+	private TransformationMethodInvoker inboundTransformationInvoker;
 
 	// Cache configuration
 	private TransformationCacheManager cacheManager;
-	private Method outboundCacheIndexMethod;
-	private Method inboundCacheIndexMethod;
+	private TransformationMethodInvoker outboundCacheIndexInvoker;
+	private TransformationMethodInvoker inboundCacheIndexInvoker;
 	
 	/**
 	 * Creates a new instance of TransformationProxy initialized with the cache manager and
-	 * a transformation bean instance.
+	 * a transformation bean instance.  Transformation bean methods are invoked using an instance
+	 * of {@link MethodHandleTransformationMethodInvokerFactory}.
 	 * 
 	 * @param cacheManager The manager for transformation result caching.
 	 * @param transformer An instance of a class marked with the {@link Transformation} annotation.
@@ -71,21 +82,71 @@ public class TransformationProxy
 	 * the transformation bean should be rethrown.
 	 */
 	public TransformationProxy(TransformationCacheManager cacheManager, Object transformer, boolean surfaceTransformationExceptions)
+	{
+		this(cacheManager, transformer, surfaceTransformationExceptions, new MethodHandleTransformationMethodInvokerFactory());
+	}
+	
+	/**
+	 * Creates a new instance of TransformationProxy initialized with the cache manager, 
+	 * a transformation bean instance and the strategy used to invoke methods on the bean.
+	 * Each annotated method of the bean is bound to an invoker once, when the proxy is created.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param cacheManager The manager for transformation result caching.
+	 * @param transformer An instance of a class marked with the {@link Transformation} annotation.
+	 * @param surfaceTransformationExceptions A flag indicating whether exceptions thrown when invoking methods on
+	 * the transformation bean should be rethrown.
+	 * @param invokerFactory The factory used to bind the annotated methods of the transformation bean.
+	 */
+	public TransformationProxy(TransformationCacheManager cacheManager, Object transformer, boolean surfaceTransformationExceptions, TransformationMethodInvokerFactory invokerFactory)
 	{
 		this.cacheManager = cacheManager;
 		this.transformer = transformer;
 		this.surfaceTransformationExceptions = surfaceTransformationExceptions;
 		
 		// Get transformation annotation
-		this.configuration = BeanAnnotationUtils.getAnnotationFromInstance(Transformation.class, transformer);
+		initializeConfiguration(BeanAnnotationUtils.getAnnotationFromInstance(Transformation.class, transformer));
 		
-		// Find transformation methods
-		this.outboundTransformationMethod = BeanAnnotationUtils.getAnnotatedMethodFromInstance(OutTransform.class, transformer);
-		this.inboundTransformationMethod = BeanAnnotationUtils.getAnnotatedMethodFromInstance(InTransform.class, transformer);
+		// Find transformation methods and bind their call sites
+		this.outboundTransformationInvoker = createInvoker(invokerFactory, BeanAnnotationUtils.getAnnotatedMethodFromInstance(OutTransform.class, transformer));
+		this.inboundTransformationInvoker = createInvoker(invokerFactory, BeanAnnotationUtils.getAnnotatedMethodFromInstance(InTransform.class, transformer));
 		
 		// Initialize cache information
-		this.outboundCacheIndexMethod = BeanAnnotationUtils.getAnnotatedMethodFromInstance(OutTransformCacheIndex.class, transformer);
-		this.inboundCacheIndexMethod = BeanAnnotationUtils.getAnnotatedMethodFromInstance(InTransformCacheIndex.class, transformer);
+		this.outboundCacheIndexInvoker = createInvoker(invokerFactory, BeanAnnotationUtils.getAnnotatedMethodFromInstance(OutTransformCacheIndex.class, transformer));
+		this.inboundCacheIndexInvoker = createInvoker(invokerFactory, BeanAnnotationUtils.getAnnotatedMethodFromInstance(InTransformCacheIndex.class, transformer));
+	}
+	
+	/**
+	 * Creates a new instance of TransformationProxy initialized with the cache manager, 
+	 * a transformation bean instance and a dispatcher generated for the class of the bean.
+	 * The call sites for the annotated methods are taken from the dispatcher, so no reflective
+	 * method discovery is performed.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param cacheManager The manager for transformation result caching.
+	 * @param transformer An instance of a class marked with the {@link Transformation} annotation.
+	 * @param surfaceTransformationExceptions A flag indicating whether exceptions thrown when invoking methods on
+	 * the transformation bean should be rethrown.
+	 * @param dispatcher The dispatcher generated for the class of the transformation bean.
+	 */
+	public TransformationProxy(TransformationCacheManager cacheManager, Object transformer, boolean surfaceTransformationExceptions, TransformationDispatcher dispatcher)
+	{
+		this.cacheManager = cacheManager;
+		this.transformer = transformer;
+		this.surfaceTransformationExceptions = surfaceTransformationExceptions;
+		
+		// Get transformation annotation
+		initializeConfiguration(BeanAnnotationUtils.getAnnotationFromInstance(Transformation.class, transformer));
+		
+		// Use the generated call sites for the transformation methods...
+		this.outboundTransformationInvoker = dispatcher.getOutboundTransformationInvoker(transformer);
+		this.inboundTransformationInvoker = dispatcher.getInboundTransformationInvoker(transformer);
+		
+		// ...and the cache index methods
+		this.outboundCacheIndexInvoker = dispatcher.getOutboundCacheIndexInvoker(transformer);
+		this.inboundCacheIndexInvoker = dispatcher.getInboundCacheIndexInvoker(transformer);
 	}
 
 	/**
@@ -144,7 +205,7 @@ public class TransformationProxy
 	 */
 	public Method getOutboundTransformationMethod()
 	{
-		return outboundTransformationMethod;
+		return getMethod(outboundTransformationInvoker);
 	}
 	
 	/**
@@ -158,7 +219,7 @@ public class TransformationProxy
 	 */
 	public Method getInboundTransformationMethod()
 	{
-		return inboundTransformationMethod;
+		return getMethod(inboundTransformationInvoker);
 	}
 
 	/**
@@ -173,9 +234,26 @@ public class TransformationProxy
 	 */
 	public TransformationCacheMode getEffectiveCacheMode()
 	{
-		return (configuration.cache() == TransformationCacheMode.DEFAULT) ? cacheManager.getDefaultCacheModeEnum() : configuration.cache();
+		return (cacheMode == TransformationCacheMode.DEFAULT) ? cacheManager.getDefaultCacheModeEnum() : cacheMode;
 	}
 		
+	/**
+	 * Returns the effective cache key type to be employed by transformations using
+	 * the associated bean.  If no explicit cache key type is specified in the bean's
+	 * {@link Transformation} annotation, the default cache key type for the associated
+	 * cache manager is used.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return The effective cache key type used when no cache index method is available.
+	 * 
+	 * @see TransformationCacheManager#getDefaultCacheKeyEnum()
+	 */
+	public TransformationCacheKey getEffectiveCacheKey()
+	{
+		return (cacheKey == TransformationCacheKey.DEFAULT) ? cacheManager.getDefaultCacheKeyEnum() : cacheKey;
+	}
+	
 	/**
 	 * Returns the method of the transformation bean used to generate an
 	 * outbound cache index, if any.
@@ -187,7 +265,7 @@ public class TransformationProxy
 	 */
 	public Method getOutboundCacheIndexMethod()
 	{
-		return outboundCacheIndexMethod;
+		return getMethod(outboundCacheIndexInvoker);
 	}
 	
 	/**
@@ -201,7 +279,7 @@ public class TransformationProxy
 	 */
 	public Method getInboundCacheIndexMethod()
 	{
-		return inboundCacheIndexMethod;
+		return getMethod(inboundCacheIndexInvoker);
 	}
 	
 	/**
@@ -221,12 +299,12 @@ public class TransformationProxy
 	 */
 	public <T> T performOutTransformation(Object source, Class<T> targetClass, boolean forceFlush) throws UnsupportedTransformationException
 	{
-		if (outboundTransformationMethod == null)
+		if (outboundTransformationInvoker == null)
 		{
 			throw new UnsupportedTransformationException("Outbound transformation not supported.");
 		}
 		
-		return performTransformation(source, targetClass, outboundTransformationMethod, true, forceFlush);
+		return performTransformation(source, targetClass, outboundTransformationInvoker, true, forceFlush);
 	}
 
 	/**
@@ -246,21 +324,24 @@ public class TransformationProxy
 	 */
 	public <T> T performInTransformation(Object source, Class<T> targetClass, boolean forceFlush) throws UnsupportedTransformationException
 	{
-		if (inboundTransformationMethod == null)
+		if (inboundTransformationInvoker == null)
 		{
 			throw new UnsupportedTransformationException("Inbound transformation not supported.");
 		}
 		
-		return performTransformation(source, targetClass, inboundTransformationMethod, false, forceFlush);
+		return performTransformation(source, targetClass, inboundTransformationInvoker, false, forceFlush);
 	}
 
 	@SuppressWarnings("unchecked")
-	private <T> T performTransformation(Object source, Class<T> targetClass, Method transformMethod, boolean outboundTransform, boolean forceFlush)
+	private <T> T performTransformation(Object source, Class<T> targetClass, TransformationMethodInvoker transformInvoker, boolean outboundTransform, boolean forceFlush)
 	{
 		Object result;
 		
+		// Resolve the cache mode once, since it governs both the cache index and the flush
+		TransformationCacheMode mode = getEffectiveCacheMode();
+		
 		// Generate the cache index for the specified source object
-		Object cacheIndex = getCacheIndex(source, outboundTransform);
+		Object cacheIndex = getCacheIndex(source, outboundTransform, mode);
 		
 		// Attempt to retrieve transformed object from object cache
 		result = cacheManager.retrieveFromCache(targetClass, cacheIndex);
@@ -271,50 +352,64 @@ public class TransformationProxy
 			logger.debug("Caching not supported or no existing cached object available.");
 			
 			// ... use the appropriate transformation method, ...
-		    if (transformMethod != null)
+		    if (transformInvoker != null)
 			{
-				logger.debug("Attempting to transform object using transformation method [" + transformMethod.getName() + "].");
+				// (Messages are only built when debug logging is enabled, to keep this path free of garbage)
+				if (logger.isDebugEnabled())
+				{
+					logger.debug("Attempting to transform object using transformation method [" + transformInvoker.getMethod().getName() + "].");
+				}
+				
 				// ... perform the transformation, ...
-				result = invokeTransformerMethod(transformMethod, source);
+				result = invokeTransformerMethod(transformInvoker, source);
 				
-				// ... and add the transformed object to the object cache
-				cacheManager.updateCache(targetClass, cacheIndex, result);
+				// ... and add the transformed object to the object cache (deferring to any instance cached concurrently)
+				result = cacheManager.updateCacheIfAbsent(targetClass, cacheIndex, result);
 			}
 		}
-		else
+		else if (logger.isDebugEnabled())
 		{
 			logger.debug("Retrieved object from cache: " + result + ".");
 		}
 		
 		// Conditionally flush the object cache (depending on transformation settings and flag)
-		cacheManager.flushCache(getEffectiveCacheMode(), forceFlush);
+		cacheManager.flushCache(mode, forceFlush);
 		
 		return (T) result;
 	}
 
-	private Object getCacheIndex(Object value, boolean outBound)
+	private Object getCacheIndex(Object value, boolean outBound, TransformationCacheMode mode)
 	{
 		Object result = null;
 		
-		// A cache index is only needed if the specific transformer supports caching
-		if (cacheManager.usesCache(getEffectiveCacheMode()))
+		// A cache index is only needed if caching is enabled and the specific transformer supports it
+		if (!cacheManager.isDisableCache() && cacheManager.usesCache(mode))
 		{
 			// If it does, look for a method annotated to generate the cache index for the direction of the transformation
-			Method indexMethod = outBound ? outboundCacheIndexMethod : inboundCacheIndexMethod;
+			TransformationMethodInvoker indexInvoker = outBound ? outboundCacheIndexInvoker : inboundCacheIndexInvoker;
 			
 			// If no such method exists,...
-			if (indexMethod == null)
+			if (indexInvoker == null)
 			{
-				// ... the object itself will be the index
-				result = value;
-				logger.debug("Using default cache index: " + result + ".");
+				// ... the object itself will be the index (compared by identity, if so configured)
+				result = (getEffectiveCacheKey() == TransformationCacheKey.IDENTITY) ? new IdentityCacheKey(value) : value;
+				if (logger.isDebugEnabled())
+				{
+					logger.debug("Using default cache index: " + result + ".");
+				}
 			}
 			else
 			{
 				// Otherwise, execute the appropriate method to generate the index
-				logger.debug("Attempting to generate cache index using annotated method [" + indexMethod.getName() + "].");
-				result = invokeTransformerMethod(indexMethod, value);
-				logger.debug("Using generated cache index: " + result + ".");
+				if (logger.isDebugEnabled())
+				{
+					logger.debug("Attempting to generate cache index using annotated method [" + indexInvoker.getMethod().getName() + "].");
+				}
+				result = invokeTransformerMethod(indexInvoker, value);
+				if (logger.isDebugEnabled())
+				{
+					logger.debug("Using generated cache index: " + result + ".");
+				}
 			}
 		}
 		else
@@ -325,15 +420,45 @@ public class TransformationProxy
 		return result;
 	}
 	
-	private Object invokeTransformerMethod(Method method, Object input)
+	private void initializeConfiguration(Transformation configuration)
+	{
+		this.configuration = configuration;
+		
+		// Annotation members are read through a dynamic proxy, so capture the cache settings once
+		this.cacheMode = configuration.cache();
+		this.cacheKey = configuration.cacheKey();
+	}
+	
+	private TransformationMethodInvoker createInvoker(TransformationMethodInvokerFactory invokerFactory, Method method)
+	{
+		return (method == null) ? null : invokerFactory.createInvoker(transformer, method);
+	}
+	
+	private Method getMethod(TransformationMethodInvoker invoker)
+	{
+		return (invoker == null) ? null : invoker.getMethod();
+	}
+	
+	private Object invokeTransformerMethod(TransformationMethodInvoker invoker, Object input)
 	{
 		Object result = null;
 		
 		try 
 		{
-			result = method.invoke(transformer, input);
+			result = invoker.invoke(input);
 		}
-		catch (IllegalArgumentException | IllegalAccessException | InvocationTargetException e) 
+		catch (InvocationTargetException e) 
+		{
+			// A cycle without a registered target is an error in the transformation bean, so it is always surfaced
+			if (e.getCause() instanceof CyclicTransformationException)
+			{
+				throw (CyclicTransformationException) e.getCause();
+			}
+			
+			handleTransformationException("Unable to invoke transformer method.", e);
+			result = null;
+		} 
+		catch (IllegalArgumentException | IllegalAccessException e) 
 		{
 			handleTransformationException("Unable to invoke transformer method.", e);
 			result = null;
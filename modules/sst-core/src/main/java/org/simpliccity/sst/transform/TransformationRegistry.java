@@ -0,0 +1,141 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A thread-safe registry of the {@link TransformationDescriptor}s known to a {@link Transformer}.
+ * Descriptors are keyed directly by the pair of source and target classes for the transformation,
+ * so that retrieving a descriptor requires neither the generation of a name nor the allocation of any
+ * lookup metadata.
+ *
+ * <p>The registry itself does not decide when descriptors are created.  {@link Transformer} is
+ * responsible for ensuring that the descriptors for a given pair of classes are initialized at most once.</p>
+ *
+ * @author Kevin Fox
+ * @since 1.0.0
+ *
+ * @see Transformer
+ *
+ */
+public class TransformationRegistry
+{
+	private ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, TransformationDescriptor>> descriptors = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the descriptor registered for the specified source and target classes.
+	 *
+	 * @param sourceClass The class of the object to be transformed.
+	 * @param targetClass The class to transform to.
+	 * @return The registered descriptor; <code>null</code> if none has been registered.
+	 */
+	public TransformationDescriptor get(Class<?> sourceClass, Class<?> targetClass)
+	{
+		TransformationDescriptor result = null;
+
+		ConcurrentMap<Class<?>, TransformationDescriptor> targets = descriptors.get(sourceClass);
+		if (targets != null)
+		{
+			result = targets.get(targetClass);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Determines whether a descriptor has been registered for the specified source and target classes.
+	 *
+	 * @param sourceClass The class of the object to be transformed.
+	 * @param targetClass The class to transform to.
+	 * @return <code>true</code> if a descriptor exists; <code>false</code> otherwise.
+	 */
+	public boolean contains(Class<?> sourceClass, Class<?> targetClass)
+	{
+		return get(sourceClass, targetClass) != null;
+	}
+
+	/**
+	 * Registers a descriptor for the specified source and target classes, replacing any existing
+	 * registration for the same pair.
+	 *
+	 * @param sourceClass The class of the object to be transformed.
+	 * @param targetClass The class to transform to.
+	 * @param descriptor The descriptor to register.
+	 * @return The descriptor previously registered for the pair; <code>null</code> if there was none.
+	 */
+	public TransformationDescriptor register(Class<?> sourceClass, Class<?> targetClass, TransformationDescriptor descriptor)
+	{
+		ConcurrentMap<Class<?>, TransformationDescriptor> targets = descriptors.get(sourceClass);
+		if (targets == null)
+		{
+			ConcurrentMap<Class<?>, TransformationDescriptor> newTargets = new ConcurrentHashMap<>();
+			targets = descriptors.putIfAbsent(sourceClass, newTargets);
+			if (targets == null)
+			{
+				targets = newTargets;
+			}
+		}
+
+		return targets.put(targetClass, descriptor);
+	}
+
+	/**
+	 * Returns a snapshot of all registered descriptors.
+	 *
+	 * @return The list of registered descriptors.
+	 */
+	public List<TransformationDescriptor> getDescriptors()
+	{
+		List<TransformationDescriptor> result = new ArrayList<>();
+
+		for (ConcurrentMap<Class<?>, TransformationDescriptor> targets : descriptors.values())
+		{
+			result.addAll(targets.values());
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the number of registered descriptors.
+	 *
+	 * @return The number of registered descriptors.
+	 */
+	public int size()
+	{
+		int result = 0;
+
+		for (ConcurrentMap<Class<?>, TransformationDescriptor> targets : descriptors.values())
+		{
+			result += targets.size();
+		}
+
+		return result;
+	}
+
+	/**
+	 * Removes all registered descriptors.
+	 */
+	public void clear()
+	{
+		descriptors.clear();
+	}
+}
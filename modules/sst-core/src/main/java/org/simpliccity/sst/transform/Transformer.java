@@ -17,21 +17,59 @@
 package org.simpliccity.sst.transform;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.simpliccity.sst.bean.annotation.BeanAnnotationUtils;
 import org.simpliccity.sst.bean.lookup.BeanMetadataLookupManager;
 import org.simpliccity.sst.bean.lookup.namespace.BeanMetadataLookupNameMapper;
+import org.simpliccity.sst.config.startup.StartupPhase;
+import org.simpliccity.sst.config.startup.StartupProfiler;
 import org.simpliccity.sst.transform.annotation.Transformation;
 import org.simpliccity.sst.transform.annotation.TransformationAnnotationBeanNameGenerator;
 import org.simpliccity.sst.transform.annotation.TransformationBeanMetadataLookupContainer;
 import org.simpliccity.sst.transform.annotation.TransformationType;
+import org.simpliccity.sst.transform.cache.TransformationCache;
 import org.simpliccity.sst.transform.cache.TransformationCacheManager;
+import org.simpliccity.sst.transform.invoke.MethodHandleTransformationMethodInvokerFactory;
+import org.simpliccity.sst.transform.invoke.TransformationDispatcher;
+import org.simpliccity.sst.transform.invoke.TransformationDispatcherIndex;
+import org.simpliccity.sst.transform.invoke.TransformationMethodInvokerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.ListenableFutureTask;
+import org.springframework.util.concurrent.SettableListenableFuture;
 
 /**
  * <p>Main controller for the <code>transform</code> framework.  Manages the process of transforming between
@@ -74,6 +112,22 @@ import org.springframework.beans.factory.annotation.Autowired;
  * Global settings for caching are configured on the <code>Transformer</code> instance.  Transformation-specific settings
  * can be controlled using the {@link org.simpliccity.sst.transform.annotation.Transformation#cache()} attribute.</p>
  * 
+ * <p>When a transformation bean class has been compiled with 
+ * {@link org.simpliccity.sst.transform.processor.TransformationDispatcherProcessor} enabled (by passing the compiler
+ * option <code>-Asst.transform.dispatchers=true</code>), <code>Transformer</code> invokes the bean through
+ * the generated {@link TransformationDispatcher} rather than discovering its annotated methods by reflection.</p>
+ * 
+ * <p>Transformations are normally initialized the first time they are requested.  When {@link #setWarmUp(boolean) warm-up}
+ * is enabled, the transformations for all transformation beans in the application context are initialized as soon as
+ * the context is refreshed instead, so that the first requests after startup do not pay for their initialization.</p>
+ * 
+ * <p>Transformation beans that transform object graphs by calling <code>Transformer</code> recursively are protected
+ * against cycles.  <code>Transformer</code> tracks, by identity, the source objects whose transformations are in 
+ * progress on the current thread; a recursive request to transform one of them to the same target class returns the
+ * target registered for it with {@link #registerTarget(Object, Object)} rather than starting the transformation again.
+ * If no target has been registered, a {@link CyclicTransformationException} is thrown.  The tasks of parallel and 
+ * asynchronous transformations start from the transformations in progress on the thread that started them.</p>
+ * 
  * 
  * @author Kevin Fox
  * 
@@ -82,7 +136,7 @@ import org.springframework.beans.factory.annotation.Autowired;
  * @see org.simpliccity.sst.transform.cache.TransformationCacheManager
  *
  */
-public class Transformer
+public class Transformer implements ApplicationContextAware, ApplicationListener<ContextRefreshedEvent>, DisposableBean
 {
 	private Log logger = LogFactory.getLog(this.getClass());
 	
@@ -93,11 +147,39 @@ public class Transformer
 	
 	private TransformationCacheManager cacheManager;
 
+	private ApplicationContext context;
+	
 	private boolean surfaceExceptions;
+	
+	private TransformationMethodInvokerFactory invokerFactory = new MethodHandleTransformationMethodInvokerFactory();
+	
+	private ForkJoinPool parallelPool;
+	
+	private boolean ownsParallelPool;
+	
+	private int parallelThreshold = 64;
+	
+	private int streamChunkSize = 1000;
+	
+	private boolean warmUp;
 
 	private BeanMetadataLookupNameMapper nameMapper = new TransformationAnnotationBeanNameGenerator();
 	
-	private Map<String, TransformationDescriptor> transformations = new HashMap<>();
+	private TransformationRegistry transformations = new TransformationRegistry();
+	
+	private volatile TransformationDispatcherIndex dispatcherIndex;
+	
+	private ConcurrentMap<Set<Class<?>>, RelatedTransformationsLoader> loaders = new ConcurrentHashMap<>();
+	
+	private final Object poolLock = new Object();
+	
+	private ThreadLocal<InProgressTransformations> inProgress = new ThreadLocal<InProgressTransformations>()
+	{
+		@Override protected InProgressTransformations initialValue()
+		{
+			return new InProgressTransformations();
+		}
+	};
 	
 	/**
 	 * Returns the cache manager used by this class.
@@ -149,6 +231,273 @@ public class Transformer
 		this.surfaceExceptions = surfaceExceptions;
 	}
 
+	/**
+	 * Returns the factory used to bind the annotated methods of transformation beans to invokers.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return The active {@link TransformationMethodInvokerFactory}.
+	 */
+	public TransformationMethodInvokerFactory getInvokerFactory() 
+	{
+		return invokerFactory;
+	}
+
+	/**
+	 * Specifies the factory used to bind the annotated methods of transformation beans to invokers.  Unless
+	 * otherwise specified, an instance of {@link MethodHandleTransformationMethodInvokerFactory} is used.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param invokerFactory The {@link TransformationMethodInvokerFactory} to use for new transformations.
+	 */
+	public void setInvokerFactory(TransformationMethodInvokerFactory invokerFactory) 
+	{
+		this.invokerFactory = invokerFactory;
+	}
+
+	/**
+	 * Returns the pool used to perform parallel transformations.  Unless otherwise specified, a pool with 
+	 * parallelism equal to the number of available processors is created the first time it is needed; that pool
+	 * is shut down when the <code>Transformer</code> is {@link #destroy() destroyed}.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return The {@link ForkJoinPool} used by {@link #transformParallel(Collection, Class)}.
+	 */
+	public ForkJoinPool getParallelPool() 
+	{
+		synchronized (poolLock)
+		{
+			if (parallelPool == null)
+			{
+				parallelPool = new ForkJoinPool();
+				ownsParallelPool = true;
+			}
+			
+			return parallelPool;
+		}
+	}
+
+	/**
+	 * Specifies the pool used to perform parallel transformations.  A pool supplied this way remains the
+	 * responsibility of the caller and is not shut down by the <code>Transformer</code>.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param parallelPool The {@link ForkJoinPool} used by {@link #transformParallel(Collection, Class)}.
+	 */
+	public void setParallelPool(ForkJoinPool parallelPool) 
+	{
+		synchronized (poolLock)
+		{
+			shutdownParallelPool();
+			this.parallelPool = parallelPool;
+		}
+	}
+
+	/**
+	 * Returns the maximum number of elements transformed sequentially by a single task of a parallel 
+	 * transformation (<b>Default</b>: 64).
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return The number of elements below which a parallel transformation is no longer subdivided.
+	 */
+	public int getParallelThreshold() 
+	{
+		return parallelThreshold;
+	}
+
+	/**
+	 * Specifies the maximum number of elements transformed sequentially by a single task of a parallel 
+	 * transformation.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param parallelThreshold The number of elements below which a parallel transformation is no longer 
+	 * subdivided; must be at least 1.
+	 */
+	public void setParallelThreshold(int parallelThreshold) 
+	{
+		this.parallelThreshold = Math.max(1, parallelThreshold);
+	}
+
+	/**
+	 * Shuts down the pool used for parallel transformations if it was created by this <code>Transformer</code>.  
+	 * A pool supplied with {@link #setParallelPool(ForkJoinPool)} is left running.
+	 * 
+	 * @since 1.0.0
+	 */
+	@Override
+	public void destroy() 
+	{
+		synchronized (poolLock)
+		{
+			shutdownParallelPool();
+		}
+	}
+	
+	private void shutdownParallelPool()
+	{
+		// Only shut down a pool created by this instance
+		if (ownsParallelPool && parallelPool != null)
+		{
+			parallelPool.shutdown();
+		}
+		
+		parallelPool = null;
+		ownsParallelPool = false;
+	}
+
+	/**
+	 * Returns the number of elements transformed by a streaming transformation between flushes of the object 
+	 * cache (<b>Default</b>: 1000).
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return The default chunk size for {@link #transformIterator(Iterator, Class)}; <code>0</code> if the cache
+	 * is not flushed during streaming.
+	 */
+	public int getStreamChunkSize() 
+	{
+		return streamChunkSize;
+	}
+
+	/**
+	 * Specifies the number of elements transformed by a streaming transformation between flushes of the object 
+	 * cache.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param streamChunkSize The default chunk size for {@link #transformIterator(Iterator, Class)}; <code>0</code> 
+	 * to disable flushing during streaming.
+	 */
+	public void setStreamChunkSize(int streamChunkSize) 
+	{
+		this.streamChunkSize = Math.max(0, streamChunkSize);
+	}
+
+	/**
+	 * Indicates whether transformations are initialized eagerly when the application context is refreshed
+	 * (<b>Default</b>: <code>false</code>).
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return <code>true</code> if transformations are initialized at startup; <code>false</code> if they are
+	 * initialized on first use.
+	 */
+	public boolean isWarmUp() 
+	{
+		return warmUp;
+	}
+
+	/**
+	 * Specifies whether transformations are initialized eagerly when the application context is refreshed.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param warmUp <code>true</code> to initialize transformations at startup; <code>false</code> to initialize
+	 * them on first use.
+	 * 
+	 * @see #prepareTransformations(ListableBeanFactory)
+	 */
+	public void setWarmUp(boolean warmUp) 
+	{
+		this.warmUp = warmUp;
+	}
+
+	/**
+	 * Specifies the application context in which this <code>Transformer</code> is defined.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param applicationContext The {@link ApplicationContext} that created this bean.
+	 */
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException 
+	{
+		this.context = applicationContext;
+	}
+
+	/**
+	 * Initializes the transformations of the refreshed application context, if warm-up is enabled.  Only the refresh
+	 * of the context in which this <code>Transformer</code> is defined is handled; events published by child contexts
+	 * are ignored.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param event The event published when the application context is refreshed.
+	 * 
+	 * @see #setWarmUp(boolean)
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) 
+	{
+		// Ignore the refresh of any other (e.g. child) context
+		if (isWarmUp() && event.getApplicationContext() == context)
+		{
+			prepareTransformations(event.getApplicationContext());
+		}
+	}
+
+	/**
+	 * <p>Initializes, ahead of first use, the transformations for every transformation bean defined in the specified bean 
+	 * factory.  Each transformation bean is located through the same metadata lookup used by {@link #transform(Object, Class)}, 
+	 * and the descriptors for both directions of its source and target classes are registered.  Transformations that have
+	 * already been initialized are left unchanged.</p>
+	 * 
+	 * <p>Transformation beans are identified from their bean definitions, without creating any bean.  Prototype and 
+	 * lazily-initialized transformation beans are skipped, so that they are still created on first use.</p>
+	 * 
+	 * <p>A transformation that cannot be initialized is logged and skipped; the corresponding error will surface again if
+	 * the transformation is later requested.</p>
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param beanFactory The bean factory containing the transformation beans.
+	 * @return The number of source/target pairs prepared.
+	 */
+	public int prepareTransformations(ListableBeanFactory beanFactory)
+	{
+		long start = StartupProfiler.start();
+		int initialDescriptors = transformations.size();
+		
+		// Collect the distinct pairs declared by the transformation beans
+		Set<List<Class<?>>> pairs = new HashSet<>();
+		ConfigurableListableBeanFactory definitions = getConfigurableBeanFactory(beanFactory);
+		for (String beanName : beanFactory.getBeanNamesForAnnotation(Transformation.class))
+		{
+			if (isEagerSingleton(beanFactory, definitions, beanName))
+			{
+				Transformation annotation = beanFactory.findAnnotationOnBean(beanName, Transformation.class);
+				if (annotation != null)
+				{
+					pairs.add(Arrays.<Class<?>>asList(annotation.source(), annotation.target()));
+				}
+			}
+		}
+		
+		int result = 0;
+		for (List<Class<?>> pair : pairs)
+		{
+			try
+			{
+				getTransformation(pair.get(0), pair.get(1));
+				result++;
+			}
+			catch (RuntimeException e)
+			{
+				logger.warn("Unable to prepare transformation: source = " + pair.get(0).getName() + ", target = " + pair.get(1).getName() + ".", e);
+			}
+		}
+		
+		logger.info("Prepared " + result + " of " + pairs.size() + " transformation pairs (" + (transformations.size() - initialDescriptors) + " new descriptors).");
+		StartupProfiler.record(StartupPhase.TRANSFORMER_WARM_UP, getClass(), start);
+		
+		return result;
+	}
+
 	/**
 	 * A convenience method that performs the transformation without flushing the object cache.
 	 * 
@@ -206,7 +555,10 @@ public class Transformer
 			return null;
 		}
 		
-		logger.debug("Attempting to transform " + source + " to " + targetClass + " with cache flush required = " + forceFlush + ".");
+		if (logger.isDebugEnabled())
+		{
+			logger.debug("Attempting to transform " + source + " to " + targetClass + " with cache flush required = " + forceFlush + ".");
+		}
 		
 		T result = null;
 		
@@ -217,120 +569,711 @@ public class Transformer
 		
 		if (transform != null)
 		{
-			logger.debug("Found transformer bean class: [" + transform.getTransformationClassName() + "].");
+			if (logger.isDebugEnabled())
+			{
+				logger.debug("Found transformer bean class: [" + transform.getTransformationClassName() + "].");
+			}
 			
-			result = transform.performTransformation(source, targetClass, forceFlush);
+			result = performTracked(transform, source, targetClass, forceFlush);
 		}
 		
 		return result;
 	}
 
-	@SuppressWarnings("rawtypes")
-	private TransformationDescriptor getTransformation(Class sourceClass, Class targetClass)
+	/**
+	 * <p>Transforms each object in a collection to an instance of another type.  The result is equivalent to calling 
+	 * {@link #transform(Object, Class)} for each element in iteration order, with two differences:</p>
+	 * 
+	 * <ul>
+	 * <li>The transformation for each distinct source class is located once for the batch, rather than once per element.</li>
+	 * <li>All of the transformations share a single cache session (see {@link TransformationCacheManager#beginSession()}), 
+	 * so objects referenced from more than one element of a deep object graph are transformed only once.  Any flush 
+	 * required by the transformations is performed when the batch completes.</li>
+	 * </ul>
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param sources The instances to be transformed.
+	 * @param targetClass The class to transform to.
+	 * @param <T> The resulting type of the transformation.
+	 * @return A list containing the result of transforming each element, in iteration order; an element of the list is 
+	 * <code>null</code> if the corresponding source is <code>null</code> or cannot be transformed.  Returns <code>null</code> 
+	 * if <code>sources</code> is <code>null</code>.
+	 * @throws TransformationException if a transformation throws an exception and {@link #isSurfaceExceptions()}
+	 * is <code>true</code>.
+	 */
+	public <T> List<T> transformAll(Collection<?> sources, Class<T> targetClass)
 	{
-		// Get the transformation from the local cache
-		TransformationDescriptor result = getTransformationDescriptor(sourceClass, targetClass);
+		if (sources == null)
+		{
+			logger.debug("Source collection is null.  Nothing to transform.");
+			return null;
+		}
 		
-		// If none found (one time event),...
-		if (result == null)
+		if (logger.isDebugEnabled())
 		{
-			// ...initialize the set of related transformations...
-			loadRelatedTransformations(sourceClass, targetClass);
-			
-			// ...and try again
-			result = getTransformationDescriptor(sourceClass, targetClass);
+			logger.debug("Attempting to transform " + sources.size() + " objects to " + targetClass + ".");
+		}
+		
+		List<T> result = new ArrayList<>(sources.size());
+		
+		// Transformations located for this batch, by source class
+		Map<Class<?>, TransformationDescriptor> batchTransforms = new HashMap<>();
+		
+		cacheManager.beginSession();
+		try
+		{
+			for (Object source : sources)
+			{
+				result.add(transformElement(source, targetClass, batchTransforms));
+			}
+		}
+		finally
+		{
+			// Perform any flush deferred during the batch
+			cacheManager.endSession();
 		}
 		
 		return result;
 	}
 	
-	@SuppressWarnings("rawtypes")
-	private TransformationDescriptor getTransformationDescriptor(Class sourceClass, Class targetClass)
+	/**
+	 * Transforms each object in an array to an instance of another type.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param sources The instances to be transformed.
+	 * @param targetClass The class to transform to.
+	 * @param <T> The resulting type of the transformation.
+	 * @return A list containing the result of transforming each element, in array order; <code>null</code> if
+	 * <code>sources</code> is <code>null</code>.
+	 * @throws TransformationException if a transformation throws an exception and {@link #isSurfaceExceptions()}
+	 * is <code>true</code>.
+	 * 
+	 * @see #transformAll(Collection, Class)
+	 */
+	public <T> List<T> transformAll(Object[] sources, Class<T> targetClass)
 	{
-		// Retrieve from cache
-		String transformationName = generateTransformationName(sourceClass, targetClass);
-		
-		return transformations.get(transformationName);
+		return (sources == null) ? null : transformAll(Arrays.asList(sources), targetClass);
 	}
-	
-	@SuppressWarnings("rawtypes")
-	private String generateTransformationName(Class sourceClass, Class targetClass)
+
+	/**
+	 * <p>Transforms each object in a collection to an instance of another type, dividing the work among the
+	 * threads of the {@link #getParallelPool() parallel pool}.  The collection is split recursively until each 
+	 * task has no more than {@link #getParallelThreshold()} elements, which it transforms in the same way as 
+	 * {@link #transformAll(Collection, Class)}.</p>
+	 * 
+	 * <p>All of the tasks for the operation share a single, thread-safe cache created for the operation (see 
+	 * {@link TransformationCacheManager#beginSession(TransformationCache)}), so object identity is maintained 
+	 * across elements regardless of which thread transforms them.  The shared cache is discarded when the operation 
+	 * completes; results of a parallel transformation are not added to the configured cache.  When this method is 
+	 * called from a transformation bean that is itself part of a parallel transformation (e.g. to transform a 
+	 * collection of child objects), the new tasks join the enclosing operation and its cache.</p>
+	 * 
+	 * <p>Transformation beans used in a parallel transformation must be thread-safe.</p>
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param sources The instances to be transformed.
+	 * @param targetClass The class to transform to.
+	 * @param <T> The resulting type of the transformation.
+	 * @return A list containing the result of transforming each element, in iteration order; <code>null</code> if
+	 * <code>sources</code> is <code>null</code>.
+	 * @throws TransformationException if a transformation throws an exception and {@link #isSurfaceExceptions()}
+	 * is <code>true</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> List<T> transformParallel(Collection<?> sources, Class<T> targetClass)
 	{
-		// Setup the metadata
-		TransformationBeanMetadataLookupContainer container = new TransformationBeanMetadataLookupContainer();
-		container.setSource(sourceClass.getCanonicalName());
-		container.setTarget(targetClass.getCanonicalName());
+		if (sources == null)
+		{
+			logger.debug("Source collection is null.  Nothing to transform.");
+			return null;
+		}
 		
-		// Use the name mapper to build the name
-		return nameMapper.generateNameFromMetadata(container);		
-	}
-	
-	@SuppressWarnings("rawtypes")
-	private void loadRelatedTransformations(Class sourceClass, Class targetClass)
-	{
-		// Process any transformation found for the specified source, target
-		processTransformationProxy(sourceClass, targetClass);
+		// Tasks need random access to the sources
+		List<?> sourceList = (sources instanceof List && sources instanceof RandomAccess) ? (List<?>) sources : new ArrayList<>(sources);
+		Object[] targets = new Object[sourceList.size()];
 		
-		// Process the inverse transformation as well (might be bidirectional) - unnecessary if source and target are the same
-		if (!sourceClass.equals(targetClass))
+		// Join the operation (and cache) of an enclosing parallel transformation, if any; otherwise start a new one
+		TransformationCache sharedCache = getOperationCache();
+		
+		ForkJoinPool pool = getParallelPool();
+		ParallelTransformation task = new ParallelTransformation(sourceList, targetClass, targets, 0, targets.length, sharedCache, inProgress.get().copy());
+		
+		if (logger.isDebugEnabled())
 		{
-			processTransformationProxy(targetClass, sourceClass);
+			logger.debug("Attempting to transform " + targets.length + " objects to " + targetClass + " in parallel.");
 		}
 		
-		// Load a NOOP transformation for the specified source, target, if necessary
-		processGap(sourceClass, targetClass);
-		
-		// Load a NOOP transformation for the inverse, if necessary - skip if source and target are the same
-		if (!sourceClass.equals(targetClass))
+		if (ForkJoinTask.getPool() == pool)
 		{
-			processGap(targetClass, sourceClass);
+			// Already running in the pool, so perform the work (and any forked tasks) from here
+			task.invoke();
+		}
+		else
+		{
+			pool.invoke(task);
 		}
+		
+		return (List<T>) Arrays.asList(targets);
 	}
 	
-	@SuppressWarnings("rawtypes")
-	private void processTransformationProxy(Class sourceClass, Class targetClass)
+	/**
+	 * Transforms each object in an array to an instance of another type in parallel.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param sources The instances to be transformed.
+	 * @param targetClass The class to transform to.
+	 * @param <T> The resulting type of the transformation.
+	 * @return A list containing the result of transforming each element, in array order; <code>null</code> if
+	 * <code>sources</code> is <code>null</code>.
+	 * @throws TransformationException if a transformation throws an exception and {@link #isSurfaceExceptions()}
+	 * is <code>true</code>.
+	 * 
+	 * @see #transformParallel(Collection, Class)
+	 */
+	public <T> List<T> transformParallel(Object[] sources, Class<T> targetClass)
 	{
-		// Get the transformation for the specified source, target
-		TransformationProxy proxy = getTransformationProxy(sourceClass, targetClass);
-		
-		// If one is available...
-		if (proxy != null)
-		{
-			// ...determine which direction it applies, ...
+		return (sources == null) ? null : transformParallel(Arrays.asList(sources), targetClass);
+	}
+
+	/**
+	 * <p>Transforms an object to an instance of another type on a thread supplied by an {@link Executor}, so that
+	 * the caller is not blocked by transformation beans that perform I/O.  The transformation uses the cache of
+	 * the operation in progress on the calling thread, if any (see {@link TransformationCacheManager#getSharedCache()}); 
+	 * otherwise, it uses a new thread-safe cache created for the call.</p>
+	 * 
+	 * <p>Since cache sessions are bound to threads, the cache must be passed to the executing thread explicitly.
+	 * To have several asynchronous transformations share cached objects, create a cache with 
+	 * {@link TransformationCacheManager#createSharedCache()} and pass it to
+	 * {@link #transformAsync(Object, Class, Executor, TransformationCache)}.</p>
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param source The instance to be transformed.
+	 * @param targetClass The class to transform to.
+	 * @param executor The executor used to perform the transformation.
+	 * @param <T> The resulting type of the transformation.
+	 * @return A future for the transformed instance.  The future completes with a {@link TransformationException} if 
+	 * a transformation throws an exception and {@link #isSurfaceExceptions()} is <code>true</code>.
+	 */
+	public <T> ListenableFuture<T> transformAsync(Object source, Class<T> targetClass, Executor executor)
+	{
+		return transformAsync(source, targetClass, executor, getOperationCache());
+	}
+	
+	/**
+	 * <p>Transforms an object to an instance of another type on a thread supplied by an {@link Executor}, within a 
+	 * cache session for the specified cache (see {@link TransformationCacheManager#beginSession(TransformationCache)}).
+	 * Transformations that are given the same cache share cached objects, and therefore object identity, even when 
+	 * they run concurrently on different threads.  The cache is never flushed by the transformation; it is up to the 
+	 * caller to discard it.</p>
+	 * 
+	 * <p>Transformation beans used in an asynchronous transformation must be thread-safe.</p>
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param source The instance to be transformed.
+	 * @param targetClass The class to transform to.
+	 * @param executor The executor used to perform the transformation.
+	 * @param sharedCache The thread-safe cache used by the transformation; <code>null</code> to use the configured
+	 * cache of the executing thread.
+	 * @param <T> The resulting type of the transformation.
+	 * @return A future for the transformed instance.  The future completes with a {@link TransformationException} if 
+	 * a transformation throws an exception and {@link #isSurfaceExceptions()} is <code>true</code>.
+	 */
+	public <T> ListenableFuture<T> transformAsync(Object source, Class<T> targetClass, Executor executor, TransformationCache sharedCache)
+	{
+		ListenableFutureTask<T> result = new ListenableFutureTask<>(new AsyncTransformation<>(source, targetClass, sharedCache, inProgress.get().copy()));
+		executor.execute(result);
+		
+		return result;
+	}
+	
+	/**
+	 * Transforms each object in a collection to an instance of another type asynchronously, using the cache of the 
+	 * operation in progress on the calling thread or, if there is none, a new thread-safe cache created for the batch.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param sources The instances to be transformed.
+	 * @param targetClass The class to transform to.
+	 * @param executor The executor used to perform the transformations.
+	 * @param <T> The resulting type of the transformation.
+	 * @return A future for the list of transformed instances.
+	 * 
+	 * @see #transformAllAsync(Collection, Class, Executor, TransformationCache)
+	 */
+	public <T> ListenableFuture<List<T>> transformAllAsync(Collection<?> sources, Class<T> targetClass, Executor executor)
+	{
+		return transformAllAsync(sources, targetClass, executor, getOperationCache());
+	}
+	
+	/**
+	 * <p>Transforms each object in a collection to an instance of another type asynchronously.  Each element is 
+	 * submitted to the executor as a separate task, so the transformations of different elements may overlap.  All 
+	 * of the tasks share the specified cache, so objects referenced from more than one element are still transformed
+	 * only once.</p>
+	 * 
+	 * <p>The returned future completes when every element has been transformed.  If any element fails, the future
+	 * completes with the first failure reported.</p>
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param sources The instances to be transformed.
+	 * @param targetClass The class to transform to.
+	 * @param executor The executor used to perform the transformations.
+	 * @param sharedCache The thread-safe cache used by the transformations; <code>null</code> to use the configured
+	 * cache of each executing thread.
+	 * @param <T> The resulting type of the transformation.
+	 * @return A future for a list containing the result of transforming each element, in iteration order; the future 
+	 * completes with <code>null</code> if <code>sources</code> is <code>null</code>.
+	 * 
+	 * @see #transformAsync(Object, Class, Executor, TransformationCache)
+	 */
+	public <T> ListenableFuture<List<T>> transformAllAsync(Collection<?> sources, Class<T> targetClass, Executor executor, TransformationCache sharedCache)
+	{
+		SettableListenableFuture<List<T>> result = new SettableListenableFuture<>();
+		
+		if (sources == null)
+		{
+			logger.debug("Source collection is null.  Nothing to transform.");
+			result.set(null);
+		}
+		else
+		{
+			if (logger.isDebugEnabled())
+			{
+				logger.debug("Attempting to transform " + sources.size() + " objects to " + targetClass + " asynchronously.");
+			}
+			
+			AsyncBatchTransformation<T> batch = new AsyncBatchTransformation<>(result, sources.size());
+			
+			int index = 0;
+			for (Object source : sources)
+			{
+				transformAsync(source, targetClass, executor, sharedCache).addCallback(batch.getElementCallback(index++));
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Transforms each object in an array to an instance of another type asynchronously.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param sources The instances to be transformed.
+	 * @param targetClass The class to transform to.
+	 * @param executor The executor used to perform the transformations.
+	 * @param <T> The resulting type of the transformation.
+	 * @return A future for the list of transformed instances, in array order.
+	 * 
+	 * @see #transformAllAsync(Collection, Class, Executor)
+	 */
+	public <T> ListenableFuture<List<T>> transformAllAsync(Object[] sources, Class<T> targetClass, Executor executor)
+	{
+		return transformAllAsync((sources == null) ? null : Arrays.asList(sources), targetClass, executor);
+	}
+
+	/**
+	 * A convenience method that lazily transforms the elements of an iterator using the default 
+	 * {@link #getStreamChunkSize() chunk size}.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param sources The instances to be transformed.
+	 * @param targetClass The class to transform to.
+	 * @param <T> The resulting type of the transformation.
+	 * @return An iterator over the transformed instances.
+	 * 
+	 * @see #transformIterator(Iterator, Class, int)
+	 */
+	public <T> Iterator<T> transformIterator(Iterator<?> sources, Class<T> targetClass)
+	{
+		return transformIterator(sources, targetClass, getStreamChunkSize());
+	}
+	
+	/**
+	 * <p>Lazily transforms the elements of an iterator.  Each source element is transformed, in the same way as by
+	 * {@link #transformAll(Collection, Class)}, only when the corresponding target is requested from the returned
+	 * iterator, so neither the sources nor the targets need to be held in memory at once.</p>
+	 * 
+	 * <p>The elements are transformed in a cache session (see {@link TransformationCacheManager#beginSession(TransformationCache)})
+	 * whose shared cache belongs to the returned iterator, so the global or thread-local cache of the caller is neither 
+	 * used nor flushed.  To keep the stream's cache from growing without bound, it is flushed after every 
+	 * <code>chunkSize</code> elements and discarded when the sources are exhausted.  Object identity is therefore 
+	 * maintained within a chunk, but not across chunks.  The returned iterator should be consumed by a single 
+	 * thread.</p>
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param sources The instances to be transformed.
+	 * @param targetClass The class to transform to.
+	 * @param chunkSize The number of elements transformed between cache flushes; <code>0</code> to disable flushing.
+	 * @param <T> The resulting type of the transformation.
+	 * @return An iterator over the transformed instances; an element is <code>null</code> if the corresponding source 
+	 * is <code>null</code> or cannot be transformed.  The iterator does not support {@link Iterator#remove()}.
+	 * @throws TransformationException (from the returned iterator) if a transformation throws an exception and 
+	 * {@link #isSurfaceExceptions()} is <code>true</code>.
+	 */
+	public <T> Iterator<T> transformIterator(Iterator<?> sources, Class<T> targetClass, int chunkSize)
+	{
+		return new StreamingTransformation<>(sources, targetClass, chunkSize);
+	}
+	
+	/**
+	 * Returns a view of an {@link Iterable} whose iterators lazily transform the source elements using the default
+	 * {@link #getStreamChunkSize() chunk size}.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param sources The instances to be transformed.
+	 * @param targetClass The class to transform to.
+	 * @param <T> The resulting type of the transformation.
+	 * @return An iterable over the transformed instances.
+	 * 
+	 * @see #transformIterator(Iterator, Class, int)
+	 */
+	public <T> Iterable<T> transformIterable(final Iterable<?> sources, final Class<T> targetClass)
+	{
+		return new Iterable<T>()
+		{
+			@Override
+			public Iterator<T> iterator() 
+			{
+				return transformIterator(sources.iterator(), targetClass);
+			}
+		};
+	}
+
+	/**
+	 * <p>Registers the target of a transformation in progress on the current thread, so that references back to the
+	 * source object encountered while the transformation completes (e.g. from the children of a parent object in a 
+	 * bidirectional association) are resolved to the same target instance.  A transformation bean that transforms a 
+	 * cyclic graph calls this method as soon as it has created its target, before transforming any associated objects:</p>
+	 * 
+	 * <pre>
+	 * &#64;OutTransform
+	 * public ParentResult buildResult(Parent input)
+	 * {
+	 *     ParentResult result = new ParentResult();
+	 *     transformer.registerTarget(input, result);
+	 *     
+	 *     result.setChildren(transformer.transformAll(input.getChildren(), ChildResult.class));
+	 *     return result;
+	 * }
+	 * </pre>
+	 * 
+	 * <p>The registration ends when the transformation of the source object completes.  If the source object is not
+	 * being transformed on the current thread, this method has no effect.</p>
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param source The object being transformed.
+	 * @param target The (possibly incomplete) result of transforming the source object.
+	 * @return <code>true</code> if the target was registered; <code>false</code> if no transformation of the source 
+	 * object is in progress on the current thread.
+	 */
+	public boolean registerTarget(Object source, Object target)
+	{
+		return inProgress.get().registerTarget(source, target);
+	}
+	
+	/**
+	 * Returns the registry of transformation descriptors initialized by this transformer.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return The {@link TransformationRegistry} used to locate transformations by source and target class.
+	 */
+	public TransformationRegistry getTransformations()
+	{
+		return transformations;
+	}
+
+	/**
+	 * Returns the index of dispatchers generated at compile time for transformation beans.  The index is 
+	 * loaded from the class path the first time it is needed.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return The {@link TransformationDispatcherIndex} used to locate generated dispatchers.
+	 */
+	public TransformationDispatcherIndex getDispatcherIndex()
+	{
+		TransformationDispatcherIndex result = dispatcherIndex;
+		
+		// Concurrent first uses may each load the index; they are equivalent, so the last one loaded is kept
+		if (result == null)
+		{
+			result = TransformationDispatcherIndex.load(ClassUtils.getDefaultClassLoader());
+			dispatcherIndex = result;
+		}
+		
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T performTracked(TransformationDescriptor transform, Object source, Class<T> targetClass, boolean forceFlush)
+	{
+		InProgressTransformations tracker = inProgress.get();
+		
+		// A source that is already being transformed to the same class has been reached through a cycle
+		if (tracker.isInProgress(source, targetClass))
+		{
+			Object target = tracker.getTarget(source);
+			if (!targetClass.isInstance(target))
+			{
+				throw new CyclicTransformationException("Cycle detected while transforming source type [" + source.getClass().getName() + "] to target type [" + targetClass.getName() + "], but no target has been registered.  Call Transformer.registerTarget() from the transformation method before transforming the objects that refer back to its source.");
+			}
+			
+			if (logger.isDebugEnabled())
+			{
+				logger.debug("Cycle detected for " + source + ".  Using registered target: " + target + ".");
+			}
+			
+			return (T) target;
+		}
+		
+		Object previous = tracker.begin(source, targetClass);
+		try
+		{
+			return transform.performTransformation(source, targetClass, forceFlush);
+		}
+		finally
+		{
+			tracker.end(source, previous);
+		}
+	}
+	
+	private InProgressTransformations beginTask(InProgressTransformations origin)
+	{
+		// Give the task its own copy of the transformations in progress where the operation started, since 
+		// the thread running it may be running (or waiting on) unrelated transformations
+		InProgressTransformations previous = inProgress.get();
+		inProgress.set(origin.copy());
+		
+		return previous;
+	}
+	
+	private void endTask(InProgressTransformations previous)
+	{
+		inProgress.set(previous);
+	}
+	
+	private TransformationCache getOperationCache()
+	{
+		// Join the operation (and cache) in progress on the calling thread, if any; otherwise start a new one
+		TransformationCache result = cacheManager.getSharedCache();
+		if (result == null)
+		{
+			result = cacheManager.createSharedCache();
+		}
+		
+		return result;
+	}
+	
+	private <T> T transformElement(Object source, Class<T> targetClass, Map<Class<?>, TransformationDescriptor> batchTransforms)
+	{
+		T result = null;
+		
+		if (source != null)
+		{
+			Class<?> sourceClass = source.getClass();
+			
+			// Locate the transformation once per source class for the batch
+			TransformationDescriptor transform = batchTransforms.get(sourceClass);
+			if (transform == null)
+			{
+				transform = getTransformation(sourceClass, targetClass);
+				batchTransforms.put(sourceClass, transform);
+			}
+			
+			if (transform != null)
+			{
+				result = performTracked(transform, source, targetClass, false);
+			}
+		}
+		
+		return result;
+	}
+	
+	private ConfigurableListableBeanFactory getConfigurableBeanFactory(ListableBeanFactory beanFactory)
+	{
+		ConfigurableListableBeanFactory result = null;
+		
+		if (beanFactory instanceof ConfigurableApplicationContext)
+		{
+			result = ((ConfigurableApplicationContext) beanFactory).getBeanFactory();
+		}
+		else if (beanFactory instanceof ConfigurableListableBeanFactory)
+		{
+			result = (ConfigurableListableBeanFactory) beanFactory;
+		}
+		
+		return result;
+	}
+	
+	private boolean isEagerSingleton(ListableBeanFactory beanFactory, ConfigurableListableBeanFactory definitions, String beanName)
+	{
+		// Prototype and lazily-initialized beans are left to be created on first use
+		boolean result = beanFactory.isSingleton(beanName);
+		
+		if (result && definitions != null && definitions.containsBeanDefinition(beanName))
+		{
+			result = !definitions.getBeanDefinition(beanName).isLazyInit();
+		}
+		
+		return result;
+	}
+	
+	@SuppressWarnings("rawtypes")
+	private TransformationDescriptor getTransformation(Class sourceClass, Class targetClass)
+	{
+		// Get the transformation from the registry (no locking or name generation required)
+		TransformationDescriptor result = transformations.get(sourceClass, targetClass);
+		
+		// If none found (one time event),...
+		if (result == null)
+		{
+			// ...initialize the set of related transformations...
+			initializeRelatedTransformations(sourceClass, targetClass);
+			
+			// ...and try again
+			result = transformations.get(sourceClass, targetClass);
+		}
+		
+		return result;
+	}
+	
+	private void initializeRelatedTransformations(final Class<?> sourceClass, final Class<?> targetClass)
+	{
+		// The related transformations are the same in both directions, so the pair is unordered
+		Set<Class<?>> pair = new HashSet<Class<?>>(Arrays.<Class<?>>asList(sourceClass, targetClass));
+		
+		// Only one thread loads each pair; no lock is held while the transformation beans are retrieved, since
+		// their creation may itself require transformations
+		RelatedTransformationsLoader loader = new RelatedTransformationsLoader(new Callable<Void>()
+		{
+			@Override
+			public Void call()
+			{
+				// Another loader may have completed the pair since it was found missing
+				if (!transformations.contains(sourceClass, targetClass))
+				{
+					loadRelatedTransformations(sourceClass, targetClass);
+				}
+				
+				return null;
+			}
+		});
+		RelatedTransformationsLoader existing = loaders.putIfAbsent(pair, loader);
+		if (existing == null)
+		{
+			try
+			{
+				loader.run();
+			}
+			finally
+			{
+				loaders.remove(pair, loader);
+			}
+			
+			loader.await();
+		}
+		else if (existing.isLoadingThread())
+		{
+			// A transformation bean being created while loading the pair needs one of its transformations
+			loadRelatedTransformations(sourceClass, targetClass);
+		}
+		else
+		{
+			existing.await();
+		}
+	}
+	
+	@SuppressWarnings("rawtypes")
+	private String generateTransformationName(Class sourceClass, Class targetClass)
+	{
+		// Setup the metadata
+		TransformationBeanMetadataLookupContainer container = new TransformationBeanMetadataLookupContainer();
+		container.setSource(sourceClass.getCanonicalName());
+		container.setTarget(targetClass.getCanonicalName());
+		
+		// Use the name mapper to build the name
+		return nameMapper.generateNameFromMetadata(container);		
+	}
+	
+	@SuppressWarnings("rawtypes")
+	private void loadRelatedTransformations(Class sourceClass, Class targetClass)
+	{
+		// Process any transformation found for the specified source, target
+		processTransformationProxy(sourceClass, targetClass);
+		
+		// Process the inverse transformation as well (might be bidirectional) - unnecessary if source and target are the same
+		if (!sourceClass.equals(targetClass))
+		{
+			processTransformationProxy(targetClass, sourceClass);
+		}
+		
+		// Load a NOOP transformation for the specified source, target, if necessary
+		processGap(sourceClass, targetClass);
+		
+		// Load a NOOP transformation for the inverse, if necessary - skip if source and target are the same
+		if (!sourceClass.equals(targetClass))
+		{
+			processGap(targetClass, sourceClass);
+		}
+	}
+	
+	@SuppressWarnings("rawtypes")
+	private void processTransformationProxy(Class sourceClass, Class targetClass)
+	{
+		// Get the transformation for the specified source, target
+		TransformationProxy proxy = getTransformationProxy(sourceClass, targetClass);
+		
+		// If one is available...
+		if (proxy != null)
+		{
+			// ...determine which direction it applies, ...
 			Transformation annotation = BeanAnnotationUtils.getAnnotationFromInstance(Transformation.class, proxy.getTransformer());
 			TransformationType type = annotation.direction();
 			
-			// ...create appropriate descriptors,...
-			List<TransformationDescriptor> transforms = new ArrayList<>();
+			// ...create appropriate descriptors and add them to the registry.
 			switch (type)
 			{
 				case OUT:
 					// Specified source, target only
-					transforms.add(new TransformationDescriptor(generateTransformationName(sourceClass, targetClass), proxy, TransformationType.OUT));
+					registerDescriptor(sourceClass, targetClass, proxy, TransformationType.OUT);
 					break;
 				case IN:
 					// Inverse only
-					transforms.add(new TransformationDescriptor(generateTransformationName(targetClass, sourceClass), proxy, TransformationType.IN));
+					registerDescriptor(targetClass, sourceClass, proxy, TransformationType.IN);
 					break;
 				case BIDIRECTIONAL:
 					// Specified and inverse
-					transforms.add(new TransformationDescriptor(generateTransformationName(sourceClass, targetClass), proxy, TransformationType.OUT));
-					transforms.add(new TransformationDescriptor(generateTransformationName(targetClass, sourceClass), proxy, TransformationType.IN));
+					registerDescriptor(sourceClass, targetClass, proxy, TransformationType.OUT);
+					registerDescriptor(targetClass, sourceClass, proxy, TransformationType.IN);
 					break;
 				default:
 					break;
 			}
 			
-			// ...and add them to the cache.
-			for (TransformationDescriptor transform : transforms)
-			{
-				transformations.put(transform.getName(), transform);
-			}
-			
 			logger.debug("Initialized transformation [" + proxy.getTransformer().getClass().getName() + "]: source = " + sourceClass.getName() + ", target = " + targetClass.getName() + ", direction = " + type);
 		}
 	}
 	
+	@SuppressWarnings("rawtypes")
+	private void registerDescriptor(Class sourceClass, Class targetClass, TransformationProxy proxy, TransformationType direction)
+	{
+		// The descriptor name is only generated once, when the descriptor is registered
+		transformations.register(sourceClass, targetClass, new TransformationDescriptor(generateTransformationName(sourceClass, targetClass), proxy, direction));
+	}
+	
 	@SuppressWarnings("rawtypes")
 	private TransformationProxy getTransformationProxy(Class sourceClass, Class targetClass)
 	{
@@ -349,8 +1292,18 @@ public class Transformer
 		// ...and create a proxy from it.
 		if (bean != null)
 		{
-			result = new TransformationProxy(cacheManager, bean, isSurfaceExceptions());
-			logger.debug("Created new transformation proxy from transformation bean [" + bean.getClass().getName() + "].");
+			// Prefer a dispatcher generated for the bean class, if one is available
+			TransformationDispatcher dispatcher = getDispatcherIndex().getDispatcher(ClassUtils.getUserClass(bean));
+			if (dispatcher != null && dispatcher.getTransformerClass().isInstance(bean))
+			{
+				result = new TransformationProxy(cacheManager, bean, isSurfaceExceptions(), dispatcher);
+				logger.debug("Created new transformation proxy from transformation bean [" + bean.getClass().getName() + "] using generated dispatcher.");
+			}
+			else
+			{
+				result = new TransformationProxy(cacheManager, bean, isSurfaceExceptions(), getInvokerFactory());
+				logger.debug("Created new transformation proxy from transformation bean [" + bean.getClass().getName() + "].");
+			}
 		}
 		
 		return result;
@@ -360,14 +1313,397 @@ public class Transformer
 	private void processGap(Class sourceClass, Class targetClass)
 	{
 		// Check to see whether a descriptor already exists for this source, target
-		if (getTransformationDescriptor(sourceClass, targetClass) == null)
+		if (!transformations.contains(sourceClass, targetClass))
+		{
+			// If not, register a NOOP descriptor
+			registerDescriptor(sourceClass, targetClass, null, TransformationType.NONE);
+		}
+	}
+	
+	/**
+	 * A task that transforms a range of elements of a parallel transformation, subdividing the range
+	 * until it is no larger than the configured threshold.
+	 */
+	@SuppressWarnings("serial")
+	private class ParallelTransformation extends RecursiveAction
+	{
+		private List<?> sources;
+		private Class<?> targetClass;
+		private Object[] targets;
+		private int start;
+		private int end;
+		private TransformationCache sharedCache;
+		private InProgressTransformations origin;
+		
+		private ParallelTransformation(List<?> sources, Class<?> targetClass, Object[] targets, int start, int end, TransformationCache sharedCache, InProgressTransformations origin)
+		{
+			this.sources = sources;
+			this.targetClass = targetClass;
+			this.targets = targets;
+			this.start = start;
+			this.end = end;
+			this.sharedCache = sharedCache;
+			this.origin = origin;
+		}
+
+		@Override
+		protected void compute() 
+		{
+			if (end - start <= getParallelThreshold())
+			{
+				Map<Class<?>, TransformationDescriptor> batchTransforms = new HashMap<>();
+				
+				// Use the cache shared by the operation, whichever thread runs this task
+				InProgressTransformations previous = beginTask(origin);
+				cacheManager.beginSession(sharedCache);
+				try
+				{
+					for (int i = start; i < end; i++)
+					{
+						targets[i] = transformElement(sources.get(i), targetClass, batchTransforms);
+					}
+				}
+				finally
+				{
+					cacheManager.endSession();
+					endTask(previous);
+				}
+			}
+			else
+			{
+				int middle = (start + end) >>> 1;
+				invokeAll(new ParallelTransformation(sources, targetClass, targets, start, middle, sharedCache, origin), 
+						new ParallelTransformation(sources, targetClass, targets, middle, end, sharedCache, origin));
+			}
+		}
+	}
+	
+	/**
+	 * The source objects whose transformations are in progress on a thread, compared by identity.  Identity maps
+	 * use open addressing, so tracking a transformation does not allocate once the maps have grown to the depth of
+	 * the graphs being transformed.
+	 */
+	private static class InProgressTransformations
+	{
+		// Target class of the innermost transformation in progress for each source
+		private IdentityHashMap<Object, Class<?>> targetClasses = new IdentityHashMap<>();
+		
+		// Targets registered by transformations in progress
+		private IdentityHashMap<Object, Object> targets = new IdentityHashMap<>();
+		
+		private boolean isInProgress(Object source, Class<?> targetClass)
+		{
+			return targetClasses.get(source) == targetClass;
+		}
+		
+		private Object getTarget(Object source)
+		{
+			return targets.get(source);
+		}
+		
+		private Object begin(Object source, Class<?> targetClass)
+		{
+			return targetClasses.put(source, targetClass);
+		}
+		
+		private void end(Object source, Object previous)
+		{
+			// Restore the enclosing transformation of the same source (to a different class), if any
+			if (previous == null)
+			{
+				targetClasses.remove(source);
+				targets.remove(source);
+			}
+			else
+			{
+				targetClasses.put(source, (Class<?>) previous);
+			}
+		}
+		
+		private boolean registerTarget(Object source, Object target)
+		{
+			boolean result = targetClasses.containsKey(source);
+			if (result)
+			{
+				targets.put(source, target);
+			}
+			
+			return result;
+		}
+		
+		private InProgressTransformations copy()
 		{
-			// If not, create a NOOP descritor...
-			String transformName = generateTransformationName(sourceClass, targetClass);
-			TransformationDescriptor noopDescriptor = new TransformationDescriptor(transformName, null, TransformationType.NONE);
+			InProgressTransformations result = new InProgressTransformations();
+			result.targetClasses.putAll(targetClasses);
+			result.targets.putAll(targets);
 			
-			// ...and add it to the cache
-			transformations.put(transformName, noopDescriptor);
+			return result;
+		}
+	}
+	
+	/**
+	 * A task that performs a single asynchronous transformation within a cache session for
+	 * the cache passed from the calling thread.
+	 */
+	private class AsyncTransformation<T> implements Callable<T>
+	{
+		private Object source;
+		private Class<T> targetClass;
+		private TransformationCache sharedCache;
+		private InProgressTransformations origin;
+		
+		private AsyncTransformation(Object source, Class<T> targetClass, TransformationCache sharedCache, InProgressTransformations origin)
+		{
+			this.source = source;
+			this.targetClass = targetClass;
+			this.sharedCache = sharedCache;
+			this.origin = origin;
+		}
+
+		@Override
+		public T call() 
+		{
+			InProgressTransformations previous = beginTask(origin);
+			try
+			{
+				if (sharedCache == null)
+				{
+					return transform(source, targetClass);
+				}
+				
+				cacheManager.beginSession(sharedCache);
+				try
+				{
+					return transform(source, targetClass);
+				}
+				finally
+				{
+					cacheManager.endSession();
+				}
+			}
+			finally
+			{
+				endTask(previous);
+			}
+		}
+	}
+	
+	/**
+	 * Loads the transformations related to a pair of classes on behalf of every thread that requests
+	 * them at the same time.
+	 */
+	private static class RelatedTransformationsLoader extends FutureTask<Void>
+	{
+		private volatile Thread loadingThread;
+		
+		private RelatedTransformationsLoader(Callable<Void> load)
+		{
+			super(load);
+		}
+		
+		@Override
+		public void run()
+		{
+			loadingThread = Thread.currentThread();
+			try
+			{
+				super.run();
+			}
+			finally
+			{
+				loadingThread = null;
+			}
+		}
+		
+		private boolean isLoadingThread()
+		{
+			return loadingThread == Thread.currentThread();
+		}
+		
+		private void await()
+		{
+			boolean interrupted = false;
+			try
+			{
+				while (true)
+				{
+					try
+					{
+						get();
+						return;
+					}
+					catch (InterruptedException e)
+					{
+						// Keep waiting, since the transformation cannot be performed until the pair is loaded
+						interrupted = true;
+					}
+				}
+			}
+			catch (ExecutionException e)
+			{
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException)
+				{
+					throw (RuntimeException) cause;
+				}
+				else if (cause instanceof Error)
+				{
+					throw (Error) cause;
+				}
+				else
+				{
+					throw new IllegalStateException("Unable to load transformations.", cause);
+				}
+			}
+			finally
+			{
+				if (interrupted)
+				{
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Collects the results of the element transformations of an asynchronous batch, completing
+	 * the future for the batch once all of them have finished.
+	 */
+	private static class AsyncBatchTransformation<T>
+	{
+		private SettableListenableFuture<List<T>> future;
+		private Object[] targets;
+		private AtomicInteger remaining;
+		
+		private AsyncBatchTransformation(SettableListenableFuture<List<T>> future, int size)
+		{
+			this.future = future;
+			this.targets = new Object[size];
+			this.remaining = new AtomicInteger(size);
+			
+			if (size == 0)
+			{
+				complete();
+			}
+		}
+		
+		private ListenableFutureCallback<T> getElementCallback(final int index)
+		{
+			return new ListenableFutureCallback<T>()
+			{
+				@Override
+				public void onSuccess(T result) 
+				{
+					targets[index] = result;
+					
+					// The atomic decrement publishes the stored result to the thread that completes the batch
+					if (remaining.decrementAndGet() == 0)
+					{
+						complete();
+					}
+				}
+
+				@Override
+				public void onFailure(Throwable ex) 
+				{
+					// Only the first failure is reported
+					future.setException(ex);
+				}
+			};
+		}
+		
+		@SuppressWarnings("unchecked")
+		private void complete()
+		{
+			future.set((List<T>) Arrays.asList(targets));
+		}
+	}
+	
+	/**
+	 * An iterator that transforms each source element on demand in a cache session of its own, flushing 
+	 * the session cache at chunk boundaries.
+	 */
+	private class StreamingTransformation<T> implements Iterator<T>
+	{
+		private Iterator<?> sources;
+		private Class<T> targetClass;
+		private int chunkSize;
+		private int chunkCount;
+		private TransformationCache streamCache;
+		private Map<Class<?>, TransformationDescriptor> streamTransforms = new HashMap<>();
+		
+		private StreamingTransformation(Iterator<?> sources, Class<T> targetClass, int chunkSize)
+		{
+			this.sources = sources;
+			this.targetClass = targetClass;
+			this.chunkSize = chunkSize;
+			this.streamCache = cacheManager.createSharedCache();
+		}
+
+		@Override
+		public boolean hasNext() 
+		{
+			boolean result = sources.hasNext();
+			
+			// Release the cached objects for the final chunk once the sources are exhausted
+			if (!result && streamCache != null)
+			{
+				flushStreamCache();
+				streamCache = null;
+			}
+			
+			return result;
+		}
+
+		@Override
+		public T next() 
+		{
+			Object source = sources.next();
+			
+			// Transform the element in the stream's own session so that the caller's cache is left untouched
+			T result;
+			cacheManager.beginSession(streamCache);
+			try
+			{
+				result = transformElement(source, targetClass, streamTransforms);
+			}
+			finally
+			{
+				cacheManager.endSession();
+			}
+			
+			chunkCount++;
+			if (chunkSize > 0 && chunkCount == chunkSize)
+			{
+				logger.debug("Flushing stream cache at chunk boundary.");
+				flushStreamCache();
+				chunkCount = 0;
+			}
+			
+			return result;
+		}
+		
+		private void flushStreamCache()
+		{
+			// Without a cache of its own (caching disabled) there is nothing to flush
+			if (streamCache != null)
+			{
+				cacheManager.beginSession(streamCache);
+				try
+				{
+					cacheManager.flushCache();
+				}
+				finally
+				{
+					cacheManager.endSession();
+				}
+			}
+		}
+
+		@Override
+		public void remove() 
+		{
+			throw new UnsupportedOperationException("Streaming transformation does not support removal.");
 		}
 	}
 }
@@ -100,4 +100,15 @@ public @interface Transformation
 	 * mode that applies to this transformation.
 	 */
 	TransformationCacheMode cache() default TransformationCacheMode.DEFAULT;
+	
+	/**
+	 * Specifies how cached results of this transformation are keyed when the transformation does not provide
+	 * a cache index method.  This setting overrides the default cache key type of the 
+	 * {@link org.simpliccity.sst.transform.cache.TransformationCacheManager}.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return A constant of the {@link TransformationCacheKey} enum designating how source objects are keyed.
+	 */
+	TransformationCacheKey cacheKey() default TransformationCacheKey.DEFAULT;
 }
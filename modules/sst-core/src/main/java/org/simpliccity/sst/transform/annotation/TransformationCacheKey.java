@@ -0,0 +1,44 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.annotation;
+
+/**
+ * <p>The available ways of keying cached objects when a transformation does not specify a cache index method.
+ * Used in the {@link Transformation#cacheKey()} annotation element.</p>
+ * 
+ * <p>The available values are:</p>
+ * <ul>
+ * <li><b>DEFAULT</b> - Uses the default cache key type specified for the {@link org.simpliccity.sst.transform.Transformer}</li>
+ * <li><b>EQUALITY</b> - The source object is used as the cache index, so lookups rely on its <code>equals</code> and 
+ * <code>hashCode</code> methods.</li>
+ * <li><b>IDENTITY</b> - The source object is keyed by object identity, so lookups never invoke methods on the
+ * source object.</li>
+ * </ul>
+ * 
+ * <p>Cache index methods (e.g. {@link org.simpliccity.sst.transform.cache.annotation.OutTransformCacheIndex}) always
+ * take precedence over this setting.</p>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see Transformation
+ *
+ */
+public enum TransformationCacheKey 
+{
+	DEFAULT, EQUALITY, IDENTITY;
+}
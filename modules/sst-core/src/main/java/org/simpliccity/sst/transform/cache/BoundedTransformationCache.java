@@ -0,0 +1,259 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>An implementation of {@link TransformationCache} that limits the number of objects cached for
+ * each target type and, optionally, the time for which each object remains cached.  When the limit for a type 
+ * is reached, the least recently used entry of that type is evicted.  Entries older than the configured
+ * time-to-live are discarded when they are next requested.</p>
+ * 
+ * <p>All operations are synchronized, so a single instance may be used as the global cache of a
+ * {@link TransformationCacheManager}.</p>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see BoundedTransformationCacheFactory
+ *
+ */
+public class BoundedTransformationCache implements ConcurrentTransformationCache, SizedTransformationCache, TransformationCacheStatisticsAware 
+{
+	private int defaultMaxSize;
+	private Map<Class<?>, Integer> maxSizes;
+	private long timeToLive;
+	
+	private TransformationCacheStatistics statistics;
+	
+	private Map<Class<?>, TypeCache> typeMap = new HashMap<>();
+	
+	/**
+	 * Creates a new, empty cache with the specified limits.
+	 * 
+	 * @param defaultMaxSize The maximum number of objects cached for a target type with no specific limit; 
+	 * <code>0</code> for no limit.
+	 * @param maxSizes The maximum number of objects cached for specific target types; <code>0</code> for no limit.
+	 * @param timeToLive The number of milliseconds for which an object remains cached; <code>0</code> for no limit.
+	 */
+	public BoundedTransformationCache(int defaultMaxSize, Map<Class<?>, Integer> maxSizes, long timeToLive)
+	{
+		this.defaultMaxSize = defaultMaxSize;
+		this.maxSizes = new HashMap<>(maxSizes);
+		this.timeToLive = timeToLive;
+	}
+	
+	@Override
+	public synchronized <T> void put(Class<T> type, Object index, Object value) 
+	{
+		TypeCache typeCache = typeMap.get(type);
+		
+		if (typeCache == null)
+		{
+			typeCache = new TypeCache(type, getMaxSize(type));
+			typeMap.put(type, typeCache);
+		}
+		
+		typeCache.put(index, new CacheEntry(value, (timeToLive > 0) ? currentTime() + timeToLive : Long.MAX_VALUE));
+	}
+
+	@Override
+	public synchronized <T> Object putIfAbsent(Class<T> type, Object index, Object value) 
+	{
+		Object result = get(type, index);
+		
+		if (result == null)
+		{
+			put(type, index, value);
+			result = value;
+		}
+		
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public synchronized <T> T get(Class<T> type, Object index) 
+	{
+		T result = null;
+		
+		TypeCache typeCache = typeMap.get(type);
+		
+		if (typeCache != null)
+		{
+			CacheEntry entry = typeCache.get(index);
+			
+			if (entry != null)
+			{
+				if (entry.expires <= currentTime())
+				{
+					// Discard the expired entry
+					typeCache.remove(index);
+					recordEviction(type);
+				}
+				else
+				{
+					result = (T) entry.value;
+				}
+			}
+		}
+		
+		return result;
+	}
+
+	@Override
+	public synchronized void flush() 
+	{
+		typeMap.clear();
+	}
+	
+	/**
+	 * Returns the number of objects currently cached for the specified type, including any that have expired
+	 * but have not yet been discarded.
+	 * 
+	 * @param type The target type.
+	 * @return The number of cached objects of the specified type.
+	 */
+	@Override
+	public synchronized int size(Class<?> type)
+	{
+		TypeCache typeCache = typeMap.get(type);
+		return (typeCache == null) ? 0 : typeCache.size();
+	}
+	
+	@Override
+	public synchronized void setStatistics(TransformationCacheStatistics statistics) 
+	{
+		this.statistics = statistics;
+	}
+	
+	/**
+	 * Changes the maximum number of objects cached for target types with no specific limit.  Cached objects
+	 * exceeding a reduced limit are evicted immediately, least recently used first.
+	 * 
+	 * @param defaultMaxSize The new default maximum size per target type; <code>0</code> for no limit.
+	 */
+	public synchronized void setMaxSize(int defaultMaxSize)
+	{
+		this.defaultMaxSize = defaultMaxSize;
+		
+		for (TypeCache typeCache : typeMap.values())
+		{
+			typeCache.resize(getMaxSize(typeCache.type));
+		}
+	}
+	
+	/**
+	 * Changes the maximum number of objects cached for a specific target type.  Cached objects exceeding a reduced
+	 * limit are evicted immediately, least recently used first.
+	 * 
+	 * @param type The target type.
+	 * @param maxSize The new maximum size for the target type; <code>0</code> for no limit.
+	 */
+	public synchronized void setTypeMaxSize(Class<?> type, int maxSize)
+	{
+		maxSizes.put(type, maxSize);
+		
+		TypeCache typeCache = typeMap.get(type);
+		if (typeCache != null)
+		{
+			typeCache.resize(maxSize);
+		}
+	}
+	
+	/**
+	 * Returns the current time, in milliseconds, used to determine entry expiration.
+	 * 
+	 * @return The current time in milliseconds.
+	 */
+	protected long currentTime()
+	{
+		return System.currentTimeMillis();
+	}
+	
+	private int getMaxSize(Class<?> type)
+	{
+		Integer result = maxSizes.get(type);
+		return (result == null) ? defaultMaxSize : result;
+	}
+	
+	private void recordEviction(Class<?> type)
+	{
+		if (statistics != null)
+		{
+			statistics.recordEviction(type);
+		}
+	}
+	
+	private static class CacheEntry
+	{
+		private Object value;
+		private long expires;
+		
+		private CacheEntry(Object value, long expires)
+		{
+			this.value = value;
+			this.expires = expires;
+		}
+	}
+	
+	@SuppressWarnings("serial")
+	private class TypeCache extends LinkedHashMap<Object, CacheEntry>
+	{
+		private Class<?> type;
+		private int maxSize;
+		
+		private TypeCache(Class<?> type, int maxSize)
+		{
+			// Access order provides least recently used eviction
+			super(16, 0.75f, true);
+			this.type = type;
+			this.maxSize = maxSize;
+		}
+		
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Object, CacheEntry> eldest)
+		{
+			boolean result = maxSize > 0 && size() > maxSize;
+			
+			if (result)
+			{
+				recordEviction(type);
+			}
+			
+			return result;
+		}
+		
+		private void resize(int newMaxSize)
+		{
+			maxSize = newMaxSize;
+			
+			// Evict the least recently used entries that exceed the new limit
+			Iterator<Object> indexes = keySet().iterator();
+			while (maxSize > 0 && size() > maxSize && indexes.hasNext())
+			{
+				indexes.next();
+				indexes.remove();
+				recordEviction(type);
+			}
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>A {@link TransformationCacheFactory} that produces instances of {@link BoundedTransformationCache}, allowing
+ * the memory used by object caching (particularly with a global cache scope) to be bounded.  The factory can be 
+ * configured using the <code>cacheMaxSize</code> and <code>cacheTimeToLive</code> attributes and nested 
+ * <code>cacheLimit</code> elements of the <code>transformer</code> element of the <code>sst</code> namespace:</p>
+ * 
+ * <pre>
+ * &lt;sst:transformer defaultCacheMode="JOIN" globalCacheScope="true" cacheMaxSize="10000" cacheTimeToLive="60000"&gt;
+ *     &lt;sst:cacheLimit type="com.example.CustomerDto" maxSize="500" /&gt;
+ * &lt;/sst:transformer&gt;
+ * </pre>
+ * 
+ * <p>or in a {@link org.simpliccity.sst.transform.config.annotation.TransformerConfigurer}:</p>
+ * 
+ * <pre>
+ * {@literal @}Override
+ * public void configureCacheManager(TransformationCacheManager cacheManager)
+ * {
+ *     BoundedTransformationCacheFactory factory = new BoundedTransformationCacheFactory();
+ *     factory.setMaxSize(10000);
+ *     factory.setTimeToLive(60000);
+ *     factory.setTypeMaxSize(CustomerDto.class, 500);
+ *     cacheManager.setCacheFactory(factory);
+ * }
+ * </pre>
+ * 
+ * <p>The limits are thread-safe, so that they can be changed at runtime (see 
+ * {@link TransformationCacheManager#resizeCache(int)}) while new caches are being created.</p>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see BoundedTransformationCache
+ *
+ */
+public class BoundedTransformationCacheFactory implements TransformationCacheFactory 
+{
+	/**
+	 * The maximum number of objects cached for a target type with no specific limit (<b>Default</b>: {@value}).
+	 */
+	public static final int DEFAULT_MAX_SIZE = 10000;
+	
+	// The limits may be changed through the cache monitor while caches are being created
+	private volatile int maxSize = DEFAULT_MAX_SIZE;
+	
+	private volatile Map<Class<?>, Integer> maxSizes = new ConcurrentHashMap<>();
+	
+	private volatile long timeToLive;
+	
+	/**
+	 * Returns the maximum number of objects cached for a target type that has no specific limit.
+	 * 
+	 * @return The default maximum size per target type; <code>0</code> if unlimited.
+	 */
+	public int getMaxSize() 
+	{
+		return maxSize;
+	}
+
+	/**
+	 * Specifies the maximum number of objects cached for a target type that has no specific limit.
+	 * 
+	 * @param maxSize The default maximum size per target type; <code>0</code> for no limit.
+	 */
+	public void setMaxSize(int maxSize) 
+	{
+		this.maxSize = Math.max(0, maxSize);
+	}
+
+	/**
+	 * Returns the maximum number of objects cached for specific target types.
+	 * 
+	 * @return The maximum sizes, keyed by target type.
+	 */
+	public Map<Class<?>, Integer> getMaxSizes() 
+	{
+		return maxSizes;
+	}
+
+	/**
+	 * Specifies the maximum number of objects cached for specific target types, replacing any
+	 * previously specified limits.
+	 * 
+	 * @param maxSizes The maximum sizes, keyed by target type; a size of <code>0</code> indicates no limit.
+	 */
+	public void setMaxSizes(Map<Class<?>, Integer> maxSizes) 
+	{
+		this.maxSizes = new ConcurrentHashMap<>(maxSizes);
+	}
+	
+	/**
+	 * Specifies the maximum number of objects cached for a single target type.
+	 * 
+	 * @param type The target type.
+	 * @param maxSize The maximum size for the target type; <code>0</code> for no limit.
+	 */
+	public void setTypeMaxSize(Class<?> type, int maxSize)
+	{
+		maxSizes.put(type, Math.max(0, maxSize));
+	}
+
+	/**
+	 * Returns the number of milliseconds for which a transformed object remains cached.
+	 * 
+	 * @return The time-to-live for cached objects; <code>0</code> if unlimited.
+	 */
+	public long getTimeToLive() 
+	{
+		return timeToLive;
+	}
+
+	/**
+	 * Specifies the number of milliseconds for which a transformed object remains cached.
+	 * 
+	 * @param timeToLive The time-to-live for cached objects; <code>0</code> for no limit.
+	 */
+	public void setTimeToLive(long timeToLive) 
+	{
+		this.timeToLive = Math.max(0, timeToLive);
+	}
+
+	@Override
+	public TransformationCache getNewCacheInstance() 
+	{
+		return new BoundedTransformationCache(maxSize, maxSizes, timeToLive);
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>A thread-safe implementation of {@link TransformationCache} that stores cached objects in a
+ * {@link java.util.concurrent.ConcurrentHashMap} per target type.  Lookups never block and updates only
+ * contend with other updates to the same stripe of the same type bucket, so a single instance may be used
+ * as the global cache of a {@link TransformationCacheManager} under heavy concurrent load.  This is the cache
+ * used for the global scope and for parallel transformations unless another cache factory is configured.</p>
+ * 
+ * <p>Flushing replaces the entire set of type buckets rather than clearing them in place.  A reader that is
+ * in the middle of a lookup when the cache is flushed simply completes against the previous, still consistent,
+ * contents; the flushed entries become eligible for garbage collection once no such reader remains.</p>
+ * 
+ * <p>Since concurrent maps cannot hold <code>null</code>, <code>null</code> indexes and values are never
+ * cached.</p>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see TransformationCacheManager#setGlobalCacheScope(boolean)
+ *
+ */
+public class ConcurrentHashMapTransformationCache implements ConcurrentTransformationCache, SizedTransformationCache 
+{
+	/**
+	 * The default estimated number of threads concurrently updating a single type bucket.
+	 */
+	public static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+	
+	private static final int INITIAL_CAPACITY = 16;
+	
+	private static final float LOAD_FACTOR = 0.75f;
+	
+	private final int concurrencyLevel;
+	
+	private volatile ConcurrentMap<Class<?>, ConcurrentMap<Object, Object>> typeMap;
+	
+	/**
+	 * Creates a new, empty cache using the default concurrency level.
+	 */
+	public ConcurrentHashMapTransformationCache()
+	{
+		this(DEFAULT_CONCURRENCY_LEVEL);
+	}
+	
+	/**
+	 * Creates a new, empty cache using the specified concurrency level.
+	 * 
+	 * @param concurrencyLevel The estimated number of threads concurrently updating a single type bucket.
+	 */
+	public ConcurrentHashMapTransformationCache(int concurrencyLevel)
+	{
+		this.concurrencyLevel = concurrencyLevel;
+		this.typeMap = newTypeMap();
+	}
+
+	@Override
+	public <T> void put(Class<T> type, Object index, Object value) 
+	{
+		if (index != null && value != null)
+		{
+			getTypeCache(type).put(index, value);
+		}
+	}
+
+	@Override
+	public <T> Object putIfAbsent(Class<T> type, Object index, Object value) 
+	{
+		Object result = value;
+		
+		if (index != null && value != null)
+		{
+			Object existing = getTypeCache(type).putIfAbsent(index, value);
+			if (existing != null)
+			{
+				result = existing;
+			}
+		}
+		
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T get(Class<T> type, Object index) 
+	{
+		T result = null;
+		
+		if (index != null)
+		{
+			ConcurrentMap<Object, Object> typeCache = typeMap.get(type);
+			
+			if (typeCache != null)
+			{
+				result = (T) typeCache.get(index);
+			}
+		}
+		
+		return result;
+	}
+
+	@Override
+	public void flush() 
+	{
+		// Swap in an empty set of buckets; in-flight readers finish against the previous contents
+		typeMap = newTypeMap();
+	}
+	
+	@Override
+	public int size(Class<?> type)
+	{
+		ConcurrentMap<Object, Object> typeCache = typeMap.get(type);
+		return (typeCache == null) ? 0 : typeCache.size();
+	}
+	
+	private ConcurrentMap<Object, Object> getTypeCache(Class<?> type)
+	{
+		ConcurrentMap<Class<?>, ConcurrentMap<Object, Object>> currentTypeMap = typeMap;
+		ConcurrentMap<Object, Object> result = currentTypeMap.get(type);
+		
+		if (result == null)
+		{
+			// Several threads may race to create the bucket; only one of them wins
+			ConcurrentMap<Object, Object> newTypeCache = new ConcurrentHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, concurrencyLevel);
+			result = currentTypeMap.putIfAbsent(type, newTypeCache);
+			if (result == null)
+			{
+				result = newTypeCache;
+			}
+		}
+		
+		return result;
+	}
+	
+	private ConcurrentMap<Class<?>, ConcurrentMap<Object, Object>> newTypeMap()
+	{
+		return new ConcurrentHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, concurrencyLevel);
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+/**
+ * A {@link TransformationCache} that may safely be used by several threads at once.  In addition to the
+ * basic cache operations, implementations support an atomic conditional update, allowing concurrent 
+ * transformations of the same source object to agree on a single cached target object.
+ * 
+ * <p>The {@link TransformationCacheManager} requires caches that are shared between threads (the global
+ * cache and the caches shared by the tasks of a parallel transformation) to implement this interface, and 
+ * wraps any other cache in a {@link SynchronizedTransformationCache}.</p>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see ConcurrentHashMapTransformationCache
+ * @see SynchronizedTransformationCache
+ *
+ */
+public interface ConcurrentTransformationCache extends TransformationCache 
+{
+	/**
+	 * Adds a value to the cache unless a value is already cached for the same type/index combination.  The 
+	 * check and the update are performed atomically, so concurrent callers always agree on the cached value.
+	 * 
+	 * @param type The source class of the object being transformed.
+	 * @param index The index representing the source object being transformed.
+	 * @param value The cached target object.
+	 * @param <T> The class of the source object.
+	 * @return The value already in the cache, if any; otherwise the specified value.
+	 */
+	<T> Object putIfAbsent(Class<T> type, Object index, Object value);
+}
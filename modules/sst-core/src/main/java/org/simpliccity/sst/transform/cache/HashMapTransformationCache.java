@@ -31,7 +31,7 @@ import java.util.Map;
  * @see DefaultTransformationCacheFactory
  *
  */
-public class HashMapTransformationCache implements TransformationCache 
+public class HashMapTransformationCache implements SizedTransformationCache 
 {
 	@SuppressWarnings("rawtypes")
 	private Map<Class, Map<Object, Object>> typeMap = new HashMap<>();
@@ -71,4 +71,11 @@ public class HashMapTransformationCache implements TransformationCache
 	{
 		typeMap.clear();
 	}
+
+	@Override
+	public int size(Class<?> type) 
+	{
+		Map<Object, Object> typeCache = typeMap.get(type);
+		return (typeCache == null) ? 0 : typeCache.size();
+	}
 }
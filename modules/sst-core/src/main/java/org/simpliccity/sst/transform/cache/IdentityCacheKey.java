@@ -0,0 +1,70 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+/**
+ * A cache index that wraps a source object so that it is compared by identity, rather than by its own
+ * <code>equals</code> and <code>hashCode</code> methods.  Used by {@link org.simpliccity.sst.transform.TransformationProxy}
+ * when the {@link org.simpliccity.sst.transform.annotation.TransformationCacheKey#IDENTITY IDENTITY} cache key type 
+ * applies, allowing any {@link TransformationCache} implementation to key objects by identity.
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ *
+ */
+public final class IdentityCacheKey 
+{
+	private final Object source;
+	
+	/**
+	 * Creates a key for the specified source object.
+	 * 
+	 * @param source The source object.
+	 */
+	public IdentityCacheKey(Object source)
+	{
+		this.source = source;
+	}
+	
+	/**
+	 * Returns the source object represented by this key.
+	 * 
+	 * @return The source object.
+	 */
+	public Object getSource()
+	{
+		return source;
+	}
+
+	@Override
+	public int hashCode() 
+	{
+		return System.identityHashCode(source);
+	}
+
+	@Override
+	public boolean equals(Object obj) 
+	{
+		return (obj instanceof IdentityCacheKey) && ((IdentityCacheKey) obj).source == source;
+	}
+
+	@Override
+	public String toString() 
+	{
+		return "IdentityCacheKey[" + ((source == null) ? "null" : source.getClass().getName() + "@" + Integer.toHexString(hashCode())) + "]";
+	}
+}
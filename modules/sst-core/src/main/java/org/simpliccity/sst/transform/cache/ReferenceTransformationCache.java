@@ -0,0 +1,263 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>An implementation of {@link TransformationCache} that holds its indexes weakly and its cached objects
+ * softly.  An entry is discarded automatically once its index is no longer referenced outside of the cache,
+ * or when the garbage collector reclaims the cached object in response to memory demand.  This allows long-lived 
+ * caches (a global cache scope or long <code>JOIN</code> sequences) to be used without the application having to
+ * determine suitable flush points.</p>
+ * 
+ * <p>Indexes are compared using <code>equals</code>, except for {@link IdentityCacheKey}s, whose source objects 
+ * are held weakly and compared by identity.  Weak indexes work best when the index is the source object itself 
+ * (the default when a transformation has no cache index method), since the entry then lives exactly as long as 
+ * the source object.  An index computed by a cache index method is typically referenced only by the cache and may 
+ * therefore be discarded at the next garbage collection.  As with {@link java.util.WeakHashMap}, a cached object
+ * that strongly references its own index prevents the entry from being discarded until memory demand clears the 
+ * cached object.</p>
+ * 
+ * <p>All operations are synchronized, so a single instance may be used as the global cache of a
+ * {@link TransformationCacheManager}.</p>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see ReferenceTransformationCacheFactory
+ *
+ */
+public class ReferenceTransformationCache implements ConcurrentTransformationCache, SizedTransformationCache, TransformationCacheStatisticsAware 
+{
+	private Map<Class<?>, Map<WeakIndex, SoftReference<Object>>> typeMap = new HashMap<>();
+	
+	private ReferenceQueue<Object> queue = new ReferenceQueue<>();
+	
+	private TransformationCacheStatistics statistics;
+
+	@Override
+	public synchronized <T> void put(Class<T> type, Object index, Object value) 
+	{
+		expungeStaleEntries();
+		
+		if (index != null)
+		{
+			Map<WeakIndex, SoftReference<Object>> typeCache = typeMap.get(type);
+			
+			if (typeCache == null)
+			{
+				typeCache = new HashMap<>();
+				typeMap.put(type, typeCache);
+			}
+			
+			typeCache.put(new WeakIndex(type, index, queue), new SoftReference<>(value));
+		}
+	}
+
+	@Override
+	public synchronized <T> Object putIfAbsent(Class<T> type, Object index, Object value) 
+	{
+		Object result = get(type, index);
+		
+		if (result == null)
+		{
+			put(type, index, value);
+			result = value;
+		}
+		
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public synchronized <T> T get(Class<T> type, Object index) 
+	{
+		expungeStaleEntries();
+		
+		T result = null;
+		
+		Map<WeakIndex, SoftReference<Object>> typeCache = typeMap.get(type);
+		
+		if (typeCache != null && index != null)
+		{
+			WeakIndex lookup = new WeakIndex(type, index, null);
+			SoftReference<Object> reference = typeCache.get(lookup);
+			
+			if (reference != null)
+			{
+				result = (T) reference.get();
+				if (result == null)
+				{
+					// The cached object has been reclaimed, so discard the entry
+					typeCache.remove(lookup);
+					recordEviction(type);
+				}
+			}
+			
+			lookup.clear();
+		}
+		
+		return result;
+	}
+
+	@Override
+	public synchronized void flush() 
+	{
+		typeMap.clear();
+		
+		// Indexes of the discarded entries no longer need to be expunged
+		while (queue.poll() != null)
+		{
+			// Drain the queue
+		}
+	}
+	
+	/**
+	 * Returns the number of entries currently held for the specified type, excluding those whose index has
+	 * been reclaimed.  Entries whose cached object has been reclaimed are counted until they are next requested.
+	 * 
+	 * @param type The target type.
+	 * @return The number of entries held for the specified type.
+	 */
+	@Override
+	public synchronized int size(Class<?> type)
+	{
+		expungeStaleEntries();
+		
+		Map<WeakIndex, SoftReference<Object>> typeCache = typeMap.get(type);
+		return (typeCache == null) ? 0 : typeCache.size();
+	}
+	
+	@Override
+	public synchronized void setStatistics(TransformationCacheStatistics statistics) 
+	{
+		this.statistics = statistics;
+	}
+	
+	/**
+	 * Clears and enqueues the weak reference held for the specified index, as the garbage collector would once 
+	 * the index became unreachable.  The entry is discarded by the next cache operation.  This method exists so 
+	 * that the expunging of stale entries can be tested deterministically.
+	 * 
+	 * @param type The target type.
+	 * @param index The index of the entry to release.
+	 * @return <code>true</code> if an entry was found for the index; <code>false</code> otherwise.
+	 */
+	synchronized boolean releaseIndex(Class<?> type, Object index)
+	{
+		boolean result = false;
+		
+		Map<WeakIndex, SoftReference<Object>> typeCache = typeMap.get(type);
+		if (typeCache != null && index != null)
+		{
+			WeakIndex lookup = new WeakIndex(type, index, null);
+			for (WeakIndex candidate : typeCache.keySet())
+			{
+				if (candidate.equals(lookup))
+				{
+					candidate.clear();
+					candidate.enqueue();
+					result = true;
+					break;
+				}
+			}
+			
+			lookup.clear();
+		}
+		
+		return result;
+	}
+	
+	private void expungeStaleEntries()
+	{
+		Reference<? extends Object> stale;
+		while ((stale = queue.poll()) != null)
+		{
+			WeakIndex index = (WeakIndex) stale;
+			
+			Map<WeakIndex, SoftReference<Object>> typeCache = typeMap.get(index.type);
+			if (typeCache != null)
+			{
+				if (typeCache.remove(index) != null)
+				{
+					recordEviction(index.type);
+				}
+				
+				if (typeCache.isEmpty())
+				{
+					typeMap.remove(index.type);
+				}
+			}
+		}
+	}
+	
+	private void recordEviction(Class<?> type)
+	{
+		if (statistics != null)
+		{
+			statistics.recordEviction(type);
+		}
+	}
+	
+	private static class WeakIndex extends WeakReference<Object>
+	{
+		private Class<?> type;
+		private boolean identity;
+		private int hash;
+		
+		private WeakIndex(Class<?> type, Object index, ReferenceQueue<Object> queue)
+		{
+			// Hold the source of an identity key, since the key itself is referenced only by the cache
+			super((index instanceof IdentityCacheKey) ? ((IdentityCacheKey) index).getSource() : index, queue);
+			this.type = type;
+			this.identity = index instanceof IdentityCacheKey;
+			this.hash = index.hashCode();
+		}
+
+		@Override
+		public int hashCode() 
+		{
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) 
+		{
+			boolean result = (obj == this);
+			
+			if (!result && obj instanceof WeakIndex)
+			{
+				WeakIndex other = (WeakIndex) obj;
+				Object referent = get();
+				
+				// Reclaimed indexes are only equal to themselves
+				if (referent != null && other.identity == identity && other.hash == hash)
+				{
+					result = identity ? referent == other.get() : referent.equals(other.get());
+				}
+			}
+			
+			return result;
+		}
+	}
+}
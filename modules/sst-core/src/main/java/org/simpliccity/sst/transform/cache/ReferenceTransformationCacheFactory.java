@@ -0,0 +1,55 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+/**
+ * <p>A {@link TransformationCacheFactory} that produces instances of {@link ReferenceTransformationCache}, whose
+ * entries are held weakly by index and softly by cached object.  Cached objects are then released automatically
+ * once the source objects become unreachable or memory runs low, which suits a global cache scope or long-running
+ * <code>JOIN</code> sequences.  The factory can be configured as a bean referenced by the <code>cacheFactory</code> 
+ * attribute of the <code>transformer</code> element of the <code>sst</code> namespace:</p>
+ * 
+ * <pre>
+ * &lt;bean id="referenceCacheFactory" class="org.simpliccity.sst.transform.cache.ReferenceTransformationCacheFactory" /&gt;
+ * 
+ * &lt;sst:transformer defaultCacheMode="JOIN" globalCacheScope="true" cacheFactory="referenceCacheFactory" /&gt;
+ * </pre>
+ * 
+ * <p>or in a {@link org.simpliccity.sst.transform.config.annotation.TransformerConfigurer}:</p>
+ * 
+ * <pre>
+ * {@literal @}Override
+ * public void configureCacheManager(TransformationCacheManager cacheManager)
+ * {
+ *     cacheManager.setCacheFactory(new ReferenceTransformationCacheFactory());
+ * }
+ * </pre>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see ReferenceTransformationCache
+ *
+ */
+public class ReferenceTransformationCacheFactory implements TransformationCacheFactory 
+{
+	@Override
+	public TransformationCache getNewCacheInstance() 
+	{
+		return new ReferenceTransformationCache();
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+/**
+ * A {@link TransformationCache} that can report the number of objects it currently holds for a target type.
+ * Used by the {@link TransformationCacheManager} to report cache sizes.
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see TransformationCacheManager#getCacheSizes()
+ *
+ */
+public interface SizedTransformationCache extends TransformationCache 
+{
+	/**
+	 * Returns the number of objects currently cached for the specified target type.  When the cache is
+	 * updated by another thread, the result is approximate.
+	 * 
+	 * @param type The target type.
+	 * @return The number of cached objects of the specified type.
+	 */
+	int size(Class<?> type);
+}
@@ -0,0 +1,97 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A counter that spreads concurrent updates across several cells, each on its own cache line, so that threads 
+ * incrementing the counter at the same time rarely contend for the same memory location.  The current value
+ * is the sum of all cells; it is exact once updates have stopped and approximate while they are in progress.
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ *
+ */
+final class StripedCounter 
+{
+	// Number of long values per cell, so that adjacent cells do not share a cache line
+	private static final int PADDING = 8;
+	
+	private static final int MAX_STRIPES = 64;
+	
+	private static final int STRIPES = getStripeCount();
+	
+	private static final int MASK = STRIPES - 1;
+	
+	private final AtomicLongArray cells = new AtomicLongArray(STRIPES * PADDING);
+	
+	/**
+	 * Adds one to the counter.
+	 */
+	void increment()
+	{
+		cells.getAndIncrement(getCellIndex());
+	}
+	
+	/**
+	 * Returns the current value of the counter.
+	 * 
+	 * @return The sum of all cells.
+	 */
+	long sum()
+	{
+		long result = 0;
+		
+		for (int i = 0; i < STRIPES; i++)
+		{
+			result += cells.get(i * PADDING);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Resets the counter to zero.  Updates made concurrently with the reset may or may not be retained.
+	 */
+	void reset()
+	{
+		for (int i = 0; i < STRIPES; i++)
+		{
+			cells.set(i * PADDING, 0);
+		}
+	}
+	
+	private static int getCellIndex()
+	{
+		return (int) (Thread.currentThread().getId() & MASK) * PADDING;
+	}
+	
+	private static int getStripeCount()
+	{
+		// Smallest power of two that is at least twice the number of processors
+		int result = 1;
+		int target = Math.min(Runtime.getRuntime().availableProcessors() * 2, MAX_STRIPES);
+		
+		while (result < target)
+		{
+			result <<= 1;
+		}
+		
+		return result;
+	}
+}
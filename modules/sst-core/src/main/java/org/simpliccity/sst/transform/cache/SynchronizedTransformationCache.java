@@ -0,0 +1,90 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+/**
+ * A {@link TransformationCache} that serializes all access to another cache instance, allowing
+ * a cache that is not itself thread-safe to be shared by several threads.  The
+ * {@link TransformationCacheManager} uses this class to wrap caches created by a configured
+ * {@link TransformationCacheFactory} when they must be shared between threads but do not implement
+ * {@link ConcurrentTransformationCache}.
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see TransformationCacheManager#createSharedCache()
+ *
+ */
+public class SynchronizedTransformationCache implements ConcurrentTransformationCache, SizedTransformationCache 
+{
+	private TransformationCache delegate;
+	
+	/**
+	 * Creates a new instance that serializes access to the specified cache.
+	 * 
+	 * @param delegate The cache used to store the cached objects.
+	 */
+	public SynchronizedTransformationCache(TransformationCache delegate)
+	{
+		this.delegate = delegate;
+	}
+
+	@Override
+	public synchronized <T> void put(Class<T> type, Object index, Object value) 
+	{
+		delegate.put(type, index, value);
+	}
+
+	@Override
+	public synchronized <T> T get(Class<T> type, Object index) 
+	{
+		return delegate.get(type, index);
+	}
+
+	@Override
+	public synchronized <T> Object putIfAbsent(Class<T> type, Object index, Object value)
+	{
+		Object result = delegate.get(type, index);
+		
+		if (result == null)
+		{
+			delegate.put(type, index, value);
+			result = value;
+		}
+		
+		return result;
+	}
+
+	@Override
+	public synchronized void flush() 
+	{
+		delegate.flush();
+	}
+
+	/**
+	 * Returns the number of objects cached for the specified type by the underlying cache.
+	 * 
+	 * @param type The target type.
+	 * @return The number of cached objects of the specified type; <code>0</code> if the underlying cache
+	 * does not report its size.
+	 */
+	@Override
+	public synchronized int size(Class<?> type) 
+	{
+		return (delegate instanceof SizedTransformationCache) ? ((SizedTransformationCache) delegate).size(type) : 0;
+	}
+}
@@ -16,8 +16,16 @@
 
 package org.simpliccity.sst.transform.cache;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.simpliccity.sst.transform.annotation.TransformationCacheKey;
 import org.simpliccity.sst.transform.annotation.TransformationCacheMode;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -64,6 +72,11 @@ public class TransformationCacheManager implements InitializingBean
 	 */
 	private TransformationCacheMode defaultCacheMode = TransformationCacheMode.NONE;
 	
+	/**
+	 * The default cache key type used for transformations that do not explicitly specify one (<b>Default</b>: {@value}).
+	 */
+	private TransformationCacheKey defaultCacheKey = TransformationCacheKey.EQUALITY;
+	
 	/**
 	 * A flag indicating whether to use a single global cache or a dedicated cache per thread (<b>Default</b>: {@value}).  
 	 */
@@ -73,6 +86,16 @@ public class TransformationCacheManager implements InitializingBean
 	 * The instance of {@link TransformationCacheFactory} used to generate {@link TransformationCache} instance(s).
 	 */
 	private TransformationCacheFactory cacheFactory;
+	
+	/**
+	 * A flag indicating whether to collect cache statistics (<b>Default</b>: {@value}).
+	 */
+	private boolean statisticsEnabled = false;
+	
+	private TransformationCacheStatistics statistics = new TransformationCacheStatistics();
+	
+	// Thread-local caches, tracked (without preventing their collection) only while statistics are enabled
+	private Set<TransformationCache> localCaches = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<TransformationCache, Boolean>()));
 
 	private ThreadLocal<TransformationCache> localCache = new ThreadLocal<TransformationCache>() 
 	{
@@ -81,7 +104,7 @@ public class TransformationCacheManager implements InitializingBean
 			// Get the cache factory that will actually be used (specifically set overrides default)
 			TransformationCacheFactory activeCacheFactory = getActiveCacheFactory();
 			
-			return (activeCacheFactory == null) ? null : activeCacheFactory.getNewCacheInstance();
+			return (activeCacheFactory == null) ? null : prepareLocalCache(activeCacheFactory.getNewCacheInstance());
 		}
 		
 		@Override public void remove()
@@ -96,6 +119,8 @@ public class TransformationCacheManager implements InitializingBean
 	
 	private TransformationCache globalCache;
 	
+	private ThreadLocal<CacheSession> session = new ThreadLocal<>();
+	
 	/**
 	 * Indicates whether object caching has been globally disabled.
 	 * 
@@ -167,6 +192,53 @@ public class TransformationCacheManager implements InitializingBean
 	{
 		this.defaultCacheMode = defaultCacheMode;
 	}
+	
+	/**
+	 * Lists the default cache key type in use.  The default type applies for all transformations that do
+	 * not specifically define a cache key type.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return The default cache key type.
+	 * 
+	 * @see #defaultCacheKey
+	 * @see org.simpliccity.sst.transform.annotation.TransformationCacheKey
+	 */
+	public String getDefaultCacheKey() 
+	{
+		return getDefaultCacheKeyEnum().name();
+	}
+
+	/**
+	 * Specifies the default cache key type to use.  The default type applies for all transformations that do
+	 * not specifically define a cache key type.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param defaultCacheKey The default cache key type.
+	 * 
+	 * @see #defaultCacheKey
+	 * @see org.simpliccity.sst.transform.annotation.TransformationCacheKey
+	 */
+	public void setDefaultCacheKey(String defaultCacheKey) 
+	{
+		this.defaultCacheKey = TransformationCacheKey.valueOf(defaultCacheKey);
+	}
+	
+	/**
+	 * Lists the default cache key type in use as one of the values of the
+	 * {@link org.simpliccity.sst.transform.annotation.TransformationCacheKey} enum.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return The default cache key type as an enum value.
+	 * 
+	 * @see #defaultCacheKey
+	 */
+	public TransformationCacheKey getDefaultCacheKeyEnum()
+	{
+		return defaultCacheKey;
+	}
 
 	/**
 	 * Indicates whether the cache manager uses a single global cache or a dedicated cache per thread
@@ -187,6 +259,9 @@ public class TransformationCacheManager implements InitializingBean
 	 * Specifies whether the cache manager uses a single global cache or a dedicated cache per thread
 	 * for object caching.  A global cache optimizes the effectiveness of the cache, while the use of thread-local
 	 * caching provides a level of isolation to ensure thread safety and transformation accuracy.
+	 * The global cache is always thread-safe: unless another cache factory is configured, a
+	 * {@link ConcurrentHashMapTransformationCache} is used; caches from a configured factory that do not
+	 * implement {@link ConcurrentTransformationCache} are wrapped in a {@link SynchronizedTransformationCache}.
 	 * 
 	 * @param globalCacheScope <code>true</code> to use  a single global cache; <code>false</code> to employ a thread-local cache.
 	 * 
@@ -226,13 +301,58 @@ public class TransformationCacheManager implements InitializingBean
 		this.cacheFactory = cacheFactory;
 	}
 
+	/**
+	 * Indicates whether the cache manager collects statistics describing the effectiveness of object caching.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return <code>true</code> if statistics are collected; <code>false</code> if not.
+	 * 
+	 * @see #statisticsEnabled
+	 */
+	public boolean isStatisticsEnabled() 
+	{
+		return statisticsEnabled;
+	}
+
+	/**
+	 * Specifies whether the cache manager collects statistics describing the effectiveness of object caching.
+	 * Statistics are recorded using striped counters, so collection can remain enabled in production.  Evictions
+	 * are reported only by caches created after statistics are enabled.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param statisticsEnabled <code>true</code> to collect statistics; <code>false</code> otherwise.
+	 * 
+	 * @see #statisticsEnabled
+	 * @see #getStatistics()
+	 */
+	public void setStatisticsEnabled(boolean statisticsEnabled) 
+	{
+		this.statisticsEnabled = statisticsEnabled;
+	}
+	
+	/**
+	 * Returns the statistics collected by the cache manager.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return The cache statistics; never <code>null</code>, but not updated unless statistics are enabled.
+	 * 
+	 * @see #setStatisticsEnabled(boolean)
+	 */
+	public TransformationCacheStatistics getStatistics()
+	{
+		return statistics;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception 
 	{
 		// Initialize the global cache using the active cache factory, if necessary
 		if (!isDisableCache() && isGlobalCacheScope() && globalCache == null)
 		{
-			globalCache = getActiveCacheFactory().getNewCacheInstance();
+			globalCache = createThreadSafeCache();
 		}
 		
 	}
@@ -257,6 +377,18 @@ public class TransformationCacheManager implements InitializingBean
 			// from the appropriate cache
 			logger.debug("Attempting to retrieve transformed object from cache.");
 			result = getActiveCache().get(targetClass, cacheIndex);
+			
+			if (isStatisticsEnabled())
+			{
+				if (result == null)
+				{
+					statistics.recordMiss(targetClass);
+				}
+				else
+				{
+					statistics.recordHit(targetClass);
+				}
+			}
 		}
 		
 		return result;
@@ -275,12 +407,60 @@ public class TransformationCacheManager implements InitializingBean
 		// If appropriate, add the result to the appropriate cache.
 		if (cacheIndex != null && !isDisableCache())
 		{
-			logger.debug("Updating object cache with transformed object: " + result + ".");
+			if (logger.isDebugEnabled())
+			{
+				logger.debug("Updating object cache with transformed object: " + result + ".");
+			}
 			getActiveCache().put(targetClass, cacheIndex, result);
+			
+			if (isStatisticsEnabled())
+			{
+				statistics.recordPut(targetClass);
+			}
 		}
 		
 	}
 	
+	/**
+	 * Adds an instance of the target class into the object cache using the specified cache index, unless another
+	 * instance has been cached for the same index in the meantime.  When the active cache is shared by several threads 
+	 * (see {@link #beginSession(TransformationCache)}), the check and the update are atomic, so threads that transform 
+	 * the same source object concurrently all end up with the same target instance.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param targetClass The type of the object to cache.
+	 * @param cacheIndex The cache index by which the object may be retrieved from the cache.
+	 * @param result The instance of the target class to be added to the cache.
+	 * @return The instance that is cached for the index; <code>result</code> unless another instance was cached first
+	 * or caching does not apply.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public Object updateCacheIfAbsent(Class targetClass, Object cacheIndex, Object result)
+	{
+		Object cached = result;
+		
+		if (cacheIndex != null && !isDisableCache())
+		{
+			TransformationCache activeCache = getActiveCache();
+			if (activeCache instanceof ConcurrentTransformationCache)
+			{
+				cached = ((ConcurrentTransformationCache) activeCache).putIfAbsent(targetClass, cacheIndex, result);
+			}
+			else
+			{
+				activeCache.put(targetClass, cacheIndex, result);
+			}
+			
+			if (isStatisticsEnabled() && cached == result)
+			{
+				statistics.recordPut(targetClass);
+			}
+		}
+		
+		return cached;
+	}
+	
 	/**
 	 * Conditionally flushes the managed object cache based on the specified cache mode
 	 * or flag.
@@ -297,9 +477,178 @@ public class TransformationCacheManager implements InitializingBean
 		// If the transformer cache mode is FLUSH or flush has been specifically requested, ... 
 		if (mode == TransformationCacheMode.FLUSH || (usesCache(mode) && forceFlush))
 		{
-			// ... flush the cache
-			flushCache();
+			CacheSession current = session.get();
+			if (current == null || !current.deferFlush)
+			{
+				// ... flush the cache (the session cache within a transformation session)
+				flushCache();
+			}
+			else
+			{
+				// ... or, within a cache session, defer the flush until the session ends
+				current.flushPending = true;
+			}
+		}
+	}
+	
+	/**
+	 * <p>Begins a cache session for the current thread.  Within a session, flushes requested by individual
+	 * transformations (through their cache mode or the <code>forceFlush</code> flag) are deferred until the
+	 * session ends, so that all of the transformations performed in the session share the same cached objects.
+	 * An explicit call to {@link #flushCache()} is not deferred.</p>
+	 * 
+	 * <p>Sessions may be nested; only the end of the outermost session performs a deferred flush.  Within a 
+	 * {@link #openSession() transformation session}, the session begun by this method uses the session cache and 
+	 * its deferred flush is applied to that cache.  Every call to this method must be balanced by a call to 
+	 * {@link #endSession()}.</p>
+	 * 
+	 * @since 1.0.0
+	 */
+	public void beginSession()
+	{
+		CacheSession current = session.get();
+		if (current == null || !current.deferFlush)
+		{
+			// Start a new level of nesting, over the cache of any enclosing transformation session
+			current = new CacheSession((current == null) ? null : current.sharedCache, current, true);
+			session.set(current);
 		}
+		
+		current.depth++;
+	}
+	
+	/**
+	 * <p>Begins a cache session for the current thread that uses the specified shared cache in place of the
+	 * configured (global or thread-local) cache.  This allows several threads cooperating in a single operation,
+	 * such as the tasks of a parallel transformation, to share cached objects.  As with {@link #beginSession()}, 
+	 * flushes requested by individual transformations are deferred; since the shared cache belongs to the operation, 
+	 * the deferred flush is left to its owner, which can simply discard the cache when the operation completes.  The
+	 * exception is a session begun on the thread of an enclosing {@link #openSession() transformation session} for 
+	 * the session cache itself, whose deferred flush is applied to the session cache when it ends.</p>
+	 * 
+	 * <p>A shared session always starts a new level of nesting, so the session that was active on the current thread,
+	 * if any, is restored by the matching call to {@link #endSession()}.  This makes it safe to begin shared sessions
+	 * from tasks that may be executed by any thread of a thread pool.</p>
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param sharedCache A cache obtained from {@link #createSharedCache()}.  If <code>null</code>, the configured
+	 * cache is used.
+	 * 
+	 * @see #createSharedCache()
+	 */
+	public void beginSession(TransformationCache sharedCache)
+	{
+		CacheSession current = new CacheSession(sharedCache, session.get(), true);
+		current.depth++;
+		session.set(current);
+	}
+	
+	/**
+	 * Creates a thread-safe cache that can be shared by the threads cooperating in a single operation.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return A new, empty cache; <code>null</code> if caching is disabled.
+	 * 
+	 * @see #beginSession(TransformationCache)
+	 */
+	public TransformationCache createSharedCache()
+	{
+		return isDisableCache() ? null : createThreadSafeCache();
+	}
+	
+	/**
+	 * Returns the shared cache used by the active cache session of the current thread, if any.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return The shared cache; <code>null</code> if the current thread is not in a shared session.
+	 * 
+	 * @see #beginSession(TransformationCache)
+	 */
+	public TransformationCache getSharedCache()
+	{
+		CacheSession current = session.get();
+		return (current == null) ? null : current.sharedCache;
+	}
+	
+	/**
+	 * Ends a cache session begun by {@link #beginSession()} or {@link #beginSession(TransformationCache)}.  When the 
+	 * outermost level of a session ends, any enclosing session is restored and, unless the session used a shared cache
+	 * that belongs to another operation, the object cache is flushed if any flush was deferred during the session.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @throws IllegalStateException If no session is active for the current thread.
+	 */
+	public void endSession()
+	{
+		CacheSession current = session.get();
+		if (current == null)
+		{
+			throw new IllegalStateException("No cache session is active for the current thread.");
+		}
+		
+		current.depth--;
+		if (current.depth == 0)
+		{
+			// Restore the enclosing session, if any
+			if (current.previous == null)
+			{
+				session.remove();
+			}
+			else
+			{
+				session.set(current.previous);
+			}
+			
+			// A shared cache is flushed (or discarded) by its owner, unless it is the cache of the enclosing transformation session
+			if (current.flushPending && (current.sharedCache == null || isTransformationSession(current.previous, current.sharedCache)))
+			{
+				logger.debug("Performing flush deferred by cache session.");
+				flushCache();
+			}
+		}
+	}
+	
+	/**
+	 * Opens a {@link TransformationSession} for the current thread.  Until the session is closed, transformations
+	 * performed on the current thread use a new shared cache that belongs to the session, and the cache is discarded
+	 * when the session is closed.  Flushes requested by individual transformations (through their cache mode or the 
+	 * <code>forceFlush</code> flag) are not deferred within a transformation session; they flush the session cache, 
+	 * exactly as they would flush the configured cache outside of any session.  Unlike the thread-local cache used in <code>JOIN</code> mode, whose objects are only 
+	 * released by a flush, the session cache therefore never outlives the unit of work for which it was opened.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return The new session, which must be closed by the current thread.
+	 * 
+	 * @see #beginSession(TransformationCache)
+	 */
+	public TransformationSession openSession()
+	{
+		TransformationCache sessionCache = createSharedCache();
+		
+		CacheSession current = new CacheSession(sessionCache, session.get(), false);
+		current.depth++;
+		session.set(current);
+		
+		return new TransformationSession(this, sessionCache);
+	}
+	
+	/**
+	 * Indicates whether a cache session is active for the current thread.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return <code>true</code> if a session is active; <code>false</code> otherwise.
+	 * 
+	 * @see #beginSession()
+	 */
+	public boolean isSessionActive()
+	{
+		return session.get() != null;
 	}
 	
 	/**
@@ -318,7 +667,17 @@ public class TransformationCacheManager implements InitializingBean
 		{
 			// ... cleanup the appropriate cache
 			logger.debug("Flushing object cache.");
-			if (isGlobalCacheScope())
+			if (isStatisticsEnabled())
+			{
+				statistics.recordFlush();
+			}
+			
+			TransformationCache sharedCache = getSharedCache();
+			if (sharedCache != null)
+			{
+				sharedCache.flush();
+			}
+			else if (isGlobalCacheScope())
 			{
 				globalCache.flush();
 			}
@@ -358,24 +717,258 @@ public class TransformationCacheManager implements InitializingBean
 		return result;
 	}
 	
+	/**
+	 * <p>Returns the number of objects currently held by the configured cache for each target type for which
+	 * statistics have been recorded.  With a global cache scope, the sizes are those of the global cache.  With a
+	 * thread-local scope, they are totals over the live thread-local caches; since these caches are updated by their
+	 * own threads, the totals are approximate.</p>
+	 * 
+	 * <p>Sizes are reported only while statistics are enabled and only for caches that implement 
+	 * {@link SizedTransformationCache}.</p>
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return A map of target types to the number of cached objects.
+	 * 
+	 * @see #setStatisticsEnabled(boolean)
+	 */
+	public Map<Class<?>, Integer> getCacheSizes()
+	{
+		Map<Class<?>, Integer> result = new HashMap<>();
+		
+		for (Class<?> type : statistics.getTypes())
+		{
+			int size = 0;
+			
+			for (TransformationCache cache : getConfiguredCaches())
+			{
+				if (cache instanceof SizedTransformationCache)
+				{
+					size += ((SizedTransformationCache) cache).size(type);
+				}
+			}
+			
+			result.put(type, size);
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns the number of live thread-local caches tracked by the cache manager.  Thread-local caches are
+	 * tracked only while statistics are enabled.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @return The number of tracked thread-local caches.
+	 */
+	public int getLocalCacheCount()
+	{
+		return localCaches.size();
+	}
+	
+	/**
+	 * Changes, at runtime, the maximum number of objects cached for target types with no specific limit.  The new 
+	 * limit applies to the configured {@link BoundedTransformationCacheFactory}, if any, and therefore to all caches 
+	 * created from now on, and to the existing bounded caches known to the cache manager (the global cache and, while 
+	 * statistics are enabled, the live thread-local caches).
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param maxSize The new default maximum size per target type; <code>0</code> for no limit.
+	 * @return <code>true</code> if a bounded cache is in use; <code>false</code> if the configured caches have no size limit.
+	 */
+	public boolean resizeCache(int maxSize)
+	{
+		boolean result = false;
+		
+		TransformationCacheFactory activeCacheFactory = getActiveCacheFactory();
+		if (activeCacheFactory instanceof BoundedTransformationCacheFactory)
+		{
+			((BoundedTransformationCacheFactory) activeCacheFactory).setMaxSize(maxSize);
+			result = true;
+		}
+		
+		for (TransformationCache cache : getConfiguredCaches())
+		{
+			if (cache instanceof BoundedTransformationCache)
+			{
+				((BoundedTransformationCache) cache).setMaxSize(maxSize);
+				result = true;
+			}
+		}
+		
+		logger.info("Resized object cache to " + maxSize + " entries per type: " + result + ".");
+		
+		return result;
+	}
+	
+	/**
+	 * Changes, at runtime, the maximum number of objects cached for a specific target type.  The new limit is
+	 * applied in the same way as by {@link #resizeCache(int)}.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param type The target type.
+	 * @param maxSize The new maximum size for the target type; <code>0</code> for no limit.
+	 * @return <code>true</code> if a bounded cache is in use; <code>false</code> if the configured caches have no size limit.
+	 */
+	public boolean resizeCache(Class<?> type, int maxSize)
+	{
+		boolean result = false;
+		
+		TransformationCacheFactory activeCacheFactory = getActiveCacheFactory();
+		if (activeCacheFactory instanceof BoundedTransformationCacheFactory)
+		{
+			((BoundedTransformationCacheFactory) activeCacheFactory).setTypeMaxSize(type, maxSize);
+			result = true;
+		}
+		
+		for (TransformationCache cache : getConfiguredCaches())
+		{
+			if (cache instanceof BoundedTransformationCache)
+			{
+				((BoundedTransformationCache) cache).setTypeMaxSize(type, maxSize);
+				result = true;
+			}
+		}
+		
+		logger.info("Resized object cache to " + maxSize + " entries for " + type.getName() + ": " + result + ".");
+		
+		return result;
+	}
+	
+	private TransformationCache prepareLocalCache(TransformationCache cache)
+	{
+		attachStatistics(cache);
+		
+		if (isStatisticsEnabled())
+		{
+			localCaches.add(cache);
+		}
+		
+		return cache;
+	}
+	
+	void closeSession(TransformationSession transformationSession)
+	{
+		CacheSession current = session.get();
+		if (current == null || current.sharedCache != transformationSession.getCache() || current.depth != 1)
+		{
+			throw new IllegalStateException("Transformation sessions must be closed in the reverse order of opening.");
+		}
+		
+		endSession();
+		
+		// The session owns its cache, so discard the cached objects
+		TransformationCache sessionCache = transformationSession.getCache();
+		if (sessionCache != null)
+		{
+			logger.debug("Discarding transformation session cache.");
+			if (isStatisticsEnabled())
+			{
+				statistics.recordFlush();
+			}
+			
+			sessionCache.flush();
+		}
+	}
+	
+	private boolean isTransformationSession(CacheSession candidate, TransformationCache sharedCache)
+	{
+		return candidate != null && !candidate.deferFlush && candidate.sharedCache == sharedCache;
+	}
+	
+	private void attachStatistics(TransformationCache cache)
+	{
+		if (isStatisticsEnabled() && cache instanceof TransformationCacheStatisticsAware)
+		{
+			((TransformationCacheStatisticsAware) cache).setStatistics(statistics);
+		}
+	}
+	
+	private Iterable<TransformationCache> getConfiguredCaches()
+	{
+		Iterable<TransformationCache> result;
+		
+		if (globalCache != null)
+		{
+			result = Collections.singleton(globalCache);
+		}
+		else
+		{
+			// Copy the tracked caches, since the set may change while it is being read
+			synchronized (localCaches)
+			{
+				result = new ArrayList<>(localCaches);
+			}
+		}
+		
+		return result;
+	}
+	
 	private TransformationCacheFactory getActiveCacheFactory()
 	{
 		return (cacheFactory == null) ? defaultCacheFactory : cacheFactory;
 	}
 	
-	private TransformationCache getActiveCache()
+	private TransformationCache createThreadSafeCache()
 	{
+		TransformationCacheFactory activeCacheFactory = getActiveCacheFactory();
 		TransformationCache result;
 		
-		if (isGlobalCacheScope())
+		if (activeCacheFactory.getClass() == DefaultTransformationCacheFactory.class)
 		{
-			result = globalCache;
+			// The default cache is not thread-safe, so use its concurrent counterpart
+			result = new ConcurrentHashMapTransformationCache();
 		}
 		else
 		{
-			result = localCache.get();
+			// Serialize access to a configured cache unless it supports concurrent use itself
+			result = activeCacheFactory.getNewCacheInstance();
+			attachStatistics(result);
+			if (!(result instanceof ConcurrentTransformationCache))
+			{
+				result = new SynchronizedTransformationCache(result);
+			}
+		}
+		
+		return result;
+	}
+	
+	private TransformationCache getActiveCache()
+	{
+		// A shared session takes precedence over the configured scope
+		TransformationCache result = getSharedCache();
+		
+		if (result == null)
+		{
+			if (isGlobalCacheScope())
+			{
+				result = globalCache;
+			}
+			else
+			{
+				result = localCache.get();
+			}
 		}
 		
 		return result;
 	}		
+	
+	private static class CacheSession
+	{
+		private TransformationCache sharedCache;
+		private CacheSession previous;
+		private int depth;
+		private boolean deferFlush;
+		private boolean flushPending;
+		
+		private CacheSession(TransformationCache sharedCache, CacheSession previous, boolean deferFlush)
+		{
+			this.sharedCache = sharedCache;
+			this.previous = previous;
+			this.deferFlush = deferFlush;
+		}
+	}
 }
@@ -0,0 +1,204 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * <p>A standard MBean that exposes the statistics of a {@link TransformationCacheManager} and allows its cache to be 
+ * flushed or resized at runtime.  When the <code>cacheStatistics</code> attribute of the <code>transformer</code> 
+ * element of the <code>sst</code> namespace is set to <code>true</code>, a monitor for the configured cache manager 
+ * is registered with the platform MBean server automatically:</p>
+ * 
+ * <pre>
+ * &lt;sst:transformer defaultCacheMode="JOIN" globalCacheScope="true" cacheStatistics="true" /&gt;
+ * </pre>
+ * 
+ * <p>Otherwise, a monitor can be defined as a bean and exported using any Spring 
+ * {@link org.springframework.jmx.export.MBeanExporter}.  Statistics must be enabled on the cache manager for the 
+ * counters to be updated.</p>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see TransformationCacheStatistics
+ *
+ */
+public class TransformationCacheMonitor implements TransformationCacheMonitorMBean 
+{
+	private TransformationCacheManager cacheManager;
+	
+	/**
+	 * Creates a monitor for the specified cache manager.
+	 * 
+	 * @param cacheManager The monitored cache manager.
+	 */
+	public TransformationCacheMonitor(TransformationCacheManager cacheManager)
+	{
+		this.cacheManager = cacheManager;
+	}
+
+	@Override
+	public boolean isStatisticsEnabled() 
+	{
+		return cacheManager.isStatisticsEnabled();
+	}
+
+	@Override
+	public void setStatisticsEnabled(boolean statisticsEnabled) 
+	{
+		cacheManager.setStatisticsEnabled(statisticsEnabled);
+	}
+
+	@Override
+	public boolean isGlobalCacheScope() 
+	{
+		return cacheManager.isGlobalCacheScope();
+	}
+
+	@Override
+	public String getDefaultCacheMode() 
+	{
+		return cacheManager.getDefaultCacheMode();
+	}
+
+	@Override
+	public long getHitCount() 
+	{
+		return cacheManager.getStatistics().getHitCount();
+	}
+
+	@Override
+	public long getMissCount() 
+	{
+		return cacheManager.getStatistics().getMissCount();
+	}
+
+	@Override
+	public double getHitRatio() 
+	{
+		return cacheManager.getStatistics().getHitRatio();
+	}
+
+	@Override
+	public long getPutCount() 
+	{
+		return cacheManager.getStatistics().getPutCount();
+	}
+
+	@Override
+	public long getEvictionCount() 
+	{
+		return cacheManager.getStatistics().getEvictionCount();
+	}
+
+	@Override
+	public long getFlushCount() 
+	{
+		return cacheManager.getStatistics().getFlushCount();
+	}
+
+	@Override
+	public long getCacheSize() 
+	{
+		long result = 0;
+		
+		for (Integer size : cacheManager.getCacheSizes().values())
+		{
+			result += size;
+		}
+		
+		return result;
+	}
+
+	@Override
+	public int getLocalCacheCount() 
+	{
+		return cacheManager.getLocalCacheCount();
+	}
+
+	@Override
+	public String[] getTypeStatistics() 
+	{
+		TransformationCacheStatistics statistics = cacheManager.getStatistics();
+		Map<Class<?>, Integer> sizes = cacheManager.getCacheSizes();
+		
+		List<String> result = new ArrayList<>();
+		for (Map.Entry<Class<?>, Integer> entry : sizes.entrySet())
+		{
+			Class<?> type = entry.getKey();
+			result.add(type.getName() 
+					+ ": hits=" + statistics.getHitCount(type)
+					+ ", misses=" + statistics.getMissCount(type)
+					+ ", puts=" + statistics.getPutCount(type)
+					+ ", evictions=" + statistics.getEvictionCount(type)
+					+ ", size=" + entry.getValue());
+		}
+		
+		Collections.sort(result);
+		
+		return result.toArray(new String[result.size()]);
+	}
+
+	@Override
+	public boolean flushCache() 
+	{
+		boolean result = cacheManager.isGlobalCacheScope();
+		
+		// Thread-local caches can only be flushed by their own threads
+		if (result)
+		{
+			cacheManager.flushCache();
+		}
+		
+		return result;
+	}
+
+	@Override
+	public void resetStatistics() 
+	{
+		cacheManager.getStatistics().reset();
+	}
+
+	@Override
+	public boolean resizeCache(int maxSize) 
+	{
+		return cacheManager.resizeCache(maxSize);
+	}
+
+	@Override
+	public boolean resizeCacheType(String typeName, int maxSize) 
+	{
+		Class<?> type;
+		
+		try
+		{
+			type = ClassUtils.forName(typeName, ClassUtils.getDefaultClassLoader());
+		}
+		catch (ClassNotFoundException | LinkageError e)
+		{
+			throw new IllegalArgumentException("Unable to resolve target type " + typeName + ".", e);
+		}
+		
+		return cacheManager.resizeCache(type, maxSize);
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+/**
+ * The JMX management interface of a {@link TransformationCacheMonitor}, exposing the statistics of a
+ * {@link TransformationCacheManager} and operations to flush or resize its cache at runtime.
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see TransformationCacheMonitor
+ *
+ */
+public interface TransformationCacheMonitorMBean 
+{
+	/**
+	 * @return <code>true</code> if the cache manager is collecting statistics.
+	 */
+	boolean isStatisticsEnabled();
+	
+	/**
+	 * @param statisticsEnabled <code>true</code> to start collecting statistics; <code>false</code> to stop.
+	 */
+	void setStatisticsEnabled(boolean statisticsEnabled);
+	
+	/**
+	 * @return <code>true</code> if the cache manager uses a single global cache; <code>false</code> if it uses
+	 * thread-local caches.
+	 */
+	boolean isGlobalCacheScope();
+	
+	/**
+	 * @return The default cache mode of the cache manager.
+	 */
+	String getDefaultCacheMode();
+	
+	/**
+	 * @return The total number of successful cache lookups.
+	 */
+	long getHitCount();
+	
+	/**
+	 * @return The total number of unsuccessful cache lookups.
+	 */
+	long getMissCount();
+	
+	/**
+	 * @return The proportion of cache lookups that were successful.
+	 */
+	double getHitRatio();
+	
+	/**
+	 * @return The total number of objects added to the cache.
+	 */
+	long getPutCount();
+	
+	/**
+	 * @return The total number of objects evicted from the cache.
+	 */
+	long getEvictionCount();
+	
+	/**
+	 * @return The number of cache flushes.
+	 */
+	long getFlushCount();
+	
+	/**
+	 * @return The total number of objects currently cached.
+	 */
+	long getCacheSize();
+	
+	/**
+	 * @return The number of live thread-local caches.
+	 */
+	int getLocalCacheCount();
+	
+	/**
+	 * @return A summary of the statistics and current cache size for each target type.
+	 */
+	String[] getTypeStatistics();
+	
+	/**
+	 * Flushes the global cache of the cache manager.  Thread-local caches can only be flushed by their own threads, 
+	 * so with a thread-local cache scope (the default) nothing is flushed and <code>false</code> is returned.
+	 * 
+	 * @return <code>true</code> if the global cache was flushed; <code>false</code> if the cache manager uses 
+	 * thread-local caches.
+	 */
+	boolean flushCache();
+	
+	/**
+	 * Resets all statistics to zero.
+	 */
+	void resetStatistics();
+	
+	/**
+	 * Changes the maximum number of objects cached for target types with no specific limit.
+	 * 
+	 * @param maxSize The new default maximum size per target type; <code>0</code> for no limit.
+	 * @return <code>true</code> if a bounded cache is in use.
+	 */
+	boolean resizeCache(int maxSize);
+	
+	/**
+	 * Changes the maximum number of objects cached for a specific target type.
+	 * 
+	 * @param typeName The fully qualified class name of the target type.
+	 * @param maxSize The new maximum size for the target type; <code>0</code> for no limit.
+	 * @return <code>true</code> if a bounded cache is in use.
+	 */
+	boolean resizeCacheType(String typeName, int maxSize);
+}
@@ -0,0 +1,279 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>Counters describing the effectiveness of object caching, maintained by a {@link TransformationCacheManager}
+ * when statistics are enabled.  Hits, misses, puts and evictions are counted per target type; flushes are counted
+ * for the cache manager as a whole.</p>
+ * 
+ * <p>Counters are striped across cache lines so that concurrent transformations rarely contend when updating
+ * them, keeping the cost of collecting statistics low enough for production use.  Values read while 
+ * transformations are in progress are therefore approximate.</p>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see TransformationCacheManager#setStatisticsEnabled(boolean)
+ * @see TransformationCacheMonitor
+ *
+ */
+public class TransformationCacheStatistics 
+{
+	private ConcurrentMap<Class<?>, TypeStatistics> types = new ConcurrentHashMap<>();
+	
+	private StripedCounter flushes = new StripedCounter();
+	
+	/**
+	 * Records a successful cache lookup.
+	 * 
+	 * @param type The target type of the lookup.
+	 */
+	public void recordHit(Class<?> type)
+	{
+		getTypeStatistics(type).hits.increment();
+	}
+	
+	/**
+	 * Records an unsuccessful cache lookup.
+	 * 
+	 * @param type The target type of the lookup.
+	 */
+	public void recordMiss(Class<?> type)
+	{
+		getTypeStatistics(type).misses.increment();
+	}
+	
+	/**
+	 * Records the addition of an object to the cache.
+	 * 
+	 * @param type The target type of the cached object.
+	 */
+	public void recordPut(Class<?> type)
+	{
+		getTypeStatistics(type).puts.increment();
+	}
+	
+	/**
+	 * Records the removal of an object from the cache for a reason other than a flush, such as a size
+	 * limit, expiration or garbage collection.
+	 * 
+	 * @param type The target type of the removed object.
+	 */
+	public void recordEviction(Class<?> type)
+	{
+		getTypeStatistics(type).evictions.increment();
+	}
+	
+	/**
+	 * Records a flush of the cache.
+	 */
+	public void recordFlush()
+	{
+		flushes.increment();
+	}
+	
+	/**
+	 * Returns the target types for which statistics have been recorded.
+	 * 
+	 * @return An unmodifiable snapshot of the recorded target types.
+	 */
+	public Set<Class<?>> getTypes()
+	{
+		return Collections.unmodifiableSet(new HashSet<>(types.keySet()));
+	}
+	
+	/**
+	 * Returns the number of successful lookups for the specified target type.
+	 * 
+	 * @param type The target type.
+	 * @return The number of cache hits.
+	 */
+	public long getHitCount(Class<?> type)
+	{
+		TypeStatistics statistics = types.get(type);
+		return (statistics == null) ? 0 : statistics.hits.sum();
+	}
+	
+	/**
+	 * Returns the number of unsuccessful lookups for the specified target type.
+	 * 
+	 * @param type The target type.
+	 * @return The number of cache misses.
+	 */
+	public long getMissCount(Class<?> type)
+	{
+		TypeStatistics statistics = types.get(type);
+		return (statistics == null) ? 0 : statistics.misses.sum();
+	}
+	
+	/**
+	 * Returns the number of objects of the specified target type added to the cache.
+	 * 
+	 * @param type The target type.
+	 * @return The number of cache puts.
+	 */
+	public long getPutCount(Class<?> type)
+	{
+		TypeStatistics statistics = types.get(type);
+		return (statistics == null) ? 0 : statistics.puts.sum();
+	}
+	
+	/**
+	 * Returns the number of objects of the specified target type evicted from the cache.
+	 * 
+	 * @param type The target type.
+	 * @return The number of cache evictions.
+	 */
+	public long getEvictionCount(Class<?> type)
+	{
+		TypeStatistics statistics = types.get(type);
+		return (statistics == null) ? 0 : statistics.evictions.sum();
+	}
+	
+	/**
+	 * Returns the total number of successful lookups.
+	 * 
+	 * @return The number of cache hits for all target types.
+	 */
+	public long getHitCount()
+	{
+		long result = 0;
+		
+		for (TypeStatistics statistics : types.values())
+		{
+			result += statistics.hits.sum();
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns the total number of unsuccessful lookups.
+	 * 
+	 * @return The number of cache misses for all target types.
+	 */
+	public long getMissCount()
+	{
+		long result = 0;
+		
+		for (TypeStatistics statistics : types.values())
+		{
+			result += statistics.misses.sum();
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns the total number of objects added to the cache.
+	 * 
+	 * @return The number of cache puts for all target types.
+	 */
+	public long getPutCount()
+	{
+		long result = 0;
+		
+		for (TypeStatistics statistics : types.values())
+		{
+			result += statistics.puts.sum();
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns the total number of objects evicted from the cache.
+	 * 
+	 * @return The number of cache evictions for all target types.
+	 */
+	public long getEvictionCount()
+	{
+		long result = 0;
+		
+		for (TypeStatistics statistics : types.values())
+		{
+			result += statistics.evictions.sum();
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Returns the number of times the cache has been flushed.
+	 * 
+	 * @return The number of cache flushes.
+	 */
+	public long getFlushCount()
+	{
+		return flushes.sum();
+	}
+	
+	/**
+	 * Returns the proportion of lookups that were successful.
+	 * 
+	 * @return The hit ratio, between <code>0.0</code> and <code>1.0</code>; <code>0.0</code> if no lookups
+	 * have been recorded.
+	 */
+	public double getHitRatio()
+	{
+		long hits = getHitCount();
+		long lookups = hits + getMissCount();
+		
+		return (lookups == 0) ? 0.0 : (double) hits / lookups;
+	}
+	
+	/**
+	 * Resets all counters to zero.
+	 */
+	public void reset()
+	{
+		types.clear();
+		flushes.reset();
+	}
+	
+	private TypeStatistics getTypeStatistics(Class<?> type)
+	{
+		TypeStatistics result = types.get(type);
+		
+		if (result == null)
+		{
+			TypeStatistics newStatistics = new TypeStatistics();
+			result = types.putIfAbsent(type, newStatistics);
+			if (result == null)
+			{
+				result = newStatistics;
+			}
+		}
+		
+		return result;
+	}
+	
+	private static class TypeStatistics
+	{
+		private StripedCounter hits = new StripedCounter();
+		private StripedCounter misses = new StripedCounter();
+		private StripedCounter puts = new StripedCounter();
+		private StripedCounter evictions = new StripedCounter();
+	}
+}
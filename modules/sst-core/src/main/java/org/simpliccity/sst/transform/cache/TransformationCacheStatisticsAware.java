@@ -0,0 +1,39 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+/**
+ * Implemented by {@link TransformationCache}s that remove entries on their own (for example because of a size limit,
+ * expiration or garbage collection) and can report those evictions.  When statistics are enabled, the
+ * {@link TransformationCacheManager} supplies its statistics to each such cache it obtains from the configured
+ * {@link TransformationCacheFactory}.
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see TransformationCacheManager#setStatisticsEnabled(boolean)
+ *
+ */
+public interface TransformationCacheStatisticsAware 
+{
+	/**
+	 * Supplies the statistics in which the cache records its evictions.
+	 * 
+	 * @param statistics The statistics of the cache manager.
+	 */
+	void setStatistics(TransformationCacheStatistics statistics);
+}
@@ -0,0 +1,105 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+/**
+ * <p>An explicit scope for the cached objects of a unit of work, such as the handling of a single request.
+ * A session is opened by {@link TransformationCacheManager#openSession()} and should be closed with 
+ * try-with-resources:</p>
+ * 
+ * <pre>
+ * try (TransformationSession session = transformer.getCacheManager().openSession())
+ * {
+ *     Target target = transformer.transform(source, Target.class);
+ *     ...
+ * }
+ * </pre>
+ * 
+ * <p>While the session is open, every transformation performed on the opening thread uses a thread-safe cache that 
+ * belongs to the session, in place of the configured (global or thread-local) cache.  Flushes requested by individual 
+ * transformations (the <code>FLUSH</code> cache mode or the <code>forceFlush</code> flag) clear the session cache, and 
+ * the session cache is discarded when the session is closed, so the lifetime of the cached objects is bounded by the 
+ * session regardless of the cache modes in use.  The session cache is also used by 
+ * asynchronous transformations started from the opening thread, or it can be passed to other threads explicitly
+ * (see {@link #getCache()}).</p>
+ * 
+ * <p>Sessions may be nested, but must be closed by the thread that opened them, in the reverse order of opening.</p>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see TransformationCacheManager#beginSession(TransformationCache)
+ *
+ */
+public class TransformationSession implements AutoCloseable
+{
+	private TransformationCacheManager cacheManager;
+	private TransformationCache cache;
+	private Thread owner;
+	private boolean open = true;
+	
+	TransformationSession(TransformationCacheManager cacheManager, TransformationCache cache)
+	{
+		this.cacheManager = cacheManager;
+		this.cache = cache;
+		this.owner = Thread.currentThread();
+	}
+	
+	/**
+	 * Returns the cache that belongs to this session.  The cache is thread-safe, so it can be passed to 
+	 * transformations performed by other threads on behalf of the session.
+	 * 
+	 * @return The session cache; <code>null</code> if caching is disabled.
+	 * 
+	 * @see TransformationCacheManager#beginSession(TransformationCache)
+	 */
+	public TransformationCache getCache()
+	{
+		return cache;
+	}
+	
+	/**
+	 * Indicates whether this session is still open.
+	 * 
+	 * @return <code>true</code> if the session has not been closed; <code>false</code> otherwise.
+	 */
+	public boolean isOpen()
+	{
+		return open;
+	}
+	
+	/**
+	 * Closes this session, restoring any enclosing session on the current thread and discarding the objects 
+	 * held by the session cache.  Closing a session that is already closed has no effect.
+	 * 
+	 * @throws IllegalStateException If the session is closed by a thread other than the one that opened it.
+	 */
+	@Override
+	public void close()
+	{
+		if (open)
+		{
+			if (Thread.currentThread() != owner)
+			{
+				throw new IllegalStateException("A transformation session must be closed by the thread that opened it.");
+			}
+			
+			cacheManager.closeSession(this);
+			open = false;
+		}
+	}
+}
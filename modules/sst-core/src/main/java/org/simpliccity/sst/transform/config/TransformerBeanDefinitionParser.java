@@ -16,17 +16,26 @@
 
 package org.simpliccity.sst.transform.config;
 
+import java.util.List;
+
 import org.simpliccity.sst.bean.lookup.config.BeanMetadataLookupManagerParserHelper;
 import org.simpliccity.sst.transform.Transformer;
+import org.simpliccity.sst.transform.cache.BoundedTransformationCacheFactory;
 import org.simpliccity.sst.transform.cache.TransformationCacheManager;
+import org.simpliccity.sst.transform.cache.TransformationCacheMonitor;
 import org.springframework.beans.factory.BeanDefinitionStoreException;
 import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.ManagedMap;
 import org.springframework.beans.factory.xml.AbstractBeanDefinitionParser;
 import org.springframework.beans.factory.xml.ParserContext;
+import org.springframework.jmx.export.MBeanExporter;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
+import org.springframework.util.xml.DomUtils;
 import org.w3c.dom.Element;
 
 /**
@@ -54,11 +63,28 @@ import org.w3c.dom.Element;
  * <ul>
  * <li>disableCache</li>
  * <li>defaultCacheMode</li>
+ * <li>defaultCacheKey</li>
  * <li>globalCacheScope</li>
  * <li>cacheFactory</li>
  * <li>surfaceExceptions</li>
+ * <li>invokerFactory</li>
+ * <li>streamChunkSize</li>
+ * <li>warmUp</li>
+ * <li>cacheMaxSize</li>
+ * <li>cacheTimeToLive</li>
+ * <li>cacheStatistics</li>
  * </ul>
  * 
+ * <p>If <code>cacheMaxSize</code>, <code>cacheTimeToLive</code> or any nested <code>cacheLimit</code> element is 
+ * specified, and <code>cacheFactory</code> is not, the cache manager is configured with a
+ * {@link BoundedTransformationCacheFactory} using those limits.</p>
+ * 
+ * <p>If <code>cacheStatistics</code> is <code>true</code>, the cache manager collects statistics and a 
+ * {@link TransformationCacheMonitor} for it is registered with the platform MBean server under the name
+ * {@value #OBJECT_NAME_CACHE_MONITOR}, qualified by a <code>context</code> key that identifies the bean factory
+ * of the application context (see {@link #getCacheMonitorObjectName(BeanDefinitionRegistry)}).  Each context 
+ * therefore registers its own monitor; registration fails if the name is already in use.</p>
+ * 
  * @author Kevin Fox
  * @since 0.2.0
  * 
@@ -71,13 +97,53 @@ public class TransformerBeanDefinitionParser extends AbstractBeanDefinitionParse
 {
 	public static final String BEAN_NAME_TRANSFORMER = "sstTransformer";
 	public static final String BEAN_NAME_CACHE_MANAGER = "sstTransformationCacheManager";
+	public static final String BEAN_NAME_CACHE_MONITOR = "sstTransformationCacheMonitor";
+	public static final String BEAN_NAME_CACHE_MONITOR_EXPORTER = "sstTransformationCacheMonitorExporter";
+	public static final String OBJECT_NAME_CACHE_MONITOR = "org.simpliccity.sst:type=TransformationCacheMonitor,name=" + BEAN_NAME_CACHE_MANAGER;
 	
 	private static final String PROPERTY_DISABLECACHE = "disableCache";
 	private static final String PROPERTY_DEFAULTCACHEMODE = "defaultCacheMode";
+	private static final String PROPERTY_DEFAULTCACHEKEY = "defaultCacheKey";
 	private static final String PROPERTY_GLOBALCACHESCOPE = "globalCacheScope";
 	private static final String PROPERTY_CACHEFACTORY = "cacheFactory";
 	private static final String PROPERTY_SURFACEEXCEPTIONS = "surfaceExceptions";
+	private static final String PROPERTY_INVOKERFACTORY = "invokerFactory";
+	private static final String PROPERTY_STREAMCHUNKSIZE = "streamChunkSize";
+	private static final String PROPERTY_WARMUP = "warmUp";
 	private static final String PROPERTY_CACHE_MANAGER = "cacheManager";
+	private static final String PROPERTY_CACHEMAXSIZE = "cacheMaxSize";
+	private static final String PROPERTY_CACHETIMETOLIVE = "cacheTimeToLive";
+	private static final String PROPERTY_CACHESTATISTICS = "cacheStatistics";
+	private static final String PROPERTY_STATISTICSENABLED = "statisticsEnabled";
+	
+	private static final String EXPORTER_PROPERTY_BEANS = "beans";
+	private static final String EXPORTER_PROPERTY_REGISTRATIONPOLICY = "registrationPolicy";
+	private static final String EXPORTER_REGISTRATIONPOLICY = "FAIL_ON_EXISTING";
+	
+	private static final String OBJECT_NAME_KEY_CONTEXT = ",context=";
+	
+	private static final String ELEMENT_CACHELIMIT = "cacheLimit";
+	private static final String ATTRIBUTE_TYPE = "type";
+	private static final String ATTRIBUTE_MAXSIZE = "maxSize";
+	
+	private static final String FACTORY_PROPERTY_MAXSIZE = "maxSize";
+	private static final String FACTORY_PROPERTY_MAXSIZES = "maxSizes";
+	private static final String FACTORY_PROPERTY_TIMETOLIVE = "timeToLive";
+	
+	/**
+	 * Returns the JMX object name under which the {@link TransformationCacheMonitor} configured in the specified
+	 * registry is exported.
+	 * 
+	 * @since 1.0.0
+	 * 
+	 * @param registry The registry (normally the bean factory of an application context) in which the 
+	 * <code>transformer</code> element was parsed.
+	 * @return The object name of the cache monitor.
+	 */
+	public static String getCacheMonitorObjectName(BeanDefinitionRegistry registry)
+	{
+		return OBJECT_NAME_CACHE_MONITOR + OBJECT_NAME_KEY_CONTEXT + ObjectUtils.getIdentityHexString(registry);
+	}
 	
 	@Override
 	protected AbstractBeanDefinition parseInternal(Element element, ParserContext parserContext) 
@@ -96,6 +162,12 @@ public class TransformerBeanDefinitionParser extends AbstractBeanDefinitionParse
 		// Associate the cache manager bean with the transformer
 		transformerBuilder.addPropertyReference(PROPERTY_CACHE_MANAGER, BEAN_NAME_CACHE_MANAGER);
 		
+		// Expose the cache statistics through JMX, if requested
+		if (Boolean.valueOf(element.getAttribute(PROPERTY_CACHESTATISTICS)))
+		{
+			registerCacheMonitor(registry);
+		}
+		
 		// If no lookup manager has been defined, register one using the default lookup strategy
 		if (!registry.containsBeanDefinition(BeanMetadataLookupManagerParserHelper.BEAN_NAME_LOOKUP_MANAGER))
 		{
@@ -125,6 +197,27 @@ public class TransformerBeanDefinitionParser extends AbstractBeanDefinitionParse
 			transformerBuilder.addPropertyValue(PROPERTY_SURFACEEXCEPTIONS, Boolean.valueOf(surfaceExceptions));
 		}
 		
+		// Handle "invokerFactory" property
+		String invokerFactory = element.getAttribute(PROPERTY_INVOKERFACTORY);
+		if (StringUtils.hasText(invokerFactory))
+		{
+			transformerBuilder.addPropertyReference(PROPERTY_INVOKERFACTORY, invokerFactory);
+		}
+		
+		// Handle "streamChunkSize" property
+		String streamChunkSize = element.getAttribute(PROPERTY_STREAMCHUNKSIZE);
+		if (StringUtils.hasText(streamChunkSize))
+		{
+			transformerBuilder.addPropertyValue(PROPERTY_STREAMCHUNKSIZE, Integer.valueOf(streamChunkSize));
+		}
+		
+		// Handle "warmUp" property
+		String warmUp = element.getAttribute(PROPERTY_WARMUP);
+		if (StringUtils.hasText(warmUp))
+		{
+			transformerBuilder.addPropertyValue(PROPERTY_WARMUP, Boolean.valueOf(warmUp));
+		}
+		
 		return transformerBuilder;
 	}
 
@@ -149,6 +242,13 @@ public class TransformerBeanDefinitionParser extends AbstractBeanDefinitionParse
 			cacheManagerBuilder.addPropertyValue(PROPERTY_DEFAULTCACHEMODE, defaultCacheMode);
 		}
 		
+		// Handle "defaultCacheKey" property
+		String defaultCacheKey = element.getAttribute(PROPERTY_DEFAULTCACHEKEY);
+		if (StringUtils.hasText(defaultCacheKey))
+		{
+			cacheManagerBuilder.addPropertyValue(PROPERTY_DEFAULTCACHEKEY, defaultCacheKey);
+		}
+		
 		// Handle "globalCacheScope" property
 		String globalCacheScope = element.getAttribute(PROPERTY_GLOBALCACHESCOPE);
 		if (StringUtils.hasText(globalCacheScope))
@@ -156,13 +256,86 @@ public class TransformerBeanDefinitionParser extends AbstractBeanDefinitionParse
 			cacheManagerBuilder.addPropertyValue(PROPERTY_GLOBALCACHESCOPE, Boolean.valueOf(globalCacheScope));
 		}
 		
+		// Handle "cacheStatistics" property
+		String cacheStatistics = element.getAttribute(PROPERTY_CACHESTATISTICS);
+		if (StringUtils.hasText(cacheStatistics))
+		{
+			cacheManagerBuilder.addPropertyValue(PROPERTY_STATISTICSENABLED, Boolean.valueOf(cacheStatistics));
+		}
+		
 		// Handle "cacheFactory" property
 		String cacheFactory = element.getAttribute(PROPERTY_CACHEFACTORY);
 		if (StringUtils.hasText(cacheFactory))
 		{
 			cacheManagerBuilder.addPropertyReference(PROPERTY_CACHEFACTORY, cacheFactory);
 		}
+		else
+		{
+			// Handle cache limits, if any
+			AbstractBeanDefinition boundedCacheFactory = configureBoundedCacheFactory(element);
+			if (boundedCacheFactory != null)
+			{
+				cacheManagerBuilder.addPropertyValue(PROPERTY_CACHEFACTORY, boundedCacheFactory);
+			}
+		}
 		
 		return cacheManagerBuilder.getBeanDefinition();
 	}
+	
+	private void registerCacheMonitor(BeanDefinitionRegistry registry)
+	{
+		BeanDefinitionBuilder monitorBuilder = BeanDefinitionBuilder.genericBeanDefinition(TransformationCacheMonitor.class);
+		monitorBuilder.addConstructorArgReference(BEAN_NAME_CACHE_MANAGER);
+		registry.registerBeanDefinition(BEAN_NAME_CACHE_MONITOR, monitorBuilder.getBeanDefinition());
+		
+		// Export the monitor under a name specific to this context
+		ManagedMap<String, RuntimeBeanReference> beans = new ManagedMap<>(1);
+		beans.put(getCacheMonitorObjectName(registry), new RuntimeBeanReference(BEAN_NAME_CACHE_MONITOR));
+		
+		BeanDefinitionBuilder exporterBuilder = BeanDefinitionBuilder.genericBeanDefinition(MBeanExporter.class);
+		exporterBuilder.addPropertyValue(EXPORTER_PROPERTY_BEANS, beans);
+		exporterBuilder.addPropertyValue(EXPORTER_PROPERTY_REGISTRATIONPOLICY, EXPORTER_REGISTRATIONPOLICY);
+		registry.registerBeanDefinition(BEAN_NAME_CACHE_MONITOR_EXPORTER, exporterBuilder.getBeanDefinition());
+	}
+	
+	private AbstractBeanDefinition configureBoundedCacheFactory(Element element)
+	{
+		String maxSize = element.getAttribute(PROPERTY_CACHEMAXSIZE);
+		String timeToLive = element.getAttribute(PROPERTY_CACHETIMETOLIVE);
+		List<Element> limits = DomUtils.getChildElementsByTagName(element, ELEMENT_CACHELIMIT);
+		
+		// No bounded cache unless at least one limit is specified
+		if (!StringUtils.hasText(maxSize) && !StringUtils.hasText(timeToLive) && limits.isEmpty())
+		{
+			return null;
+		}
+		
+		BeanDefinitionBuilder factoryBuilder = BeanDefinitionBuilder.genericBeanDefinition(BoundedTransformationCacheFactory.class);
+		
+		// Handle "cacheMaxSize" property
+		if (StringUtils.hasText(maxSize))
+		{
+			factoryBuilder.addPropertyValue(FACTORY_PROPERTY_MAXSIZE, Integer.valueOf(maxSize));
+		}
+		
+		// Handle "cacheTimeToLive" property
+		if (StringUtils.hasText(timeToLive))
+		{
+			factoryBuilder.addPropertyValue(FACTORY_PROPERTY_TIMETOLIVE, Long.valueOf(timeToLive));
+		}
+		
+		// Handle nested "cacheLimit" elements (type names are converted to classes by the container)
+		if (!limits.isEmpty())
+		{
+			ManagedMap<String, Integer> maxSizes = new ManagedMap<>(limits.size());
+			for (Element limit : limits)
+			{
+				maxSizes.put(limit.getAttribute(ATTRIBUTE_TYPE), Integer.valueOf(limit.getAttribute(ATTRIBUTE_MAXSIZE)));
+			}
+			
+			factoryBuilder.addPropertyValue(FACTORY_PROPERTY_MAXSIZES, maxSizes);
+		}
+		
+		return factoryBuilder.getBeanDefinition();
+	}
 }
@@ -0,0 +1,91 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.invoke;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * The base class for the invokers created by generated {@link TransformationDispatcher}s.  Subclasses
+ * call the bound method directly; this class reports anything raised by that call in the same way as
+ * the reflective invokers and resolves the corresponding {@link Method} only when it is requested.
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ *
+ */
+public abstract class AbstractGeneratedTransformationMethodInvoker implements TransformationMethodInvoker 
+{
+	private Class<?> declaringClass;
+	private String methodName;
+	private Class<?> parameterType;
+	private volatile Method method;
+	
+	/**
+	 * Creates an invoker for the identified method.
+	 * 
+	 * @param declaringClass The transformation bean class.
+	 * @param methodName The name of the bound method.
+	 * @param parameterType The type of the single parameter of the bound method.
+	 */
+	protected AbstractGeneratedTransformationMethodInvoker(Class<?> declaringClass, String methodName, Class<?> parameterType)
+	{
+		this.declaringClass = declaringClass;
+		this.methodName = methodName;
+		this.parameterType = parameterType;
+	}
+	
+	@Override
+	public Method getMethod() 
+	{
+		if (method == null)
+		{
+			try
+			{
+				method = declaringClass.getMethod(methodName, parameterType);
+			}
+			catch (NoSuchMethodException e)
+			{
+				throw new IllegalStateException("Generated dispatcher is out of date for [" + declaringClass.getName() + "." + methodName + "].", e);
+			}
+		}
+		
+		return method;
+	}
+
+	@Override
+	public final Object invoke(Object input) throws InvocationTargetException 
+	{
+		try
+		{
+			return doInvoke(input);
+		}
+		catch (Throwable t)
+		{
+			throw new InvocationTargetException(t);
+		}
+	}
+	
+	/**
+	 * Calls the bound method on the transformation bean.
+	 * 
+	 * @param input The single argument passed to the bound method.
+	 * @return The value returned by the bound method.
+	 * @throws Throwable Anything raised by the bound method.
+	 */
+	protected abstract Object doInvoke(Object input) throws Throwable;
+}
@@ -0,0 +1,130 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.invoke;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * <p>The default {@link TransformationMethodInvokerFactory} used by {@link org.simpliccity.sst.transform.Transformer}.
+ * Each transformation bean method is bound, once, to a {@link MethodHandle} with the bean instance
+ * as its receiver and adapted to the generic <code>(Object)Object</code> signature.  Subsequent calls
+ * are exact invocations of that handle, avoiding the varargs array allocation and per-call access checks
+ * of {@link Method#invoke(Object, Object...)}.</p>
+ * 
+ * <p>Methods that cannot be bound through the public lookup (for example, public methods declared by a
+ * non-public class) are delegated to the <code>fallback</code> factory, which defaults to 
+ * {@link ReflectiveTransformationMethodInvokerFactory}.</p>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ *
+ */
+public class MethodHandleTransformationMethodInvokerFactory implements TransformationMethodInvokerFactory 
+{
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class);
+	
+	private Log logger = LogFactory.getLog(this.getClass());
+	
+	private TransformationMethodInvokerFactory fallback = new ReflectiveTransformationMethodInvokerFactory();
+	
+	/**
+	 * Returns the factory used for methods that cannot be bound to a {@link MethodHandle}.
+	 * 
+	 * @return The fallback invoker factory.
+	 */
+	public TransformationMethodInvokerFactory getFallback() 
+	{
+		return fallback;
+	}
+
+	/**
+	 * Specifies the factory used for methods that cannot be bound to a {@link MethodHandle}.
+	 * 
+	 * @param fallback The fallback invoker factory.
+	 */
+	public void setFallback(TransformationMethodInvokerFactory fallback) 
+	{
+		this.fallback = fallback;
+	}
+
+	@Override
+	public TransformationMethodInvoker createInvoker(Object transformer, Method method) 
+	{
+		TransformationMethodInvoker result;
+		
+		try
+		{
+			MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+			
+			// Bind the bean instance as the receiver (static methods have none)...
+			if (!Modifier.isStatic(method.getModifiers()))
+			{
+				handle = handle.bindTo(transformer);
+			}
+			
+			// ...and adapt to a generic signature so the handle can be invoked exactly
+			result = new MethodHandleTransformationMethodInvoker(method, handle.asType(INVOKER_TYPE));
+		}
+		catch (IllegalAccessException | RuntimeException e)
+		{
+			logger.debug("Unable to bind transformation method [" + method + "] to a method handle.  Using fallback invoker.", e);
+			result = fallback.createInvoker(transformer, method);
+		}
+		
+		return result;
+	}
+
+	private static class MethodHandleTransformationMethodInvoker implements TransformationMethodInvoker
+	{
+		private Method method;
+		private MethodHandle handle;
+		
+		public MethodHandleTransformationMethodInvoker(Method method, MethodHandle handle)
+		{
+			this.method = method;
+			this.handle = handle;
+		}
+		
+		@Override
+		public Method getMethod() 
+		{
+			return method;
+		}
+
+		@Override
+		public Object invoke(Object input) throws InvocationTargetException 
+		{
+			try
+			{
+				return (Object) handle.invokeExact(input);
+			}
+			catch (Throwable t)
+			{
+				// Match the reflective contract: anything raised by the call site is reported as a target exception
+				throw new InvocationTargetException(t);
+			}
+		}
+	}
+}
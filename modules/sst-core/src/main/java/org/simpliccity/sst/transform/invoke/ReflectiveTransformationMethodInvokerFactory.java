@@ -0,0 +1,64 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.invoke;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * A {@link TransformationMethodInvokerFactory} that invokes transformation bean methods using 
+ * {@link Method#invoke(Object, Object...)}.  This is the behavior of versions of the
+ * <code>transform</code> framework that predate pluggable invokers, and serves as the fallback
+ * for {@link MethodHandleTransformationMethodInvokerFactory} when a method cannot be bound
+ * directly.
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ *
+ */
+public class ReflectiveTransformationMethodInvokerFactory implements TransformationMethodInvokerFactory 
+{
+	@Override
+	public TransformationMethodInvoker createInvoker(Object transformer, Method method) 
+	{
+		return new ReflectiveTransformationMethodInvoker(transformer, method);
+	}
+
+	private static class ReflectiveTransformationMethodInvoker implements TransformationMethodInvoker
+	{
+		private Object transformer;
+		private Method method;
+		
+		public ReflectiveTransformationMethodInvoker(Object transformer, Method method)
+		{
+			this.transformer = transformer;
+			this.method = method;
+		}
+		
+		@Override
+		public Method getMethod() 
+		{
+			return method;
+		}
+
+		@Override
+		public Object invoke(Object input) throws IllegalAccessException, InvocationTargetException 
+		{
+			return method.invoke(transformer, input);
+		}
+	}
+}
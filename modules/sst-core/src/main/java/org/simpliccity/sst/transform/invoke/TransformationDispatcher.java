@@ -0,0 +1,98 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.invoke;
+
+import org.simpliccity.sst.transform.annotation.TransformationType;
+
+/**
+ * <p>A dispatcher that provides direct call sites for the annotated methods of a single transformation bean
+ * class.  Implementations are generated at compile time by 
+ * {@link org.simpliccity.sst.transform.processor.TransformationDispatcherProcessor} for each class marked with 
+ * {@link org.simpliccity.sst.transform.annotation.Transformation}, and are listed in the 
+ * {@link TransformationDispatcherIndex}.</p>
+ * 
+ * <p>When a dispatcher is available for a transformation bean, {@link org.simpliccity.sst.transform.Transformer}
+ * uses it in place of reflective method discovery.</p>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see TransformationDispatcherIndex
+ *
+ */
+public interface TransformationDispatcher 
+{
+	/**
+	 * Returns the transformation bean class served by this dispatcher.
+	 * 
+	 * @return The class marked with {@link org.simpliccity.sst.transform.annotation.Transformation}.
+	 */
+	Class<?> getTransformerClass();
+	
+	/**
+	 * Returns the source class declared by the transformation bean.
+	 * 
+	 * @return The value of {@link org.simpliccity.sst.transform.annotation.Transformation#source()}.
+	 */
+	Class<?> getSourceClass();
+	
+	/**
+	 * Returns the target class declared by the transformation bean.
+	 * 
+	 * @return The value of {@link org.simpliccity.sst.transform.annotation.Transformation#target()}.
+	 */
+	Class<?> getTargetClass();
+	
+	/**
+	 * Returns the direction declared by the transformation bean.
+	 * 
+	 * @return The value of {@link org.simpliccity.sst.transform.annotation.Transformation#direction()}.
+	 */
+	TransformationType getDirection();
+	
+	/**
+	 * Returns an invoker for the {@link org.simpliccity.sst.transform.annotation.OutTransform} method of the bean.
+	 * 
+	 * @param transformer An instance of the transformation bean class.
+	 * @return The invoker; <code>null</code> if the bean has no such method.
+	 */
+	TransformationMethodInvoker getOutboundTransformationInvoker(Object transformer);
+
+	/**
+	 * Returns an invoker for the {@link org.simpliccity.sst.transform.annotation.InTransform} method of the bean.
+	 * 
+	 * @param transformer An instance of the transformation bean class.
+	 * @return The invoker; <code>null</code> if the bean has no such method.
+	 */
+	TransformationMethodInvoker getInboundTransformationInvoker(Object transformer);
+
+	/**
+	 * Returns an invoker for the {@link org.simpliccity.sst.transform.cache.annotation.OutTransformCacheIndex} method of the bean.
+	 * 
+	 * @param transformer An instance of the transformation bean class.
+	 * @return The invoker; <code>null</code> if the bean has no such method.
+	 */
+	TransformationMethodInvoker getOutboundCacheIndexInvoker(Object transformer);
+
+	/**
+	 * Returns an invoker for the {@link org.simpliccity.sst.transform.cache.annotation.InTransformCacheIndex} method of the bean.
+	 * 
+	 * @param transformer An instance of the transformation bean class.
+	 * @return The invoker; <code>null</code> if the bean has no such method.
+	 */
+	TransformationMethodInvoker getInboundCacheIndexInvoker(Object transformer);
+}
@@ -0,0 +1,155 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.invoke;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+/**
+ * <p>The set of {@link TransformationDispatcher}s generated at compile time and available on the class path.
+ * Each run of {@link org.simpliccity.sst.transform.processor.TransformationDispatcherProcessor} writes a 
+ * properties resource named <code>META-INF/sst.transformation.dispatchers</code> that maps the name of each 
+ * transformation bean class to the name of its generated dispatcher.  All such resources on the class path 
+ * are merged when the index is loaded.</p>
+ * 
+ * <p>Since every dispatcher describes the source class, target class and direction of its transformation,
+ * the index also serves as a catalog of all source/target pairs known at compile time.</p>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ *
+ */
+public class TransformationDispatcherIndex 
+{
+	/**
+	 * The name of the resource(s) containing the generated index entries ({@value}).
+	 */
+	public static final String INDEX_RESOURCE = "META-INF/sst.transformation.dispatchers";
+	
+	private static Log logger = LogFactory.getLog(TransformationDispatcherIndex.class);
+	
+	private Map<String, TransformationDispatcher> dispatchers;
+	
+	/**
+	 * Creates an index containing the specified dispatchers.
+	 * 
+	 * @param dispatchers The dispatchers, keyed by the name of the transformation bean class.
+	 */
+	public TransformationDispatcherIndex(Map<String, TransformationDispatcher> dispatchers)
+	{
+		this.dispatchers = Collections.unmodifiableMap(new HashMap<>(dispatchers));
+	}
+	
+	/**
+	 * Loads the index from all instances of {@link #INDEX_RESOURCE} visible to the specified class loader.
+	 * Entries that cannot be loaded are skipped with a warning.
+	 * 
+	 * @param classLoader The class loader used to locate the index resources and dispatcher classes.
+	 * @return The loaded index; empty if no generated dispatchers are available.
+	 */
+	public static TransformationDispatcherIndex load(ClassLoader classLoader)
+	{
+		Map<String, TransformationDispatcher> result = new HashMap<>();
+		
+		Properties entries = null;
+		try
+		{
+			entries = PropertiesLoaderUtils.loadAllProperties(INDEX_RESOURCE, classLoader);
+		}
+		catch (IOException e)
+		{
+			// Allow processing to continue with a warning; reflective dispatch will be used
+			logger.warn("Unable to read transformation dispatcher index resources.", e);
+		}
+		
+		if (entries != null)
+		{
+			for (String transformerName : entries.stringPropertyNames())
+			{
+				String dispatcherName = entries.getProperty(transformerName);
+				
+				TransformationDispatcher dispatcher = createDispatcher(dispatcherName, classLoader);
+				if (dispatcher != null)
+				{
+					result.put(transformerName, dispatcher);
+				}
+			}
+		}
+		
+		logger.debug("Loaded generated transformation dispatchers [" + result.size() + "].");
+		
+		return new TransformationDispatcherIndex(result);
+	}
+	
+	/**
+	 * Returns the dispatcher generated for the specified transformation bean class.
+	 * 
+	 * @param transformerClass The class marked with {@link org.simpliccity.sst.transform.annotation.Transformation}.
+	 * @return The generated dispatcher; <code>null</code> if none is available.
+	 */
+	public TransformationDispatcher getDispatcher(Class<?> transformerClass)
+	{
+		return dispatchers.get(transformerClass.getName());
+	}
+	
+	/**
+	 * Returns all dispatchers in the index.
+	 * 
+	 * @return The indexed dispatchers.
+	 */
+	public Collection<TransformationDispatcher> getDispatchers()
+	{
+		return new ArrayList<>(dispatchers.values());
+	}
+	
+	/**
+	 * Returns the number of dispatchers in the index.
+	 * 
+	 * @return The number of indexed dispatchers.
+	 */
+	public int size()
+	{
+		return dispatchers.size();
+	}
+	
+	private static TransformationDispatcher createDispatcher(String dispatcherName, ClassLoader classLoader)
+	{
+		TransformationDispatcher result = null;
+		
+		try
+		{
+			Class<?> dispatcherClass = Class.forName(dispatcherName, true, classLoader);
+			result = (TransformationDispatcher) dispatcherClass.newInstance();
+		}
+		catch (ClassNotFoundException | InstantiationException | IllegalAccessException | ClassCastException e)
+		{
+			// Allow processing to continue with a warning, skipping this dispatcher
+			logger.warn("Unable to create transformation dispatcher [" + dispatcherName + "].", e);
+		}
+		
+		return result;
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.invoke;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * A call site bound to a single annotated method of a transformation bean.  Instances are created
+ * once by a {@link TransformationMethodInvokerFactory}, when the 
+ * {@link org.simpliccity.sst.transform.TransformationProxy} for the bean is built, and are then used
+ * for every subsequent transformation or cache index computation.
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see TransformationMethodInvokerFactory
+ *
+ */
+public interface TransformationMethodInvoker 
+{
+	/**
+	 * Returns the transformation bean method to which this invoker is bound.
+	 * 
+	 * @return The bound method.
+	 */
+	Method getMethod();
+	
+	/**
+	 * Invokes the bound method on the transformation bean with the specified input.
+	 * 
+	 * @param input The single argument passed to the bound method.
+	 * @return The value returned by the bound method.
+	 * @throws IllegalAccessException If the bound method cannot be accessed.
+	 * @throws InvocationTargetException If the bound method throws an exception.  Implementations that do
+	 * not rely on reflection also report an input that is incompatible with the bound method in this way.
+	 */
+	Object invoke(Object input) throws IllegalAccessException, InvocationTargetException;
+}
@@ -0,0 +1,46 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.invoke;
+
+import java.lang.reflect.Method;
+
+/**
+ * An interface that specifies the operation used to bind an annotated method of a transformation bean
+ * (e.g. one marked with {@link org.simpliccity.sst.transform.annotation.OutTransform} or 
+ * {@link org.simpliccity.sst.transform.cache.annotation.OutTransformCacheIndex}) to a 
+ * {@link TransformationMethodInvoker}.  The factory is consulted once per method, when the
+ * {@link org.simpliccity.sst.transform.TransformationProxy} for the bean is built, so that the 
+ * cost of preparing the call site is not paid on each transformation.
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ * 
+ * @see MethodHandleTransformationMethodInvokerFactory
+ * @see ReflectiveTransformationMethodInvokerFactory
+ *
+ */
+public interface TransformationMethodInvokerFactory 
+{
+	/**
+	 * Creates an invoker bound to the specified method of the transformation bean.
+	 * 
+	 * @param transformer An instance of a class marked with the {@link org.simpliccity.sst.transform.annotation.Transformation} annotation.
+	 * @param method The annotated method of the transformation bean to bind.
+	 * @return An invoker for the method.
+	 */
+	TransformationMethodInvoker createInvoker(Object transformer, Method method);
+}
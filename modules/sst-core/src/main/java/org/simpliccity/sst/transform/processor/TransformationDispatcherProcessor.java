@@ -0,0 +1,420 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.processor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * <p>An annotation processor that generates a {@link org.simpliccity.sst.transform.invoke.TransformationDispatcher}
+ * for each class marked with {@link org.simpliccity.sst.transform.annotation.Transformation}.  The generated 
+ * dispatcher calls the annotated transformation and cache index methods of the bean directly, so that 
+ * {@link org.simpliccity.sst.transform.Transformer} does not need to discover them by reflection.  When processing is 
+ * complete, the processor writes the {@link org.simpliccity.sst.transform.invoke.TransformationDispatcherIndex#INDEX_RESOURCE}
+ * entries for all of the dispatchers it generated.</p>
+ * 
+ * <p>The processor is registered as a service in <code>sst-core</code>, but it is opt-in: it only generates dispatchers
+ * when the compiler is given the option <code>-Asst.transform.dispatchers=true</code>, and does nothing otherwise.  The
+ * index written by a compilation is merged with any index already present in the class output directory, so that 
+ * incremental compilations that only process some of the transformation beans retain the entries for the others.  
+ * Transformation beans that cannot be called directly from generated code (e.g. classes
+ * that are not public or annotated methods that do not accept exactly one parameter) are skipped with a warning and
+ * continue to be invoked reflectively.</p>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ *
+ */
+@SupportedAnnotationTypes(TransformationDispatcherProcessor.TRANSFORMATION_ANNOTATION)
+@SupportedOptions(TransformationDispatcherProcessor.ENABLED_OPTION)
+public class TransformationDispatcherProcessor extends AbstractProcessor 
+{
+	/**
+	 * The suffix appended to the name of a transformation bean class to form the name of its dispatcher ({@value}).
+	 */
+	public static final String DISPATCHER_SUFFIX = "_SstTransformationDispatcher";
+	
+	/**
+	 * The name of the compiler option that enables dispatcher generation ({@value}).
+	 */
+	public static final String ENABLED_OPTION = "sst.transform.dispatchers";
+	
+	static final String TRANSFORMATION_ANNOTATION = "org.simpliccity.sst.transform.annotation.Transformation";
+	
+	private static final String OUT_TRANSFORM_ANNOTATION = "org.simpliccity.sst.transform.annotation.OutTransform";
+	private static final String IN_TRANSFORM_ANNOTATION = "org.simpliccity.sst.transform.annotation.InTransform";
+	private static final String OUT_CACHE_INDEX_ANNOTATION = "org.simpliccity.sst.transform.cache.annotation.OutTransformCacheIndex";
+	private static final String IN_CACHE_INDEX_ANNOTATION = "org.simpliccity.sst.transform.cache.annotation.InTransformCacheIndex";
+	
+	private static final String INDEX_RESOURCE = "META-INF/sst.transformation.dispatchers";
+	
+	private static final String INVOKER_TYPE = "org.simpliccity.sst.transform.invoke.TransformationMethodInvoker";
+	private static final String GENERATED_INVOKER_TYPE = "org.simpliccity.sst.transform.invoke.AbstractGeneratedTransformationMethodInvoker";
+	
+	// Index entries accumulated across rounds: transformer binary name -> dispatcher name
+	private Map<String, String> indexEntries = new TreeMap<>();
+	
+	@Override
+	public SourceVersion getSupportedSourceVersion() 
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) 
+	{
+		// Generation must be requested explicitly
+		if (!Boolean.parseBoolean(processingEnv.getOptions().get(ENABLED_OPTION)))
+		{
+			return false;
+		}
+		
+		for (TypeElement annotation : annotations)
+		{
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation))
+			{
+				if (element.getKind() == ElementKind.CLASS)
+				{
+					processTransformation((TypeElement) element);
+				}
+			}
+		}
+		
+		if (roundEnv.processingOver() && !indexEntries.isEmpty())
+		{
+			writeIndex();
+		}
+		
+		// Leave the annotation available to other processors
+		return false;
+	}
+	
+	private void processTransformation(TypeElement transformer)
+	{
+		String skipReason = checkAccessible(transformer);
+		
+		ExecutableElement outTransform = findAnnotatedMethod(transformer, OUT_TRANSFORM_ANNOTATION);
+		ExecutableElement inTransform = findAnnotatedMethod(transformer, IN_TRANSFORM_ANNOTATION);
+		ExecutableElement outCacheIndex = findAnnotatedMethod(transformer, OUT_CACHE_INDEX_ANNOTATION);
+		ExecutableElement inCacheIndex = findAnnotatedMethod(transformer, IN_CACHE_INDEX_ANNOTATION);
+		
+		for (ExecutableElement method : new ExecutableElement[] {outTransform, inTransform, outCacheIndex, inCacheIndex})
+		{
+			if (skipReason == null && method != null && method.getParameters().size() != 1)
+			{
+				skipReason = "annotated method [" + method.getSimpleName() + "] does not accept exactly one parameter";
+			}
+		}
+		
+		if (skipReason != null)
+		{
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "No transformation dispatcher generated: " + skipReason + ".", transformer);
+			return;
+		}
+		
+		String packageName = getPackageName(transformer);
+		String dispatcherSimpleName = getFlatName(transformer) + DISPATCHER_SUFFIX;
+		String dispatcherName = packageName.isEmpty() ? dispatcherSimpleName : packageName + "." + dispatcherSimpleName;
+		
+		AnnotationMirror configuration = getAnnotationMirror(transformer, TRANSFORMATION_ANNOTATION);
+		
+		StringBuilder source = new StringBuilder();
+		if (!packageName.isEmpty())
+		{
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+		
+		String transformerType = transformer.getQualifiedName().toString();
+		
+		source.append("/**\n");
+		source.append(" * Transformation dispatcher for {@link ").append(transformerType).append("}.\n");
+		source.append(" * Generated by ").append(getClass().getName()).append("; do not edit.\n");
+		source.append(" */\n");
+		source.append("public final class ").append(dispatcherSimpleName).append(" implements org.simpliccity.sst.transform.invoke.TransformationDispatcher\n");
+		source.append("{\n");
+		appendConstant(source, "Class<?>", "getTransformerClass", transformerType + ".class");
+		appendConstant(source, "Class<?>", "getSourceClass", getClassValue(configuration, "source") + ".class");
+		appendConstant(source, "Class<?>", "getTargetClass", getClassValue(configuration, "target") + ".class");
+		appendConstant(source, "org.simpliccity.sst.transform.annotation.TransformationType", "getDirection", "org.simpliccity.sst.transform.annotation.TransformationType." + getEnumValue(configuration, "direction", "OUT"));
+		appendInvoker(source, "getOutboundTransformationInvoker", transformerType, outTransform);
+		appendInvoker(source, "getInboundTransformationInvoker", transformerType, inTransform);
+		appendInvoker(source, "getOutboundCacheIndexInvoker", transformerType, outCacheIndex);
+		appendInvoker(source, "getInboundCacheIndexInvoker", transformerType, inCacheIndex);
+		
+		// Drop the separator following the last method
+		source.setLength(source.length() - 1);
+		source.append("}\n");
+		
+		try
+		{
+			Filer filer = processingEnv.getFiler();
+			try (Writer writer = filer.createSourceFile(dispatcherName, transformer).openWriter())
+			{
+				writer.write(source.toString());
+			}
+			
+			indexEntries.put(processingEnv.getElementUtils().getBinaryName(transformer).toString(), dispatcherName);
+		}
+		catch (IOException e)
+		{
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to generate transformation dispatcher [" + dispatcherName + "]: " + e.getMessage(), transformer);
+		}
+	}
+	
+	private String checkAccessible(TypeElement transformer)
+	{
+		String result = null;
+		
+		if (transformer.getModifiers().contains(Modifier.ABSTRACT))
+		{
+			result = "class is abstract";
+		}
+		
+		// The class and any enclosing classes must be visible to generated code in the same package
+		Element current = transformer;
+		while (result == null && current instanceof TypeElement)
+		{
+			TypeElement type = (TypeElement) current;
+			if (!type.getModifiers().contains(Modifier.PUBLIC))
+			{
+				result = "class [" + type.getSimpleName() + "] is not public";
+			}
+			else if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC))
+			{
+				result = "class [" + type.getSimpleName() + "] is a non-static inner class";
+			}
+			
+			current = type.getEnclosingElement();
+		}
+		
+		return result;
+	}
+	
+	private ExecutableElement findAnnotatedMethod(TypeElement transformer, String annotationName)
+	{
+		ExecutableElement result = null;
+		
+		// Consider public methods only (including inherited ones), consistent with reflective discovery
+		List<ExecutableElement> methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(transformer));
+		for (ExecutableElement method : methods)
+		{
+			if (method.getModifiers().contains(Modifier.PUBLIC) && getAnnotationMirror(method, annotationName) != null)
+			{
+				result = method;
+				break;
+			}
+		}
+		
+		return result;
+	}
+	
+	private AnnotationMirror getAnnotationMirror(Element element, String annotationName)
+	{
+		AnnotationMirror result = null;
+		
+		for (AnnotationMirror mirror : element.getAnnotationMirrors())
+		{
+			if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName))
+			{
+				result = mirror;
+				break;
+			}
+		}
+		
+		return result;
+	}
+	
+	private AnnotationValue getAnnotationValue(AnnotationMirror mirror, String name)
+	{
+		AnnotationValue result = null;
+		
+		// Include defaults so that omitted attributes are resolved as well
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet())
+		{
+			if (entry.getKey().getSimpleName().contentEquals(name))
+			{
+				result = entry.getValue();
+				break;
+			}
+		}
+		
+		return result;
+	}
+	
+	private String getClassValue(AnnotationMirror mirror, String name)
+	{
+		AnnotationValue value = getAnnotationValue(mirror, name);
+		return getTypeName((TypeMirror) value.getValue());
+	}
+	
+	private String getEnumValue(AnnotationMirror mirror, String name, String defaultValue)
+	{
+		AnnotationValue value = getAnnotationValue(mirror, name);
+		return (value == null) ? defaultValue : ((Element) value.getValue()).getSimpleName().toString();
+	}
+	
+	private String getTypeName(TypeMirror type)
+	{
+		return processingEnv.getTypeUtils().erasure(type).toString();
+	}
+	
+	private String getPackageName(TypeElement type)
+	{
+		PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+		return packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+	}
+	
+	private String getFlatName(TypeElement type)
+	{
+		// Nested classes are flattened using underscores so that the dispatcher is always a top level class
+		Element enclosing = type.getEnclosingElement();
+		return (enclosing instanceof TypeElement) ? getFlatName((TypeElement) enclosing) + "_" + type.getSimpleName() : type.getSimpleName().toString();
+	}
+	
+	private void appendConstant(StringBuilder source, String type, String methodName, String value)
+	{
+		source.append("\t@Override\n");
+		source.append("\tpublic ").append(type).append(" ").append(methodName).append("()\n");
+		source.append("\t{\n");
+		source.append("\t\treturn ").append(value).append(";\n");
+		source.append("\t}\n\n");
+	}
+	
+	private void appendInvoker(StringBuilder source, String methodName, String transformerType, ExecutableElement method)
+	{
+		source.append("\t@Override\n");
+		source.append("\tpublic ").append(INVOKER_TYPE).append(" ").append(methodName).append("(Object transformer)\n");
+		source.append("\t{\n");
+		
+		if (method == null)
+		{
+			source.append("\t\treturn null;\n");
+		}
+		else
+		{
+			boolean isStatic = method.getModifiers().contains(Modifier.STATIC);
+			String parameterType = getTypeName(method.getParameters().get(0).asType());
+			String call = (isStatic ? transformerType : "target") + "." + method.getSimpleName() + "((" + parameterType + ") input)";
+			
+			if (!isStatic)
+			{
+				source.append("\t\tfinal ").append(transformerType).append(" target = (").append(transformerType).append(") transformer;\n");
+			}
+			source.append("\t\treturn new ").append(GENERATED_INVOKER_TYPE).append("(").append(transformerType).append(".class, \"").append(method.getSimpleName()).append("\", ").append(parameterType).append(".class)\n");
+			source.append("\t\t{\n");
+			source.append("\t\t\t@Override\n");
+			source.append("\t\t\t@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+			source.append("\t\t\tprotected Object doInvoke(Object input) throws Throwable\n");
+			source.append("\t\t\t{\n");
+			if (method.getReturnType().getKind() == TypeKind.VOID)
+			{
+				source.append("\t\t\t\t").append(call).append(";\n");
+				source.append("\t\t\t\treturn null;\n");
+			}
+			else
+			{
+				source.append("\t\t\t\treturn ").append(call).append(";\n");
+			}
+			source.append("\t\t\t}\n");
+			source.append("\t\t};\n");
+		}
+		
+		source.append("\t}\n\n");
+	}
+	
+	private void writeIndex()
+	{
+		// Keep the entries from a previous compilation for transformers that were not processed this time
+		Map<String, String> entries = readExistingIndex();
+		entries.putAll(indexEntries);
+		
+		try
+		{
+			FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+			try (Writer writer = resource.openWriter())
+			{
+				writer.write("# Generated by " + getClass().getName() + "; do not edit.\n");
+				for (Map.Entry<String, String> entry : entries.entrySet())
+				{
+					writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write transformation dispatcher index: " + e.getMessage());
+		}
+	}
+	
+	private Map<String, String> readExistingIndex()
+	{
+		Map<String, String> result = new TreeMap<>();
+		
+		Properties existing = new Properties();
+		try
+		{
+			FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+			try (InputStream input = resource.openInputStream())
+			{
+				existing.load(input);
+			}
+		}
+		catch (IOException | IllegalArgumentException e)
+		{
+			// No previous index (or an unreadable one), so there is nothing to merge
+		}
+		
+		for (String transformerName : existing.stringPropertyNames())
+		{
+			// Drop entries for transformers that no longer exist
+			if (processingEnv.getElementUtils().getTypeElement(transformerName.replace('$', '.')) != null)
+			{
+				result.put(transformerName, existing.getProperty(transformerName));
+			}
+		}
+		
+		return result;
+	}
+}
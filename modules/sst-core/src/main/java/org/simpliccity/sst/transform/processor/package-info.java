@@ -0,0 +1,24 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/** 
+ * Provides the annotation processor that generates transformation dispatchers at compile time for classes 
+ * marked with {@link org.simpliccity.sst.transform.annotation.Transformation}.  Generation is enabled with the
+ * compiler option <code>-Asst.transform.dispatchers=true</code>.
+ * 
+ * @since 1.0.0
+ */
+package org.simpliccity.sst.transform.processor;
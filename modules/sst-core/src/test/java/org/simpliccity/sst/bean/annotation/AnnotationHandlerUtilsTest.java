@@ -0,0 +1,179 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.bean.annotation;
+
+import java.io.File;
+import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.beans.factory.support.BeanNameGenerator;
+import org.springframework.util.ClassUtils;
+
+public class AnnotationHandlerUtilsTest 
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	
+	@After
+	public void clearHandlers()
+	{
+		AnnotationHandlerUtils.clearCache();
+	}
+	
+	@Test
+	public void testLoadHandlers()
+	{
+		Map<Class<? extends Annotation>, BeanNameGenerator> handlers = AnnotationHandlerUtils.loadAnnotationHandlersFromPropertiesResource(BeanNameGenerator.class);
+		
+		Assert.assertTrue("Configured handler", handlers.get(TestParticipant.class) instanceof TestParticipantAnnotationBeanNameGenerator);
+		Assert.assertNull("Invalid handler skipped", handlers.get(org.springframework.stereotype.Component.class));
+		
+		Map<Class<? extends Annotation>, BeanNameGenerator> reloaded = AnnotationHandlerUtils.loadAnnotationHandlersFromPropertiesResource(BeanNameGenerator.class);
+		
+		Assert.assertEquals("Same configuration", handlers.keySet(), reloaded.keySet());
+		Assert.assertNotSame("Separate handler instances", handlers.get(TestParticipant.class), reloaded.get(TestParticipant.class));
+	}
+	
+	@Test
+	public void testGenerateIndex() throws Exception
+	{
+		File indexFile = AnnotationHandlerIndexGenerator.generateIndex(folder.getRoot(), ClassUtils.getDefaultClassLoader());
+		
+		List<String> lines = Files.readAllLines(indexFile.toPath(), StandardCharsets.ISO_8859_1);
+		Assert.assertTrue("Valid entry indexed", lines.contains(TestParticipant.class.getName() + "=" + TestParticipantAnnotationBeanNameGenerator.class.getName()));
+		Assert.assertFalse("Invalid annotation omitted", lines.contains("badAnnotation=badHandler"));
+		Assert.assertFalse("Invalid handler omitted", lines.contains(org.springframework.stereotype.Component.class.getName() + "=bar"));
+	}
+	
+	@Test
+	public void testLoadFromIndex() throws Exception
+	{
+		File indexFile = new File(folder.getRoot(), AnnotationHandlerUtils.INDEX_RESOURCE);
+		indexFile.getParentFile().mkdirs();
+		Files.write(indexFile.toPath(), (TestParticipant.class.getName() + "=" + TestParticipantAnnotationBeanNameGenerator.class.getName()).getBytes(StandardCharsets.ISO_8859_1));
+		
+		// The index takes precedence over the individual properties files visible through the parent class loader
+		try (RecordingClassLoader classLoader = new RecordingClassLoader(folder.getRoot().toURI().toURL()))
+		{
+			Map<Class<? extends Annotation>, BeanNameGenerator> handlers = AnnotationHandlerUtils.loadAnnotationHandlersFromPropertiesResource(BeanNameGenerator.class, classLoader);
+			
+			Assert.assertEquals("Indexed handlers", 1, handlers.size());
+			Assert.assertTrue("Indexed handler", handlers.get(TestParticipant.class) instanceof TestParticipantAnnotationBeanNameGenerator);
+			
+			// The configured classes are loaded through the class loader that located the configuration
+			Assert.assertTrue("Annotation loaded by class loader", classLoader.getRequestedClasses().contains(TestParticipant.class.getName()));
+			Assert.assertTrue("Handler loaded by class loader", classLoader.getRequestedClasses().contains(TestParticipantAnnotationBeanNameGenerator.class.getName()));
+		}
+	}
+	
+	@Test
+	public void testClassLoaderCollected() throws Exception
+	{
+		File indexFile = new File(folder.getRoot(), AnnotationHandlerUtils.INDEX_RESOURCE);
+		indexFile.getParentFile().mkdirs();
+		Files.write(indexFile.toPath(), (TestParticipant.class.getName() + "=" + TestParticipantAnnotationBeanNameGenerator.class.getName()).getBytes(StandardCharsets.ISO_8859_1));
+		
+		WeakReference<ClassLoader> classLoader = loadHandlersWithChildClassLoader();
+		
+		// The cached configuration must not keep the class loader reachable
+		for (int i = 0; i < 50 && classLoader.get() != null; i++)
+		{
+			System.gc();
+			Thread.sleep(20);
+		}
+		
+		Assert.assertNull("Class loader collected", classLoader.get());
+	}
+	
+	private WeakReference<ClassLoader> loadHandlersWithChildClassLoader() throws Exception
+	{
+		URL testClasses = TestParticipantAnnotationBeanNameGenerator.class.getProtectionDomain().getCodeSource().getLocation();
+		
+		try (ChildFirstClassLoader classLoader = new ChildFirstClassLoader(new URL[] {folder.getRoot().toURI().toURL(), testClasses}, TestParticipantAnnotationBeanNameGenerator.class.getName()))
+		{
+			Map<Class<? extends Annotation>, BeanNameGenerator> handlers = AnnotationHandlerUtils.loadAnnotationHandlersFromPropertiesResource(BeanNameGenerator.class, classLoader);
+			
+			Assert.assertEquals("Indexed handlers", 1, handlers.size());
+			Assert.assertSame("Handler defined by class loader", classLoader, handlers.get(TestParticipant.class).getClass().getClassLoader());
+			
+			return new WeakReference<ClassLoader>(classLoader);
+		}
+	}
+	
+	private static class ChildFirstClassLoader extends URLClassLoader
+	{
+		private final String childClassName;
+		
+		public ChildFirstClassLoader(URL[] urls, String childClassName)
+		{
+			super(urls, ClassUtils.getDefaultClassLoader());
+			this.childClassName = childClassName;
+		}
+		
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException
+		{
+			synchronized (getClassLoadingLock(name))
+			{
+				Class<?> result = findLoadedClass(name);
+				if (result == null && childClassName.equals(name))
+				{
+					// Define the class in this class loader rather than delegating to the parent
+					result = findClass(name);
+				}
+				
+				return (result == null) ? super.loadClass(name, resolve) : result;
+			}
+		}
+	}
+	
+	private static class RecordingClassLoader extends URLClassLoader
+	{
+		private final Set<String> requestedClasses = Collections.synchronizedSet(new HashSet<String>());
+		
+		public RecordingClassLoader(URL url)
+		{
+			super(new URL[] {url}, ClassUtils.getDefaultClassLoader());
+		}
+		
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException
+		{
+			requestedClasses.add(name);
+			return super.loadClass(name, resolve);
+		}
+		
+		public Set<String> getRequestedClasses()
+		{
+			return requestedClasses;
+		}
+	}
+}
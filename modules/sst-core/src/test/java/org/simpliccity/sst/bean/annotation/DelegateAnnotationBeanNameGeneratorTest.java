@@ -0,0 +1,161 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.bean.annotation;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.simpliccity.sst.config.startup.StartupPhase;
+import org.simpliccity.sst.config.startup.StartupProfiler;
+import org.simpliccity.sst.config.startup.StartupReport;
+import org.springframework.beans.factory.annotation.AnnotatedGenericBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanNameGenerator;
+import org.springframework.beans.factory.support.SimpleBeanDefinitionRegistry;
+
+public class DelegateAnnotationBeanNameGeneratorTest 
+{
+	private static final String DELEGATE_NAME = "delegate";
+	
+	private BeanDefinitionRegistry registry;
+	
+	private TestDelegateAnnotationBeanNameGenerator generator;
+	
+	@Before
+	public void initializeGenerator()
+	{
+		registry = new SimpleBeanDefinitionRegistry();
+		
+		BeanNameGenerator delegate = mock(BeanNameGenerator.class);
+		when(delegate.generateBeanName(any(BeanDefinition.class), any(BeanDefinitionRegistry.class))).thenReturn(DELEGATE_NAME);
+		
+		generator = new TestDelegateAnnotationBeanNameGenerator();
+		generator.delegates.put(TestParticipant.class, delegate);
+	}
+	
+	@Test
+	public void testDirectAnnotation()
+	{
+		Assert.assertEquals("Delegate for annotation", DELEGATE_NAME, generateBeanName(Participant1.class));
+	}
+	
+	@Test
+	public void testMetaAnnotation()
+	{
+		Assert.assertEquals("Delegate for meta-annotation", DELEGATE_NAME, generateBeanName(ComposedParticipant.class));
+		
+		// The resolved meta-annotation is reused for subsequent beans
+		Assert.assertEquals("Delegate for cached meta-annotation", DELEGATE_NAME, generateBeanName(OtherComposedParticipant.class));
+	}
+	
+	@Test
+	public void testNoDelegate()
+	{
+		Assert.assertNotEquals("Default name", DELEGATE_NAME, generateBeanName(NonParticipant.class));
+		Assert.assertNotEquals("Default name for cached annotation", DELEGATE_NAME, generateBeanName(NonParticipant.class));
+	}
+	
+	@Test
+	public void testReplacedDelegates()
+	{
+		Assert.assertEquals("Original delegates", DELEGATE_NAME, generateBeanName(Participant1.class));
+		
+		generator.delegates = new HashMap<>();
+		
+		Assert.assertNotEquals("Replaced delegates", DELEGATE_NAME, generateBeanName(Participant1.class));
+	}
+	
+	@Test
+	public void testNamespaceDelegateProfiled()
+	{
+		generator.delegates.put(TestParticipant.class, new TestParticipantAnnotationBeanNameGenerator());
+		
+		boolean initiallyEnabled = StartupProfiler.isEnabled();
+		StartupProfiler.reset();
+		StartupProfiler.setEnabled(true);
+		try
+		{
+			generateBeanName(Participant1.class);
+			
+			// The namespace name generator records its own timing, which is not counted again by the delegating generator
+			List<StartupReport.Entry> entries = StartupProfiler.getReport().getEntries(StartupPhase.BEAN_NAME_GENERATION);
+			Assert.assertEquals("Entries", 1, entries.size());
+			Assert.assertEquals("Name generator", TestParticipantAnnotationBeanNameGenerator.class.getName(), entries.get(0).getName());
+			Assert.assertEquals("Count", 1, entries.get(0).getCount());
+		}
+		finally
+		{
+			StartupProfiler.setEnabled(initiallyEnabled);
+			StartupProfiler.reset();
+		}
+	}
+	
+	private String generateBeanName(Class<?> beanClass)
+	{
+		return generator.generateBeanName(new AnnotatedGenericBeanDefinition(beanClass), registry);
+	}
+	
+	@Retention(RetentionPolicy.RUNTIME)
+	@TestParticipant(name="composed")
+	public @interface ComposedTestParticipant
+	{
+	}
+	
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface NonParticipating
+	{
+	}
+	
+	@ComposedTestParticipant
+	public static class ComposedParticipant
+	{
+	}
+	
+	@NonParticipating
+	@ComposedTestParticipant
+	public static class OtherComposedParticipant
+	{
+	}
+	
+	@NonParticipating
+	public static class NonParticipant
+	{
+	}
+	
+	private static class TestDelegateAnnotationBeanNameGenerator extends DelegateAnnotationBeanNameGenerator
+	{
+		private Map<Class<? extends Annotation>, BeanNameGenerator> delegates = new HashMap<>();
+
+		@Override
+		protected Map<Class<? extends Annotation>, BeanNameGenerator> getDelegates() 
+		{
+			return delegates;
+		}
+	}
+}
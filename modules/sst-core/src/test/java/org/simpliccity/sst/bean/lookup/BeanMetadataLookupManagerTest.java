@@ -0,0 +1,131 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.bean.lookup;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.ContextStartedEvent;
+
+public class BeanMetadataLookupManagerTest 
+{
+	private BeanMetadataLookupManager manager;
+	
+	private ApplicationContext context;
+	
+	private CacheableBeanMetadataLookupStrategy strategy;
+	
+	private TestableComponent bean;
+	
+	@Before
+	@SuppressWarnings("unchecked")
+	public void init() throws Exception
+	{
+		context = mock(ApplicationContext.class);
+		bean = new PassingTestableComponent();
+		
+		strategy = mock(CacheableBeanMetadataLookupStrategy.class);
+		when(strategy.getTypedBean(any(BeanFactory.class), any(BeanMetadataLookupContainer.class))).thenReturn(bean);
+		when(strategy.isCacheable(any(BeanFactory.class), any(BeanMetadataLookupContainer.class))).thenReturn(true);
+		
+		manager = new BeanMetadataLookupManager();
+		manager.setApplicationContext(context);
+		manager.setLookupStrategy(strategy);
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testCachedLookup() throws Exception
+	{
+		Assert.assertSame("First lookup", bean, manager.lookupBeanByMetadata(createMetadata("Success")));
+		Assert.assertSame("Cached lookup", bean, manager.lookupBeanByMetadata(createMetadata("Success")));
+		
+		verify(strategy, times(1)).getTypedBean(any(BeanFactory.class), any(BeanMetadataLookupContainer.class));
+		
+		// Other context events do not invalidate the cache
+		manager.onApplicationEvent(new ContextStartedEvent(context));
+		manager.lookupBeanByMetadata(createMetadata("Success"));
+		verify(strategy, times(1)).getTypedBean(any(BeanFactory.class), any(BeanMetadataLookupContainer.class));
+		
+		manager.onApplicationEvent(new ContextRefreshedEvent(context));
+		manager.lookupBeanByMetadata(createMetadata("Success"));
+		verify(strategy, times(2)).getTypedBean(any(BeanFactory.class), any(BeanMetadataLookupContainer.class));
+		verify(strategy, times(2)).clearCache();
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testUncacheableLookup() throws Exception
+	{
+		when(strategy.isCacheable(any(BeanFactory.class), any(BeanMetadataLookupContainer.class))).thenReturn(false);
+		
+		manager.lookupBeanByMetadata(createMetadata("Success"));
+		manager.lookupBeanByMetadata(createMetadata("Success"));
+		
+		verify(strategy, times(2)).getTypedBean(any(BeanFactory.class), any(BeanMetadataLookupContainer.class));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testCachingDisabled() throws Exception
+	{
+		manager.setCacheLookups(false);
+		
+		manager.lookupBeanByMetadata(createMetadata("Success"));
+		manager.lookupBeanByMetadata(createMetadata("Success"));
+		
+		verify(strategy, times(2)).getTypedBean(any(BeanFactory.class), any(BeanMetadataLookupContainer.class));
+	}
+	
+	@Test
+	public void testLookupKey()
+	{
+		Assert.assertEquals("Equal metadata", new BeanMetadataLookupKey(createMetadata("Success")), new BeanMetadataLookupKey(createMetadata("Success")));
+		Assert.assertEquals("Equal hash", new BeanMetadataLookupKey(createMetadata("Success")).hashCode(), new BeanMetadataLookupKey(createMetadata("Success")).hashCode());
+		Assert.assertNotEquals("Different metadata", new BeanMetadataLookupKey(createMetadata("Success")), new BeanMetadataLookupKey(createMetadata("Failure")));
+	}
+	
+	@Test
+	public void testProbeKey()
+	{
+		BeanMetadataLookupKey probe = BeanMetadataLookupKey.probe(createMetadata("Success"));
+		BeanMetadataLookupKey snapshot = probe.snapshot();
+		
+		Assert.assertEquals("Probe matches stored key", new BeanMetadataLookupKey(createMetadata("Success")), probe);
+		Assert.assertEquals("Snapshot equal to probe", probe, snapshot);
+		Assert.assertEquals("Snapshot hash", probe.hashCode(), snapshot.hashCode());
+		Assert.assertNotSame("Snapshot copied", probe.getAttributes(), snapshot.getAttributes());
+		Assert.assertSame("Stored key not copied again", snapshot, snapshot.snapshot());
+	}
+	
+	private TestableComponentMetadataLookupContainer createMetadata(String resultType)
+	{
+		TestableComponentMetadataLookupContainer result = new TestableComponentMetadataLookupContainer();
+		result.setResultType(resultType);
+		
+		return result;
+	}
+}
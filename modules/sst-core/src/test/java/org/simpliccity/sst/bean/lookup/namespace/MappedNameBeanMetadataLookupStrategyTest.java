@@ -0,0 +1,106 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.bean.lookup.namespace;
+
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.simpliccity.sst.bean.lookup.TestableComponentMetadataLookupContainer;
+import org.springframework.beans.factory.BeanFactory;
+
+public class MappedNameBeanMetadataLookupStrategyTest 
+{
+	private MappedNameBeanMetadataLookupStrategy strategy;
+	
+	private BeanFactory factory;
+	
+	private TestableComponentMetadataLookupContainer metadata;
+	
+	@Before
+	public void init()
+	{
+		strategy = new MappedNameBeanMetadataLookupStrategy();
+		
+		factory = mock(BeanFactory.class);
+		when(factory.containsBean(anyString())).thenReturn(false);
+		
+		metadata = new TestableComponentMetadataLookupContainer();
+		metadata.setResultType("Missing");
+	}
+	
+	@Test
+	public void testMissingBean() throws Exception
+	{
+		Assert.assertNull("Missing bean", strategy.getTypedBean(factory, metadata));
+		Assert.assertNull("Remembered missing bean", strategy.getTypedBean(factory, metadata));
+		
+		// The bean factory is checked once and never asked for the missing bean
+		verify(factory, times(1)).containsBean(anyString());
+		verify(factory, never()).getBean(anyString());
+		
+		strategy.clearNegativeCache();
+		Assert.assertNull("Missing bean after clear", strategy.getTypedBean(factory, metadata));
+		verify(factory, times(2)).containsBean(anyString());
+	}
+	
+	@Test
+	public void testDisabledNegativeCache() throws Exception
+	{
+		strategy.setNegativeCacheSize(0);
+		
+		Assert.assertNull("Missing bean", strategy.getTypedBean(factory, metadata));
+		Assert.assertNull("Missing bean not remembered", strategy.getTypedBean(factory, metadata));
+		
+		verify(factory, times(2)).containsBean(anyString());
+	}
+	
+	@Test
+	public void testNegativeCachePerFactory() throws Exception
+	{
+		BeanFactory otherFactory = mock(BeanFactory.class);
+		when(otherFactory.containsBean(anyString())).thenReturn(false);
+		
+		Assert.assertNull("Missing bean", strategy.getTypedBean(factory, metadata));
+		Assert.assertNull("Missing bean in other factory", strategy.getTypedBean(otherFactory, metadata));
+		
+		// A miss remembered for one factory does not apply to another
+		verify(factory, times(1)).containsBean(anyString());
+		verify(otherFactory, times(1)).containsBean(anyString());
+	}
+	
+	@Test
+	public void testCacheableUsesNegativeCache() throws Exception
+	{
+		Assert.assertNull("Missing bean", strategy.getTypedBean(factory, metadata));
+		Assert.assertTrue("Missing bean cacheable", strategy.isCacheable(factory, metadata));
+		
+		// The miss remembered by the lookup is reused rather than checked again
+		verify(factory, times(1)).containsBean(anyString());
+		
+		// Without the negative cache, the bean factory is checked
+		strategy.setNegativeCacheSize(0);
+		Assert.assertTrue("Missing bean cacheable", strategy.isCacheable(factory, metadata));
+		verify(factory, times(2)).containsBean(anyString());
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.bean.namespace;
+
+import java.text.MessageFormat;
+
+import org.simpliccity.sst.bean.lookup.namespace.DynamicTypedComponentAnnotationNamespaceBeanNameGenerator;
+import org.simpliccity.sst.service.security.annotation.ServiceAccessValidatorAnnotationBeanNameGenerator;
+import org.simpliccity.sst.service.security.annotation.ServiceContentExtractorAnnotationBeanNameGenerator;
+import org.simpliccity.sst.transform.annotation.TransformationAnnotationBeanNameGenerator;
+
+/**
+ * A simple, stand-alone comparison of the per-call cost of generating namespace bean names with 
+ * {@link MessageFormat} (parsing the pattern on every call) and with the compiled {@link NamespaceNameTemplate}
+ * used by {@link AbstractPatternNamespaceBeanNameGenerator}.  This is not a unit test; run it directly (e.g. from 
+ * the IDE) with a warmed-up JVM:
+ * 
+ * <pre>
+ * java -cp [test classpath] org.simpliccity.sst.bean.namespace.NamespaceNameTemplateBenchmark [iterations]
+ * </pre>
+ */
+public final class NamespaceNameTemplateBenchmark 
+{
+	private static final int DEFAULT_ITERATIONS = 1000000;
+	private static final int ROUNDS = 5;
+	
+	private NamespaceNameTemplateBenchmark()
+	{
+		super();
+	}
+	
+	public static void main(String[] args)
+	{
+		int iterations = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_ITERATIONS;
+		
+		AbstractPatternNamespaceBeanNameGenerator[] generators = 
+		{
+			new TransformationAnnotationBeanNameGenerator(),
+			new ServiceAccessValidatorAnnotationBeanNameGenerator(),
+			new ServiceContentExtractorAnnotationBeanNameGenerator(),
+			new DynamicTypedComponentAnnotationNamespaceBeanNameGenerator()
+		};
+		
+		String[][] components = 
+		{
+			{"org.example.domain.Customer", "org.example.dto.CustomerResult"},
+			{"org.example.service.CustomerService"},
+			{"org.example.service.CustomerRequest"},
+			{"org.example.KeySource", "algorithm=HS256", "issuer=example"}
+		};
+		
+		for (int round = 1; round <= ROUNDS; round++)
+		{
+			for (int i = 0; i < generators.length; i++)
+			{
+				report(round, generators[i], "MessageFormat", measureMessageFormat(generators[i], components[i], iterations), iterations);
+				report(round, generators[i], "NamespaceNameTemplate", measureTemplate(generators[i], components[i], iterations), iterations);
+			}
+		}
+	}
+	
+	private static long measureMessageFormat(AbstractPatternNamespaceBeanNameGenerator generator, String[] components, int iterations)
+	{
+		// Accumulate results so the calls cannot be eliminated
+		int sink = 0;
+		
+		String pattern = generator.getNamespaceNamePattern();
+		boolean typed = generator instanceof DynamicTypedComponentAnnotationNamespaceBeanNameGenerator;
+		
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++)
+		{
+			// The approach used before templates were introduced
+			String name = MessageFormat.format(pattern, (Object[]) components);
+			if (typed)
+			{
+				StringBuilder result = new StringBuilder(name);
+				for (int j = 1; j < components.length; j++)
+				{
+					result.append(".<").append(components[j]).append(">");
+				}
+				name = result.toString();
+			}
+			
+			sink += name.length();
+		}
+		long elapsed = System.nanoTime() - start;
+		
+		if (sink < 0)
+		{
+			System.out.println(sink);
+		}
+		
+		return elapsed;
+	}
+	
+	private static long measureTemplate(AbstractPatternNamespaceBeanNameGenerator generator, String[] components, int iterations)
+	{
+		int sink = 0;
+		
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++)
+		{
+			sink += generator.generateQualifiedName(components).length();
+		}
+		long elapsed = System.nanoTime() - start;
+		
+		if (sink < 0)
+		{
+			System.out.println(sink);
+		}
+		
+		return elapsed;
+	}
+	
+	private static void report(int round, AbstractPatternNamespaceBeanNameGenerator generator, String method, long elapsed, int iterations)
+	{
+		System.out.println(String.format("Round %d: %-55s %-25s %8.2f ns/op", round, generator.getClass().getSimpleName(), method, (double) elapsed / iterations));
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.bean.namespace;
+
+import java.text.MessageFormat;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NamespaceNameTemplateTest 
+{
+	private static final String[] PATTERNS = 
+	{
+		"sst.transformer.<{0}>.<{1}>",
+		"sst.typedcomponent.[{0}]",
+		"{1}-{0}-{1}",
+		"no arguments",
+		"quoted '{0}' and ''{1}''",
+		"missing {2}",
+		"unmatched } brace {0}"
+	};
+	
+	@Test
+	public void testMatchesMessageFormat()
+	{
+		String[] components = {"org.example.Source", null};
+		
+		for (String pattern : PATTERNS)
+		{
+			NamespaceNameTemplate template = NamespaceNameTemplate.compile(pattern);
+			
+			Assert.assertTrue("Compiled: " + pattern, template.isCompiled());
+			Assert.assertEquals(pattern, MessageFormat.format(pattern, (Object[]) components), template.render(components));
+		}
+	}
+	
+	@Test
+	public void testFormatTypeFallback()
+	{
+		Assert.assertFalse("Format type not compiled", NamespaceNameTemplate.compile("value {0,number,#}").isCompiled());
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testMalformedPattern()
+	{
+		// Malformed patterns are rejected by MessageFormat, as before
+		NamespaceNameTemplate.compile("unmatched {0").render("name");
+	}
+	
+	@Test
+	public void testRenderToBuffer()
+	{
+		StringBuilder buffer = new StringBuilder("prefix:");
+		NamespaceNameTemplate.compile("<{0}>").render(buffer, "name");
+		
+		Assert.assertEquals("Appended name", "prefix:<name>", buffer.toString());
+	}
+}
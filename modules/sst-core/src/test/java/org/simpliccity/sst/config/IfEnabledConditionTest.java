@@ -0,0 +1,282 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.config;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.AnnotatedGenericBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.SimpleBeanDefinitionRegistry;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.type.StandardAnnotationMetadata;
+
+public class IfEnabledConditionTest 
+{
+	private BeanDefinitionRegistry registry;
+	
+	private ConditionContext context;
+	
+	@Before
+	public void initializeRegistry()
+	{
+		registry = new SimpleBeanDefinitionRegistry();
+		
+		context = mock(ConditionContext.class);
+		when(context.getRegistry()).thenReturn(registry);
+	}
+	
+	@After
+	public void resetEnablers()
+	{
+		EnablerRegistry.reset();
+	}
+	
+	@Test
+	public void testEnabled()
+	{
+		registry.registerBeanDefinition("enabling", new AnnotatedGenericBeanDefinition(EnablingConfig.class));
+		
+		Assert.assertTrue("Enabled configuration", matches(DependentConfig.class));
+		Assert.assertTrue("Enabler cached", EnablerRegistry.forRegistry(registry).contains(EnableTestFeature.class.getName()));
+	}
+	
+	@Test
+	public void testDisabled()
+	{
+		registry.registerBeanDefinition("dependent", new AnnotatedGenericBeanDefinition(DependentConfig.class));
+		
+		Assert.assertFalse("Disabled configuration", matches(DependentConfig.class));
+	}
+	
+	@Test
+	public void testMetaAnnotatedEnabler()
+	{
+		registry.registerBeanDefinition("composed", new AnnotatedGenericBeanDefinition(ComposedConfig.class));
+		
+		Assert.assertTrue("Enabled through meta-annotation", matches(DependentConfig.class));
+	}
+	
+	@Test
+	public void testNestedEnabler()
+	{
+		registry.registerBeanDefinition("nested", new AnnotatedGenericBeanDefinition(NestedEnablingConfig.class));
+		
+		Assert.assertFalse("Nested enabler not active", matches(NestedDependentConfig.class));
+		
+		// Definitions registered after the index is created are picked up
+		registry.registerBeanDefinition("enabling", new AnnotatedGenericBeanDefinition(EnablingConfig.class));
+		
+		Assert.assertTrue("Nested enabler active", matches(NestedDependentConfig.class));
+	}
+	
+	@Test
+	public void testCyclicEnablers()
+	{
+		registry.registerBeanDefinition("cyclic", new AnnotatedGenericBeanDefinition(CyclicConfig.class));
+		
+		Assert.assertFalse("Cyclic enabler", matches(DependentConfig.class));
+	}
+	
+	@Test
+	public void testRemovedDefinition()
+	{
+		registry.registerBeanDefinition("enabling", new AnnotatedGenericBeanDefinition(EnablingConfig.class));
+		registry.registerBeanDefinition("dependent", new AnnotatedGenericBeanDefinition(DependentConfig.class));
+		EnablerRegistry.forRegistry(registry).getIndex().getAnnotatedBeans(registry, EnableTestFeature.class.getName());
+		
+		registry.removeBeanDefinition("enabling");
+		
+		Assert.assertFalse("Enabling definition removed", matches(DependentConfig.class));
+	}
+	
+	@Test
+	public void testReplacedDefinition()
+	{
+		registry.registerBeanDefinition("config", new AnnotatedGenericBeanDefinition(DependentConfig.class));
+		Assert.assertFalse("Disabled configuration", matches(DependentConfig.class));
+		
+		// Overriding the definition leaves the number of definitions unchanged
+		registry.registerBeanDefinition("config", new AnnotatedGenericBeanDefinition(EnablingConfig.class));
+		
+		Assert.assertTrue("Replacement definition indexed", matches(DependentConfig.class));
+	}
+	
+	@Test
+	public void testSwappedDefinition()
+	{
+		registry.registerBeanDefinition("dependent", new AnnotatedGenericBeanDefinition(DependentConfig.class));
+		Assert.assertFalse("Disabled configuration", matches(DependentConfig.class));
+		
+		// Removing one definition and adding another leaves the number of definitions unchanged
+		registry.removeBeanDefinition("dependent");
+		registry.registerBeanDefinition("enabling", new AnnotatedGenericBeanDefinition(EnablingConfig.class));
+		
+		Assert.assertTrue("Added definition indexed", matches(DependentConfig.class));
+	}
+	
+	@Test
+	public void testSeparateRegistries()
+	{
+		registry.registerBeanDefinition("enabling", new AnnotatedGenericBeanDefinition(EnablingConfig.class));
+		Assert.assertTrue("Enabled configuration", matches(DependentConfig.class));
+		
+		BeanDefinitionRegistry otherRegistry = new SimpleBeanDefinitionRegistry();
+		ConditionContext otherContext = mock(ConditionContext.class);
+		when(otherContext.getRegistry()).thenReturn(otherRegistry);
+		
+		Assert.assertFalse("Enabler not shared", matches(otherContext, DependentConfig.class));
+		Assert.assertFalse("Enabler not cached", EnablerRegistry.forRegistry(otherRegistry).contains(EnableTestFeature.class.getName()));
+	}
+	
+	@Test
+	public void testApplicationContextRegistry()
+	{
+		GenericApplicationContext applicationContext = new GenericApplicationContext();
+		
+		EnablerRegistry enablers = EnablerRegistry.forRegistry(applicationContext);
+		enablers.addEnabler(EnableTestFeature.class.getName());
+		
+		Assert.assertSame("Shared with bean factory", enablers, EnablerRegistry.forRegistry(applicationContext.getDefaultListableBeanFactory()));
+		
+		EnablerRegistry.reset(applicationContext);
+		
+		Assert.assertFalse("Reset for context", EnablerRegistry.forRegistry(applicationContext).contains(EnableTestFeature.class.getName()));
+	}
+	
+	@Test
+	public void testConcurrentRegistries() throws Exception
+	{
+		final int threadCount = 8;
+		final CountDownLatch start = new CountDownLatch(1);
+		final AtomicInteger failures = new AtomicInteger();
+		
+		Thread[] threads = new Thread[threadCount];
+		for (int i = 0; i < threadCount; i++)
+		{
+			final boolean enabled = (i % 2 == 0);
+			threads[i] = new Thread(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					BeanDefinitionRegistry threadRegistry = new SimpleBeanDefinitionRegistry();
+					if (enabled)
+					{
+						threadRegistry.registerBeanDefinition("enabling", new AnnotatedGenericBeanDefinition(EnablingConfig.class));
+					}
+					
+					ConditionContext threadContext = mock(ConditionContext.class);
+					when(threadContext.getRegistry()).thenReturn(threadRegistry);
+					
+					try
+					{
+						start.await();
+						for (int j = 0; j < 100; j++)
+						{
+							if (matches(threadContext, DependentConfig.class) != enabled)
+							{
+								failures.incrementAndGet();
+							}
+						}
+					}
+					catch (InterruptedException e)
+					{
+						failures.incrementAndGet();
+					}
+				}
+			});
+			threads[i].start();
+		}
+		
+		start.countDown();
+		for (Thread thread : threads)
+		{
+			thread.join();
+		}
+		
+		Assert.assertEquals("Independent results", 0, failures.get());
+	}
+	
+	private boolean matches(Class<?> configClass)
+	{
+		return matches(context, configClass);
+	}
+	
+	private static boolean matches(ConditionContext conditionContext, Class<?> configClass)
+	{
+		return new IfEnabledCondition().matches(conditionContext, new StandardAnnotationMetadata(configClass));
+	}
+	
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface EnableTestFeature
+	{
+	}
+	
+	@Retention(RetentionPolicy.RUNTIME)
+	public @interface EnableNestedFeature
+	{
+	}
+	
+	@Retention(RetentionPolicy.RUNTIME)
+	@EnableTestFeature
+	public @interface ComposedEnabler
+	{
+	}
+	
+	@EnableTestFeature
+	public static class EnablingConfig
+	{
+	}
+	
+	@ComposedEnabler
+	public static class ComposedConfig
+	{
+	}
+	
+	@IfEnabled(EnableTestFeature.class)
+	public static class DependentConfig
+	{
+	}
+	
+	@EnableNestedFeature
+	@IfEnabled(EnableTestFeature.class)
+	public static class NestedEnablingConfig
+	{
+	}
+	
+	@IfEnabled(EnableNestedFeature.class)
+	public static class NestedDependentConfig
+	{
+	}
+	
+	@EnableTestFeature
+	@IfEnabled(EnableTestFeature.class)
+	public static class CyclicConfig
+	{
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.config.startup;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StartupProfilerTest 
+{
+	private boolean initiallyEnabled;
+	
+	@Before
+	public void enableProfiling()
+	{
+		initiallyEnabled = StartupProfiler.isEnabled();
+		StartupProfiler.reset();
+		StartupProfiler.setEnabled(true);
+	}
+	
+	@After
+	public void restoreProfiling()
+	{
+		StartupProfiler.setEnabled(initiallyEnabled);
+		StartupProfiler.reset();
+	}
+	
+	@Test
+	public void testRecord()
+	{
+		for (int i = 0; i < 3; i++)
+		{
+			StartupProfiler.record(StartupPhase.PROPERTY_LOADING, String.class, StartupProfiler.start());
+		}
+		StartupProfiler.record(StartupPhase.IF_ENABLED_CONDITION, "org.example.EnableFeature", StartupProfiler.start());
+		
+		StartupReport report = StartupProfiler.getReport();
+		Assert.assertEquals("Entries", 2, report.getEntries().size());
+		
+		List<StartupReport.Entry> entries = report.getEntries(StartupPhase.PROPERTY_LOADING);
+		Assert.assertEquals("Phase entries", 1, entries.size());
+		Assert.assertEquals("Name", String.class.getName(), entries.get(0).getName());
+		Assert.assertEquals("Count", 3, entries.get(0).getCount());
+		Assert.assertTrue("Maximum within total", entries.get(0).getMaxTime() <= entries.get(0).getTotalTime());
+		Assert.assertEquals("Phase total", entries.get(0).getTotalTime(), report.getTotalTime(StartupPhase.PROPERTY_LOADING));
+		
+		Assert.assertTrue("Report text", report.toString().contains(StartupPhase.IF_ENABLED_CONDITION.name()));
+	}
+	
+	@Test
+	public void testDisabled()
+	{
+		StartupProfiler.setEnabled(false);
+		
+		long start = StartupProfiler.start();
+		Assert.assertEquals("No start time", 0, start);
+		
+		StartupProfiler.record(StartupPhase.PROPERTY_LOADING, String.class, start);
+		
+		// Operations started while disabled are not recorded after profiling is enabled
+		StartupProfiler.setEnabled(true);
+		StartupProfiler.record(StartupPhase.PROPERTY_LOADING, String.class, start);
+		
+		Assert.assertTrue("No measurements", StartupProfiler.getReport().getEntries().isEmpty());
+	}
+	
+	@Test
+	public void testReportOrder()
+	{
+		StartupReport report = new StartupReport(Arrays.asList(
+				new StartupReport.Entry(StartupPhase.TRANSFORMER_WARM_UP, "warmUp", 1, 10, 10),
+				new StartupReport.Entry(StartupPhase.BEAN_NAME_GENERATION, "fast", 2, 5, 3),
+				new StartupReport.Entry(StartupPhase.BEAN_NAME_GENERATION, "slow", 1, 20, 20)));
+		
+		List<StartupReport.Entry> entries = report.getEntries();
+		Assert.assertEquals("Slowest first", "slow", entries.get(0).getName());
+		Assert.assertEquals("Within phase", "fast", entries.get(1).getName());
+		Assert.assertEquals("Phase order", "warmUp", entries.get(2).getName());
+		Assert.assertEquals("Phase total", 25, report.getTotalTime(StartupPhase.BEAN_NAME_GENERATION));
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.service.security;
+
+import java.lang.reflect.Method;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.simpliccity.sst.service.security.annotation.ApplyWhen;
+import org.simpliccity.sst.service.security.annotation.SecuredMessage;
+
+public class AbstractSecuredMessageProcessorTest 
+{
+	private TestSecuredMessageProcessor processor;
+	
+	@Before
+	public void initializeProcessor()
+	{
+		processor = new TestSecuredMessageProcessor();
+	}
+	
+	@Test
+	public void testCachedControl() throws Exception
+	{
+		Method secured = getMethod("secured");
+		
+		SecuredMessageEvaluator control = processor.getControl(secured, null, ApplyWhen.PRE);
+		Assert.assertNotNull("Control defined", control);
+		Assert.assertSame("Cached control", control, processor.getControl(secured, null, ApplyWhen.PRE));
+		Assert.assertEquals("Annotation retrieved once", 1, processor.annotationLookups);
+	}
+	
+	@Test
+	public void testUnsecured() throws Exception
+	{
+		Method unsecured = getMethod("unsecured");
+		
+		Assert.assertNull("No control", processor.getControl(unsecured, null, ApplyWhen.PRE));
+		Assert.assertNull("Cached absence of control", processor.getControl(unsecured, null, ApplyWhen.PRE));
+		Assert.assertEquals("Annotation retrieved once", 1, processor.annotationLookups);
+	}
+	
+	@Test
+	public void testApplyWhen() throws Exception
+	{
+		Method securedAfter = getMethod("securedAfter");
+		
+		Assert.assertNull("Not applied before", processor.getControl(securedAfter, null, ApplyWhen.PRE));
+		Assert.assertNotNull("Applied after", processor.getControl(securedAfter, null, ApplyWhen.POST));
+		Assert.assertNull("Cached for before", processor.getControl(securedAfter, null, ApplyWhen.PRE));
+		Assert.assertNotNull("Cached for after", processor.getControl(securedAfter, null, ApplyWhen.POST));
+		Assert.assertEquals("Annotation retrieved once for each point", 2, processor.annotationLookups);
+	}
+	
+	@Test
+	public void testUnsecuredCacheBounded() throws Exception
+	{
+		processor.setNoControlCacheSize(1);
+		
+		Method unsecured = getMethod("unsecured");
+		Method securedAfter = getMethod("securedAfter");
+		
+		Assert.assertNull("No control", processor.getControl(unsecured, null, ApplyWhen.PRE));
+		Assert.assertNull("Not applied before", processor.getControl(securedAfter, null, ApplyWhen.PRE));
+		
+		// The cache started over when the limit was reached
+		Assert.assertNull("Forgotten absence of control", processor.getControl(unsecured, null, ApplyWhen.PRE));
+		Assert.assertEquals("Annotation retrieved again", 3, processor.annotationLookups);
+	}
+	
+	@Test
+	public void testUnsecuredCacheDisabled() throws Exception
+	{
+		processor.setNoControlCacheSize(0);
+		
+		Method unsecured = getMethod("unsecured");
+		
+		Assert.assertNull("No control", processor.getControl(unsecured, null, ApplyWhen.PRE));
+		Assert.assertNull("Absence of control not remembered", processor.getControl(unsecured, null, ApplyWhen.PRE));
+		Assert.assertEquals("Annotation retrieved each time", 2, processor.annotationLookups);
+	}
+	
+	private static Method getMethod(String name) throws NoSuchMethodException
+	{
+		return SecuredService.class.getMethod(name);
+	}
+	
+	public static class SecuredService
+	{
+		@SecuredMessage
+		public void secured()
+		{
+			// Test method
+		}
+		
+		@SecuredMessage(apply=ApplyWhen.POST)
+		public void securedAfter()
+		{
+			// Test method
+		}
+		
+		public void unsecured()
+		{
+			// Test method
+		}
+	}
+	
+	private static class TestSecuredMessageProcessor extends AbstractSecuredMessageProcessor
+	{
+		private int annotationLookups;
+		
+		@Override
+		protected SecuredMessage getAnnotation(Object controlledObject, ServiceSemanticContext<?> semanticContext) 
+		{
+			annotationLookups++;
+			return ((Method) controlledObject).getAnnotation(SecuredMessage.class);
+		}
+	}
+}
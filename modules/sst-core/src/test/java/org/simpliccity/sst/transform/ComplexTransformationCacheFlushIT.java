@@ -16,11 +16,19 @@
 
 package org.simpliccity.sst.transform;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.simpliccity.sst.property.ValueHolder;
 import org.simpliccity.sst.transform.annotation.TransformationCacheMode;
+import org.simpliccity.sst.transform.cache.TransformationCache;
+import org.simpliccity.sst.transform.cache.TransformationSession;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
@@ -167,4 +175,136 @@ public class ComplexTransformationCacheFlushIT
 		
 		Assert.assertNull(result);
 	}
+	
+	@Test
+	public void testSessionFlush()
+	{
+		ValueHolder value = new ValueHolder();
+		value.setValue("ABC");
+		
+		ComplexTransformationInput input = new ComplexTransformationInput();
+		input.setName("input");
+		input.setValue(value);
+		
+		try (TransformationSession session = transformer.getCacheManager().openSession())
+		{
+			ComplexTransformationResult result1 = transformer.transform(input, ComplexTransformationResult.class);
+			
+			// Mutate the source and transform it again within the same session
+			input.setName("changed");
+			value.setValue("XYZ");
+			ComplexTransformationResult result2 = transformer.transform(input, ComplexTransformationResult.class);
+			
+			// Validate that the FLUSH cache mode cleared the session cache, so the changes are reflected
+			Assert.assertTrue("Session open", session.isOpen());
+			Assert.assertNotSame(result1, result2);
+			Assert.assertEquals("changed", result2.getName());
+			Assert.assertEquals("XYZ", result2.getResult().getResult());
+		}
+	}
+	
+	@Test
+	public void testBatchSharedReference()
+	{
+		ValueHolder value = new ValueHolder();
+		value.setValue("ABC");
+		
+		ComplexTransformationInput input1 = new ComplexTransformationInput();
+		input1.setName("input1");
+		input1.setValue(value);
+		
+		ComplexTransformationInput input2 = new ComplexTransformationInput();
+		input2.setName("input2");
+		input2.setValue(value);
+		
+		List<ComplexTransformationResult> results = transformer.transformAll(Arrays.asList(input1, input2), ComplexTransformationResult.class);
+		
+		Assert.assertEquals("Batch size", 2, results.size());
+		
+		// Validate that transformations produced separate complex objects
+		Assert.assertNotSame(results.get(0), results.get(1));
+		
+		// Validate that the shared value was only transformed once within the batch
+		Assert.assertSame(results.get(0).getResult(), results.get(1).getResult());
+		
+		// Validate that the cache was flushed when the batch completed
+		ComplexTransformationResult result3 = transformer.transform(input1, ComplexTransformationResult.class);
+		Assert.assertNotSame(results.get(0).getResult(), result3.getResult());
+	}
+	
+	@Test
+	public void testParallelSharedReference()
+	{
+		ValueHolder value = new ValueHolder();
+		value.setValue("ABC");
+		
+		List<ComplexTransformationInput> inputs = new ArrayList<>();
+		for (int i = 0; i < 500; i++)
+		{
+			ComplexTransformationInput input = new ComplexTransformationInput();
+			input.setName("input" + i);
+			input.setValue(value);
+			inputs.add(input);
+		}
+		
+		int threshold = transformer.getParallelThreshold();
+		transformer.setParallelThreshold(5);
+		try
+		{
+			List<ComplexTransformationResult> results = transformer.transformParallel(inputs, ComplexTransformationResult.class);
+			
+			// Validate that every task resolved the shared value to the same result object
+			for (ComplexTransformationResult result : results)
+			{
+				Assert.assertSame(results.get(0).getResult(), result.getResult());
+			}
+			
+			// Validate that the shared cache did not outlive the operation
+			ComplexTransformationResult single = transformer.transform(inputs.get(0), ComplexTransformationResult.class);
+			Assert.assertNotSame(results.get(0).getResult(), single.getResult());
+		}
+		finally
+		{
+			transformer.setParallelThreshold(threshold);
+		}
+	}
+	
+	@Test
+	public void testAsyncSharedReference() throws Exception
+	{
+		ValueHolder value = new ValueHolder();
+		value.setValue("ABC");
+		
+		List<ComplexTransformationInput> inputs = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+		{
+			ComplexTransformationInput input = new ComplexTransformationInput();
+			input.setName("input" + i);
+			input.setValue(value);
+			inputs.add(input);
+		}
+		
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try
+		{
+			List<ComplexTransformationResult> results = transformer.transformAllAsync(inputs, ComplexTransformationResult.class, executor).get();
+			
+			// Validate that every element of the batch resolved the shared value to the same result object
+			for (ComplexTransformationResult result : results)
+			{
+				Assert.assertSame(results.get(0).getResult(), result.getResult());
+			}
+			
+			// Validate that separate asynchronous transformations share objects through an explicit cache
+			TransformationCache sharedCache = transformer.getCacheManager().createSharedCache();
+			ComplexTransformationResult result1 = transformer.transformAsync(inputs.get(0), ComplexTransformationResult.class, executor, sharedCache).get();
+			ComplexTransformationResult result2 = transformer.transformAsync(inputs.get(1), ComplexTransformationResult.class, executor, sharedCache).get();
+			Assert.assertSame(result1.getResult(), result2.getResult());
+			Assert.assertNotSame(results.get(0).getResult(), result1.getResult());
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
 }
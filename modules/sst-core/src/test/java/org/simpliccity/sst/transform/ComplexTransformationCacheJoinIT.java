@@ -17,6 +17,10 @@
 package org.simpliccity.sst.transform;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -260,4 +264,85 @@ public class ComplexTransformationCacheJoinIT
 		BigDecimal bdResult = transformer.transform(new Double(10.0), BigDecimal.class);
 		Assert.assertNull("Failing out transform", bdResult);
 	}
+	
+	@Test
+	public void testStreamingChunkFlush()
+	{
+		Assert.assertEquals("Configured chunk size", 2, transformer.getStreamChunkSize());
+		
+		List<ValueHolder> inputs = new ArrayList<>();
+		for (int i = 0; i < 5; i++)
+		{
+			ValueHolder input = new ValueHolder();
+			input.setValue("STREAM");
+			inputs.add(input);
+		}
+		
+		transformer.getCacheManager().flushCache();
+		
+		List<TransformationResult> results = new ArrayList<>();
+		for (TransformationResult result : transformer.transformIterable(inputs, TransformationResult.class))
+		{
+			results.add(result);
+		}
+		
+		Assert.assertEquals("Streamed elements", 5, results.size());
+		
+		// Validate that identity is maintained within a chunk...
+		Assert.assertSame(results.get(0), results.get(1));
+		Assert.assertSame(results.get(2), results.get(3));
+		
+		// ...but the cache is flushed between chunks
+		Assert.assertNotSame(results.get(1), results.get(2));
+		Assert.assertNotSame(results.get(3), results.get(4));
+		
+		// Validate that the cache was flushed once the stream was exhausted
+		Assert.assertNotSame(results.get(4), transformer.transform(inputs.get(4), TransformationResult.class));
+		
+		transformer.getCacheManager().flushCache();
+	}
+	
+	@Test
+	public void testStreamingWithoutFlush()
+	{
+		ValueHolder input = new ValueHolder();
+		input.setValue("UNCHUNKED");
+		
+		Iterator<TransformationResult> results = transformer.transformIterator(Arrays.asList(input, input, input).iterator(), TransformationResult.class, 0);
+		
+		TransformationResult first = results.next();
+		Assert.assertSame(first, results.next());
+		Assert.assertSame(first, results.next());
+		Assert.assertFalse("Stream exhausted", results.hasNext());
+		
+		transformer.getCacheManager().flushCache();
+	}
+	
+	@Test
+	public void testStreamingPreservesCallerCache()
+	{
+		ValueHolder joined = new ValueHolder();
+		joined.setValue("JOINED");
+		TransformationResult cached = transformer.transform(joined, TransformationResult.class);
+		
+		List<ValueHolder> inputs = new ArrayList<>();
+		for (int i = 0; i < 3; i++)
+		{
+			ValueHolder input = new ValueHolder();
+			input.setValue("STREAMED" + i);
+			inputs.add(input);
+		}
+		
+		// Stream with a chunk size of one so that the stream's cache is flushed after every element
+		Iterator<TransformationResult> results = transformer.transformIterator(inputs.iterator(), TransformationResult.class, 1);
+		while (results.hasNext())
+		{
+			results.next();
+		}
+		
+		// Validate that the entry cached by the caller survived the streamed transformation
+		Assert.assertSame(cached, transformer.transform(joined, TransformationResult.class));
+		
+		transformer.getCacheManager().flushCache();
+	}
 }
@@ -0,0 +1,56 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform;
+
+import org.simpliccity.sst.transform.annotation.InTransform;
+import org.simpliccity.sst.transform.annotation.OutTransform;
+import org.simpliccity.sst.transform.annotation.Transformation;
+import org.simpliccity.sst.transform.annotation.TransformationType;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@Transformation(source=CyclicTransformationInput.class, target=CyclicTransformationResult.class, direction=TransformationType.BIDIRECTIONAL)
+public class CyclicTestTransformer 
+{
+	@Autowired(required=false)
+	private Transformer transformer;
+
+	@OutTransform
+	public CyclicTransformationResult buildResult(CyclicTransformationInput input)
+	{
+		CyclicTransformationResult result = new CyclicTransformationResult();
+		
+		// Make the result available to references back to the input before following the peer
+		transformer.registerTarget(input, result);
+		
+		result.setName(input.getName());
+		result.setPeer(transformer.transform(input.getPeer(), CyclicTransformationResult.class));
+		
+		return result;
+	}
+	
+	@InTransform
+	public CyclicTransformationInput buildInput(CyclicTransformationResult result)
+	{
+		// No target is registered, so the cycle is reported as an error
+		CyclicTransformationInput input = new CyclicTransformationInput();
+		
+		input.setName(result.getName());
+		input.setPeer(transformer.transform(result.getPeer(), CyclicTransformationInput.class));
+		
+		return input;
+	}
+}
@@ -20,11 +20,13 @@ import static org.simpliccity.sst.transform.annotation.TransformationType.OUT;
 
 import org.simpliccity.sst.transform.annotation.OutTransform;
 import org.simpliccity.sst.transform.annotation.Transformation;
+import org.simpliccity.sst.transform.annotation.TransformationCacheKey;
 
 
 @Transformation(source = org.simpliccity.sst.transform.TransformTestClass1.class, 
 		target = org.simpliccity.sst.transform.TransformTestClass2.class, 
-		direction = OUT)
+		direction = OUT,
+		cacheKey = TransformationCacheKey.IDENTITY)
 
 public class TransformTestClass3 
 {
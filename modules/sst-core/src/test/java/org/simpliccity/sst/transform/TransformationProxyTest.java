@@ -18,6 +18,7 @@ package org.simpliccity.sst.transform;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.when;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -25,6 +26,7 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.simpliccity.sst.bean.annotation.BeanAnnotationUtils;
 import org.simpliccity.sst.transform.annotation.Transformation;
+import org.simpliccity.sst.transform.annotation.TransformationCacheKey;
 import org.simpliccity.sst.transform.annotation.TransformationCacheMode;
 import org.simpliccity.sst.transform.cache.TransformationCacheManager;
 
@@ -85,4 +87,18 @@ public class TransformationProxyTest
 		TransformationProxy proxy2 = new TransformationProxy(cacheManager, transformer2, false);
 		assertEquals("Default cache mode", cacheManager.getDefaultCacheModeEnum(), proxy2.getEffectiveCacheMode());
 	}
+	
+	@Test
+	public void testGetEffectiveCacheKey()
+	{
+		when(cacheManager.getDefaultCacheKeyEnum()).thenReturn(TransformationCacheKey.EQUALITY);
+		
+		TransformTestClass3 transformer1 = new TransformTestClass3();
+		TransformationProxy proxy1 = new TransformationProxy(cacheManager, transformer1, false);
+		assertEquals("Explicit cache key", TransformationCacheKey.IDENTITY, proxy1.getEffectiveCacheKey());
+		
+		TestValueTransformer transformer2 = new TestValueTransformer();
+		TransformationProxy proxy2 = new TransformationProxy(cacheManager, transformer2, false);
+		assertEquals("Default cache key", TransformationCacheKey.EQUALITY, proxy2.getEffectiveCacheKey());
+	}
 }
@@ -0,0 +1,74 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.simpliccity.sst.property.ValueHolder;
+import org.simpliccity.sst.transform.annotation.TransformationType;
+
+public class TransformationRegistryTest 
+{
+	@Test
+	public void testRegister()
+	{
+		TransformationRegistry registry = new TransformationRegistry();
+		TransformationDescriptor descriptor = new TransformationDescriptor("OUT", null, TransformationType.NONE);
+		
+		assertNull("Previous registration", registry.register(ValueHolder.class, TransformationResult.class, descriptor));
+		
+		assertSame("Registered descriptor", descriptor, registry.get(ValueHolder.class, TransformationResult.class));
+		assertTrue("Contains pair", registry.contains(ValueHolder.class, TransformationResult.class));
+		assertFalse("Inverse pair", registry.contains(TransformationResult.class, ValueHolder.class));
+		assertNull("Unknown pair", registry.get(String.class, TransformationResult.class));
+		assertEquals("Registry size", 1, registry.size());
+	}
+	
+	@Test
+	public void testReplace()
+	{
+		TransformationRegistry registry = new TransformationRegistry();
+		TransformationDescriptor original = new TransformationDescriptor("ORIGINAL", null, TransformationType.NONE);
+		TransformationDescriptor replacement = new TransformationDescriptor("REPLACEMENT", null, TransformationType.NONE);
+		
+		registry.register(ValueHolder.class, TransformationResult.class, original);
+		
+		assertSame("Replaced descriptor", original, registry.register(ValueHolder.class, TransformationResult.class, replacement));
+		assertSame("Current descriptor", replacement, registry.get(ValueHolder.class, TransformationResult.class));
+		assertEquals("Registry size", 1, registry.getDescriptors().size());
+	}
+	
+	@Test
+	public void testClear()
+	{
+		TransformationRegistry registry = new TransformationRegistry();
+		registry.register(ValueHolder.class, TransformationResult.class, new TransformationDescriptor("OUT", null, TransformationType.NONE));
+		registry.register(TransformationResult.class, ValueHolder.class, new TransformationDescriptor("IN", null, TransformationType.NONE));
+		
+		assertEquals("Registry size", 2, registry.size());
+		
+		registry.clear();
+		
+		assertEquals("Cleared registry size", 0, registry.size());
+		assertNull("Cleared descriptor", registry.get(ValueHolder.class, TransformationResult.class));
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform;
+
+import java.lang.management.ManagementFactory;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.simpliccity.sst.property.ValueHolder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration({ "/ComplexTransformationCacheNoneIT.xml" })
+public class TransformerAllocationIT 
+{
+	private static final int WARMUP_ITERATIONS = 20000;
+	
+	private static final int MEASURED_ITERATIONS = 10000;
+	
+	// Allowance per call for the result object itself (a TransformationResult) plus measurement noise
+	private static final long MAX_BYTES_PER_CALL = 64;
+	
+	@Autowired
+	private Transformer transformer;
+	
+	private com.sun.management.ThreadMXBean threadBean;
+	
+	private Logger logger = Logger.getLogger("org.simpliccity");
+	
+	private Level loggerLevel;
+	
+	@Before
+	public void initializeMeasurement()
+	{
+		Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+		
+		threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+		threadBean.setThreadAllocatedMemoryEnabled(true);
+		
+		// Debug logging builds messages on every call, so measure the path as it runs in production
+		loggerLevel = logger.getLevel();
+		logger.setLevel(Level.INFO);
+	}
+	
+	@After
+	public void restoreLogging()
+	{
+		logger.setLevel(loggerLevel);
+	}
+	
+	@Test
+	public void testUncachedTransformAllocation()
+	{
+		ValueHolder value = new ValueHolder();
+		value.setValue("ABC");
+		
+		// Warm up so that the path is compiled and any lazy initialization has occurred
+		for (int i = 0; i < WARMUP_ITERATIONS; i++)
+		{
+			transformer.transform(value, TransformationResult.class);
+		}
+		
+		long threadId = Thread.currentThread().getId();
+		TransformationResult result = null;
+		
+		long start = threadBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < MEASURED_ITERATIONS; i++)
+		{
+			result = transformer.transform(value, TransformationResult.class);
+		}
+		long allocated = threadBean.getThreadAllocatedBytes(threadId) - start;
+		
+		Assert.assertEquals("Transformation performed", "ABC", result.getResult());
+		
+		long bytesPerCall = allocated / MEASURED_ITERATIONS;
+		Assert.assertTrue("Allocation per call: " + bytesPerCall + " bytes", bytesPerCall <= MAX_BYTES_PER_CALL);
+	}
+}
@@ -16,10 +16,22 @@
 
 package org.simpliccity.sst.transform;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.simpliccity.sst.bean.annotation.BeanAnnotationUtils;
 import org.simpliccity.sst.property.ValueHolder;
+import org.simpliccity.sst.transform.annotation.OutTransform;
+import org.simpliccity.sst.transform.annotation.TransformationType;
+import org.simpliccity.sst.transform.invoke.TransformationDispatcher;
 import org.simpliccity.styleguide.annotation.CodeStyle;
 import org.simpliccity.styleguide.annotation.CodeStyles;
 import org.simpliccity.styleguide.annotation.StyleCitation;
@@ -81,4 +93,206 @@ public class TransformerIT
 		Assert.assertNotNull(output);
 		Assert.assertEquals(input.getResult(), output.getValue());
 	}
+
+	@Test
+	public void testConcurrentTransformation() throws Exception
+	{
+		int threads = 200;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		
+		try
+		{
+			List<Callable<Boolean>> tasks = new ArrayList<>();
+			for (int i = 0; i < threads; i++)
+			{
+				final String value = "Value" + i;
+				tasks.add(new Callable<Boolean>()
+				{
+					@Override
+					public Boolean call()
+					{
+						ValueHolder input = new ValueHolder();
+						input.setValue(value);
+						
+						TransformationResult output = transformer.transform(input, TransformationResult.class);
+						ValueHolder inverse = transformer.transform(output, ValueHolder.class);
+						
+						return value.equals(output.getResult()) && value.equals(inverse.getValue());
+					}
+				});
+			}
+			
+			for (Future<Boolean> result : executor.invokeAll(tasks))
+			{
+				Assert.assertTrue("Concurrent transformation", result.get());
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+		
+		Assert.assertNotNull("Registered transformation", transformer.getTransformations().get(ValueHolder.class, TransformationResult.class));
+	}
+	
+	@Test
+	public void testGeneratedDispatcher()
+	{
+		// Test transformation beans are compiled with the dispatcher processor
+		TransformationDispatcher dispatcher = transformer.getDispatcherIndex().getDispatcher(TestValueTransformer.class);
+		Assert.assertNotNull("Generated dispatcher", dispatcher);
+		Assert.assertEquals("Dispatcher source", ValueHolder.class, dispatcher.getSourceClass());
+		Assert.assertEquals("Dispatcher target", TransformationResult.class, dispatcher.getTargetClass());
+		Assert.assertEquals("Dispatcher direction", TransformationType.OUT, dispatcher.getDirection());
+		
+		ValueHolder input = new ValueHolder();
+		input.setValue("Dispatched");
+		
+		TransformationResult output = transformer.transform(input, TransformationResult.class);
+		Assert.assertEquals("Dispatched transformation", "Dispatched", output.getResult());
+		
+		// The generated invokers are bound to the same annotated methods found by reflection
+		TransformationProxy proxy = transformer.getTransformations().get(ValueHolder.class, TransformationResult.class).getProxy();
+		Assert.assertEquals("Outbound method", BeanAnnotationUtils.getAnnotatedMethodFromInstance(OutTransform.class, proxy.getTransformer()), proxy.getOutboundTransformationMethod());
+	}
+	
+	@Test
+	public void testTransformAll()
+	{
+		ValueHolder input1 = new ValueHolder();
+		input1.setValue("ABC");
+		
+		ValueHolder input2 = new ValueHolder();
+		input2.setValue("DEF");
+		
+		List<TransformationResult> results = transformer.transformAll(new Object[] {input1, null, input2}, TransformationResult.class);
+		
+		Assert.assertEquals("Batch size", 3, results.size());
+		Assert.assertEquals("First result", "ABC", results.get(0).getResult());
+		Assert.assertNull("Null source", results.get(1));
+		Assert.assertEquals("Third result", "DEF", results.get(2).getResult());
+		
+		List<ValueHolder> inverse = transformer.transformAll(results.subList(0, 1), ValueHolder.class);
+		Assert.assertEquals("Inverse result", "ABC", inverse.get(0).getValue());
+		
+		Assert.assertNull("Null batch", transformer.transformAll((Object[]) null, TransformationResult.class));
+	}
+	
+	@Test
+	public void testTransformParallel()
+	{
+		int count = 1000;
+		
+		List<ValueHolder> inputs = new ArrayList<>(count);
+		for (int i = 0; i < count; i++)
+		{
+			ValueHolder input = new ValueHolder();
+			input.setValue("Value" + i);
+			inputs.add(input);
+		}
+		
+		int threshold = transformer.getParallelThreshold();
+		transformer.setParallelThreshold(10);
+		try
+		{
+			List<TransformationResult> results = transformer.transformParallel(inputs, TransformationResult.class);
+			
+			Assert.assertEquals("Parallel batch size", count, results.size());
+			for (int i = 0; i < count; i++)
+			{
+				Assert.assertEquals("Parallel result order", "Value" + i, results.get(i).getResult());
+			}
+			
+			Assert.assertNull("Null parallel batch", transformer.transformParallel((Object[]) null, TransformationResult.class));
+		}
+		finally
+		{
+			transformer.setParallelThreshold(threshold);
+		}
+	}
+	
+	@Test
+	public void testParallelPoolShutdown()
+	{
+		Transformer localTransformer = new Transformer();
+		ForkJoinPool createdPool = localTransformer.getParallelPool();
+		localTransformer.destroy();
+		Assert.assertTrue("Created pool shut down", createdPool.isShutdown());
+		
+		ForkJoinPool suppliedPool = new ForkJoinPool(1);
+		try
+		{
+			localTransformer.setParallelPool(suppliedPool);
+			localTransformer.destroy();
+			Assert.assertFalse("Supplied pool left running", suppliedPool.isShutdown());
+		}
+		finally
+		{
+			suppliedPool.shutdown();
+		}
+	}
+	
+	@Test
+	public void testCyclicTransformation()
+	{
+		CyclicTransformationInput parent = new CyclicTransformationInput();
+		parent.setName("parent");
+		
+		CyclicTransformationInput child = new CyclicTransformationInput();
+		child.setName("child");
+		
+		parent.setPeer(child);
+		child.setPeer(parent);
+		
+		CyclicTransformationResult result = transformer.transform(parent, CyclicTransformationResult.class);
+		
+		// The reference back to the parent resolves to the registered target
+		Assert.assertEquals("Child result", "child", result.getPeer().getName());
+		Assert.assertSame("Cycle preserved", result, result.getPeer().getPeer());
+		
+		// Without a registered target, the reference back to the parent is reported as an error
+		try
+		{
+			transformer.transform(result, CyclicTransformationInput.class);
+			Assert.fail("Unregistered cycle accepted");
+		}
+		catch (CyclicTransformationException e)
+		{
+			Assert.assertTrue("Source type reported", e.getMessage().contains(CyclicTransformationResult.class.getName()));
+			Assert.assertTrue("Target type reported", e.getMessage().contains(CyclicTransformationInput.class.getName()));
+		}
+		
+		Assert.assertFalse("No transformation in progress", transformer.registerTarget(parent, result));
+	}
+	
+	@Test
+	public void testTransformAsync() throws Exception
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		
+		try
+		{
+			ValueHolder input = new ValueHolder();
+			input.setValue("Async");
+			
+			TransformationResult output = transformer.transformAsync(input, TransformationResult.class, executor).get();
+			Assert.assertEquals("Async result", "Async", output.getResult());
+			
+			ValueHolder input2 = new ValueHolder();
+			input2.setValue("DEF");
+			
+			List<TransformationResult> results = transformer.transformAllAsync(new Object[] {input, null, input2}, TransformationResult.class, executor).get();
+			Assert.assertEquals("Async batch size", 3, results.size());
+			Assert.assertEquals("First async result", "Async", results.get(0).getResult());
+			Assert.assertNull("Null async source", results.get(1));
+			Assert.assertEquals("Third async result", "DEF", results.get(2).getResult());
+			
+			Assert.assertTrue("Empty async batch", transformer.transformAllAsync(new Object[0], TransformationResult.class, executor).get().isEmpty());
+			Assert.assertNull("Null async batch", transformer.transformAllAsync((Object[]) null, TransformationResult.class, executor).get());
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
 }
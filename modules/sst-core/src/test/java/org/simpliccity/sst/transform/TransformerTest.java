@@ -0,0 +1,151 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.simpliccity.sst.bean.lookup.BeanMetadataLookupContainer;
+import org.simpliccity.sst.bean.lookup.BeanMetadataLookupManager;
+import org.simpliccity.sst.property.ValueHolder;
+import org.simpliccity.sst.transform.annotation.Transformation;
+import org.simpliccity.sst.transform.annotation.TransformationBeanMetadataLookupContainer;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class TransformerTest 
+{
+	private Transformer transformer;
+	
+	@Before
+	public void init()
+	{
+		// No transformation bean is found, so each prepared pair is registered as a gap
+		BeanMetadataLookupManager lookupManager = mock(BeanMetadataLookupManager.class);
+		when(lookupManager.lookupBeanByMetadata(any(BeanMetadataLookupContainer.class))).thenReturn(null);
+		
+		transformer = new Transformer();
+		transformer.setWarmUp(true);
+		ReflectionTestUtils.setField(transformer, "lookupManager", lookupManager);
+	}
+	
+	@Test
+	public void testWarmUpIgnoresOtherContexts()
+	{
+		ApplicationContext context = mock(ApplicationContext.class);
+		when(context.getBeanNamesForAnnotation(Transformation.class)).thenReturn(new String[0]);
+		ApplicationContext child = mock(ApplicationContext.class);
+		
+		transformer.setApplicationContext(context);
+		
+		transformer.onApplicationEvent(new ContextRefreshedEvent(child));
+		verify(child, never()).getBeanNamesForAnnotation(Transformation.class);
+		
+		transformer.onApplicationEvent(new ContextRefreshedEvent(context));
+		verify(context).getBeanNamesForAnnotation(Transformation.class);
+	}
+	
+	@Test
+	public void testWarmUpSkipsLazyAndPrototypeBeans()
+	{
+		RootBeanDefinition eagerDefinition = new RootBeanDefinition(TestValueTransformer.class);
+		RootBeanDefinition lazyDefinition = new RootBeanDefinition(TestValueTransformer.class);
+		lazyDefinition.setLazyInit(true);
+		
+		ConfigurableListableBeanFactory beanFactory = mock(ConfigurableListableBeanFactory.class);
+		when(beanFactory.getBeanNamesForAnnotation(Transformation.class)).thenReturn(new String[] {"eager", "lazy", "prototype"});
+		when(beanFactory.isSingleton("eager")).thenReturn(true);
+		when(beanFactory.isSingleton("lazy")).thenReturn(true);
+		when(beanFactory.isSingleton("prototype")).thenReturn(false);
+		when(beanFactory.containsBeanDefinition(anyString())).thenReturn(true);
+		when(beanFactory.getBeanDefinition("eager")).thenReturn(eagerDefinition);
+		when(beanFactory.getBeanDefinition("lazy")).thenReturn(lazyDefinition);
+		when(beanFactory.findAnnotationOnBean("eager", Transformation.class)).thenReturn(TestValueTransformer.class.getAnnotation(Transformation.class));
+		
+		Assert.assertEquals("Prepared pairs", 1, transformer.prepareTransformations(beanFactory));
+		Assert.assertTrue("Prepared transformation", transformer.getTransformations().contains(ValueHolder.class, TransformationResult.class));
+		
+		// Only the eager singleton is examined, and no bean is created
+		verify(beanFactory, never()).findAnnotationOnBean(eq("lazy"), eq(Transformation.class));
+		verify(beanFactory, never()).findAnnotationOnBean(eq("prototype"), eq(Transformation.class));
+		verify(beanFactory, never()).getBean(anyString());
+	}
+	
+	@Test
+	public void testUnrelatedPairsLoadIndependently() throws Exception
+	{
+		final CountDownLatch firstLoadStarted = new CountDownLatch(1);
+		final CountDownLatch otherPairLoaded = new CountDownLatch(1);
+		final AtomicBoolean otherPairLoadedFirst = new AtomicBoolean();
+		
+		// The lookup for the first pair does not complete until the unrelated pair has been loaded
+		BeanMetadataLookupManager lookupManager = mock(BeanMetadataLookupManager.class);
+		when(lookupManager.lookupBeanByMetadata(any(BeanMetadataLookupContainer.class))).thenAnswer(new Answer<Object>()
+		{
+			@Override
+			public Object answer(InvocationOnMock invocation) throws Throwable 
+			{
+				TransformationBeanMetadataLookupContainer container = (TransformationBeanMetadataLookupContainer) invocation.getArguments()[0];
+				if (String.class.getCanonicalName().equals(container.getSource()))
+				{
+					firstLoadStarted.countDown();
+					otherPairLoadedFirst.set(otherPairLoaded.await(5, TimeUnit.SECONDS));
+				}
+				
+				return null;
+			}
+		});
+		ReflectionTestUtils.setField(transformer, "lookupManager", lookupManager);
+		
+		Thread firstLoad = new Thread(new Runnable()
+		{
+			@Override
+			public void run() 
+			{
+				ReflectionTestUtils.invokeMethod(transformer, "getTransformation", String.class, Integer.class);
+			}
+		});
+		firstLoad.start();
+		
+		Assert.assertTrue("First load started", firstLoadStarted.await(5, TimeUnit.SECONDS));
+		
+		ReflectionTestUtils.invokeMethod(transformer, "getTransformation", Long.class, Double.class);
+		otherPairLoaded.countDown();
+		firstLoad.join();
+		
+		Assert.assertTrue("Unrelated pair not blocked", otherPairLoadedFirst.get());
+		Assert.assertTrue("First pair loaded", transformer.getTransformations().contains(String.class, Integer.class));
+		Assert.assertTrue("Unrelated pair loaded", transformer.getTransformations().contains(Long.class, Double.class));
+	}
+}
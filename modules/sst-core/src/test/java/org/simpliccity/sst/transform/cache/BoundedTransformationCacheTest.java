@@ -0,0 +1,144 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BoundedTransformationCacheTest 
+{
+	@Test
+	public void testLeastRecentlyUsedEviction()
+	{
+		BoundedTransformationCache cache = new BoundedTransformationCache(2, Collections.<Class<?>, Integer>emptyMap(), 0);
+		
+		cache.put(String.class, "A", "1");
+		cache.put(String.class, "B", "2");
+		
+		// Access "A" so that "B" becomes the least recently used entry
+		Assert.assertEquals("Cached value", "1", cache.get(String.class, "A"));
+		
+		cache.put(String.class, "C", "3");
+		
+		Assert.assertEquals("Type size", 2, cache.size(String.class));
+		Assert.assertEquals("Recently used value", "1", cache.get(String.class, "A"));
+		Assert.assertNull("Evicted value", cache.get(String.class, "B"));
+		Assert.assertEquals("New value", "3", cache.get(String.class, "C"));
+	}
+	
+	@Test
+	public void testTypeMaxSize()
+	{
+		Map<Class<?>, Integer> maxSizes = new HashMap<>();
+		maxSizes.put(Integer.class, 1);
+		maxSizes.put(Long.class, 0);
+		
+		BoundedTransformationCache cache = new BoundedTransformationCache(2, maxSizes, 0);
+		
+		for (int i = 0; i < 5; i++)
+		{
+			cache.put(String.class, i, "S" + i);
+			cache.put(Integer.class, i, i);
+			cache.put(Long.class, i, (long) i);
+		}
+		
+		Assert.assertEquals("Default limit", 2, cache.size(String.class));
+		Assert.assertEquals("Type limit", 1, cache.size(Integer.class));
+		Assert.assertEquals("Unlimited type", 5, cache.size(Long.class));
+		
+		cache.flush();
+		
+		Assert.assertEquals("Flushed", 0, cache.size(Long.class));
+	}
+	
+	@Test
+	public void testResize()
+	{
+		TransformationCacheStatistics statistics = new TransformationCacheStatistics();
+		
+		BoundedTransformationCache cache = new BoundedTransformationCache(0, Collections.<Class<?>, Integer>emptyMap(), 0);
+		cache.setStatistics(statistics);
+		
+		for (int i = 0; i < 5; i++)
+		{
+			cache.put(String.class, i, "S" + i);
+			cache.put(Integer.class, i, i);
+		}
+		
+		cache.setMaxSize(3);
+		cache.setTypeMaxSize(Integer.class, 1);
+		
+		Assert.assertEquals("Default limit", 3, cache.size(String.class));
+		Assert.assertEquals("Type limit", 1, cache.size(Integer.class));
+		Assert.assertNull("Least recently used evicted", cache.get(String.class, 0));
+		Assert.assertEquals("Most recently used retained", Integer.valueOf(4), cache.get(Integer.class, 4));
+		Assert.assertEquals("Evictions", 2, statistics.getEvictionCount(String.class));
+		Assert.assertEquals("Type evictions", 4, statistics.getEvictionCount(Integer.class));
+		
+		// Limits apply to subsequent updates
+		cache.put(String.class, 5, "S5");
+		Assert.assertEquals("Limit applied", 3, cache.size(String.class));
+	}
+	
+	@Test
+	public void testTimeToLive()
+	{
+		final long[] now = {1000L};
+		
+		BoundedTransformationCache cache = new BoundedTransformationCache(0, Collections.<Class<?>, Integer>emptyMap(), 100)
+		{
+			@Override
+			protected long currentTime()
+			{
+				return now[0];
+			}
+		};
+		
+		cache.put(String.class, "A", "1");
+		
+		now[0] = 1099L;
+		Assert.assertEquals("Live value", "1", cache.get(String.class, "A"));
+		
+		now[0] = 1100L;
+		Assert.assertNull("Expired value", cache.get(String.class, "A"));
+		Assert.assertEquals("Expired value discarded", 0, cache.size(String.class));
+	}
+	
+	@Test
+	public void testFactory()
+	{
+		BoundedTransformationCacheFactory factory = new BoundedTransformationCacheFactory();
+		factory.setMaxSize(1);
+		factory.setTypeMaxSize(Integer.class, 3);
+		
+		TransformationCache cache = factory.getNewCacheInstance();
+		Assert.assertTrue("Bounded cache", cache instanceof BoundedTransformationCache);
+		
+		for (int i = 0; i < 5; i++)
+		{
+			cache.put(String.class, i, "S" + i);
+			cache.put(Integer.class, i, i);
+		}
+		
+		Assert.assertEquals("Factory default limit", 1, ((BoundedTransformationCache) cache).size(String.class));
+		Assert.assertEquals("Factory type limit", 3, ((BoundedTransformationCache) cache).size(Integer.class));
+	}
+}
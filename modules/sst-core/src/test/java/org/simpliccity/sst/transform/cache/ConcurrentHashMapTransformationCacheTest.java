@@ -0,0 +1,254 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConcurrentHashMapTransformationCacheTest 
+{
+	private static final int THREADS = 8;
+	
+	private static final int ENTRIES = 5000;
+	
+	private static final Class<?>[] TYPES = {String.class, Integer.class, Long.class, Double.class};
+	
+	private ExecutorService executor;
+	
+	@Before
+	public void initializeExecutor()
+	{
+		executor = Executors.newFixedThreadPool(THREADS);
+	}
+	
+	@After
+	public void shutdownExecutor() throws Exception
+	{
+		executor.shutdownNow();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+	}
+	
+	@Test
+	public void testBasicOperations()
+	{
+		ConcurrentHashMapTransformationCache cache = new ConcurrentHashMapTransformationCache();
+		
+		cache.put(String.class, "A", "1");
+		cache.put(String.class, null, "2");
+		cache.put(String.class, "B", null);
+		
+		Assert.assertEquals("Cached value", "1", cache.get(String.class, "A"));
+		Assert.assertNull("Uncached type", cache.get(Integer.class, "A"));
+		Assert.assertNull("Null index", cache.get(String.class, null));
+		Assert.assertEquals("Null entries ignored", 1, cache.size(String.class));
+		
+		Assert.assertEquals("Existing value", "1", cache.putIfAbsent(String.class, "A", "3"));
+		Assert.assertEquals("New value", "3", cache.putIfAbsent(String.class, "C", "3"));
+		
+		cache.flush();
+		
+		Assert.assertNull("Flushed value", cache.get(String.class, "A"));
+		Assert.assertEquals("Flushed", 0, cache.size(String.class));
+	}
+	
+	@Test
+	public void testNoLostUpdates() throws Exception
+	{
+		final ConcurrentHashMapTransformationCache cache = new ConcurrentHashMapTransformationCache();
+		
+		List<Callable<Void>> tasks = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++)
+		{
+			final int thread = t;
+			tasks.add(new Callable<Void>()
+			{
+				@Override
+				public Void call()
+				{
+					// Each thread writes its own indexes, spread over all of the type buckets
+					for (int i = 0; i < ENTRIES; i++)
+					{
+						Integer index = thread * ENTRIES + i;
+						cache.put(TYPES[i % TYPES.length], index, "V" + index);
+					}
+					
+					return null;
+				}
+			});
+		}
+		
+		runConcurrently(tasks);
+		
+		int total = 0;
+		for (Class<?> type : TYPES)
+		{
+			total += cache.size(type);
+		}
+		Assert.assertEquals("Total entries", THREADS * ENTRIES, total);
+		
+		for (int index = 0; index < THREADS * ENTRIES; index++)
+		{
+			Assert.assertEquals("Cached value", "V" + index, cache.get(TYPES[(index % ENTRIES) % TYPES.length], index));
+		}
+	}
+	
+	@Test
+	public void testPutIfAbsentAgreement() throws Exception
+	{
+		final ConcurrentHashMapTransformationCache cache = new ConcurrentHashMapTransformationCache();
+		final Object[][] observed = new Object[THREADS][ENTRIES];
+		
+		List<Callable<Void>> tasks = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++)
+		{
+			final int thread = t;
+			tasks.add(new Callable<Void>()
+			{
+				@Override
+				public Void call()
+				{
+					// All threads compete to cache their own value for the same indexes
+					for (int i = 0; i < ENTRIES; i++)
+					{
+						observed[thread][i] = cache.putIfAbsent(String.class, i, new Object());
+					}
+					
+					return null;
+				}
+			});
+		}
+		
+		runConcurrently(tasks);
+		
+		for (int i = 0; i < ENTRIES; i++)
+		{
+			Object winner = cache.get(String.class, i);
+			for (int t = 0; t < THREADS; t++)
+			{
+				Assert.assertSame("Agreed value", winner, observed[t][i]);
+			}
+		}
+	}
+	
+	@Test
+	public void testFlushDuringAccess() throws Exception
+	{
+		final ConcurrentHashMapTransformationCache cache = new ConcurrentHashMapTransformationCache();
+		final AtomicBoolean running = new AtomicBoolean(true);
+		
+		List<Callable<Void>> tasks = new ArrayList<>();
+		for (int t = 0; t < THREADS - 1; t++)
+		{
+			tasks.add(new Callable<Void>()
+			{
+				@Override
+				public Void call()
+				{
+					while (running.get())
+					{
+						for (int i = 0; i < ENTRIES; i++)
+						{
+							Class<?> type = TYPES[i % TYPES.length];
+							
+							cache.put(type, i, "V" + i);
+							
+							// A lookup may miss because of a flush, but must never return another index's value
+							Object value = cache.get(type, i);
+							if (value != null && !value.equals("V" + i))
+							{
+								throw new IllegalStateException("Corrupted value " + value + " for index " + i);
+							}
+						}
+					}
+					
+					return null;
+				}
+			});
+		}
+		
+		tasks.add(new Callable<Void>()
+		{
+			@Override
+			public Void call() throws Exception
+			{
+				try
+				{
+					for (int i = 0; i < 200; i++)
+					{
+						cache.flush();
+						Thread.sleep(1);
+					}
+				}
+				finally
+				{
+					running.set(false);
+				}
+				
+				return null;
+			}
+		});
+		
+		runConcurrently(tasks);
+		
+		cache.flush();
+		
+		for (Class<?> type : TYPES)
+		{
+			Assert.assertEquals("Flushed", 0, cache.size(type));
+		}
+	}
+	
+	private void runConcurrently(List<Callable<Void>> tasks) throws Exception
+	{
+		final CountDownLatch start = new CountDownLatch(1);
+		
+		List<Future<Void>> futures = new ArrayList<>();
+		for (final Callable<Void> task : tasks)
+		{
+			futures.add(executor.submit(new Callable<Void>()
+			{
+				@Override
+				public Void call() throws Exception
+				{
+					// Release all tasks at once to maximize contention
+					start.await();
+					return task.call();
+				}
+			}));
+		}
+		
+		start.countDown();
+		
+		// Propagates any failure raised by a task
+		for (Future<Void> future : futures)
+		{
+			future.get(60, TimeUnit.SECONDS);
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.simpliccity.sst.property.ValueHolder;
+
+public class IdentityCacheKeyTest 
+{
+	@Test
+	public void testSameInstance()
+	{
+		ValueHolder value = new ValueHolder();
+		value.setValue("ABC");
+		
+		IdentityCacheKey key1 = new IdentityCacheKey(value);
+		IdentityCacheKey key2 = new IdentityCacheKey(value);
+		
+		Assert.assertEquals("Same instance", key1, key2);
+		Assert.assertEquals("Same hash code", key1.hashCode(), key2.hashCode());
+	}
+	
+	@Test
+	public void testEqualInstances()
+	{
+		String value1 = new String("ABC");
+		String value2 = new String("ABC");
+		
+		Assert.assertNotEquals("Equal but distinct instances", new IdentityCacheKey(value1), new IdentityCacheKey(value2));
+	}
+	
+	@Test
+	public void testCacheLookup()
+	{
+		String value1 = new String("ABC");
+		String value2 = new String("ABC");
+		
+		TransformationCache cache = new DefaultTransformationCacheFactory().getNewCacheInstance();
+		cache.put(String.class, new IdentityCacheKey(value1), "result1");
+		
+		Assert.assertEquals("Cached by identity", "result1", cache.get(String.class, new IdentityCacheKey(value1)));
+		Assert.assertNull("Not cached for equal instance", cache.get(String.class, new IdentityCacheKey(value2)));
+	}
+}
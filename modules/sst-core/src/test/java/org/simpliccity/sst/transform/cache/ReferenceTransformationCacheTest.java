@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ReferenceTransformationCacheTest 
+{
+	@Test
+	public void testEqualityIndex()
+	{
+		ReferenceTransformationCache cache = new ReferenceTransformationCache();
+		
+		String index = new String("A");
+		cache.put(String.class, index, "1");
+		
+		Assert.assertEquals("Same index", "1", cache.get(String.class, index));
+		Assert.assertEquals("Equal index", "1", cache.get(String.class, new String("A")));
+		Assert.assertNull("Uncached type", cache.get(Integer.class, index));
+		Assert.assertEquals("Existing value", "1", cache.putIfAbsent(String.class, index, "2"));
+		
+		cache.flush();
+		
+		Assert.assertNull("Flushed value", cache.get(String.class, index));
+		Assert.assertEquals("Flushed", 0, cache.size(String.class));
+	}
+	
+	@Test
+	public void testIdentityIndex()
+	{
+		ReferenceTransformationCache cache = new ReferenceTransformationCache();
+		
+		String source = new String("A");
+		cache.put(String.class, new IdentityCacheKey(source), "1");
+		
+		Assert.assertEquals("Same source", "1", cache.get(String.class, new IdentityCacheKey(source)));
+		Assert.assertNull("Equal source", cache.get(String.class, new IdentityCacheKey(new String("A"))));
+		Assert.assertNull("Unwrapped source", cache.get(String.class, source));
+	}
+	
+	@Test
+	public void testUnreachableIndex()
+	{
+		ReferenceTransformationCache cache = new ReferenceTransformationCache();
+		TransformationCacheStatistics statistics = new TransformationCacheStatistics();
+		cache.setStatistics(statistics);
+		
+		Object retained = new Object();
+		Object released = new Object();
+		Object releasedSource = new Object();
+		cache.put(Object.class, retained, "retained");
+		cache.put(Object.class, released, "released");
+		cache.put(Object.class, new IdentityCacheKey(releasedSource), "released");
+		
+		// Simulate the garbage collector reclaiming the released indexes
+		Assert.assertTrue("Released index", cache.releaseIndex(Object.class, released));
+		Assert.assertTrue("Released identity index", cache.releaseIndex(Object.class, new IdentityCacheKey(releasedSource)));
+		Assert.assertFalse("Unknown index", cache.releaseIndex(Object.class, new Object()));
+		
+		Assert.assertEquals("Released entries discarded", 1, cache.size(Object.class));
+		Assert.assertEquals("Evictions recorded", 2, statistics.getEvictionCount(Object.class));
+		Assert.assertEquals("Retained entry", "retained", cache.get(Object.class, retained));
+		Assert.assertNull("Released entry", cache.get(Object.class, released));
+	}
+}
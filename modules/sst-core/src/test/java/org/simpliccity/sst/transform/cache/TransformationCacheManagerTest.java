@@ -19,6 +19,8 @@ package org.simpliccity.sst.transform.cache;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.simpliccity.sst.transform.annotation.TransformationCacheKey;
+import org.simpliccity.sst.transform.annotation.TransformationCacheMode;
 
 public class TransformationCacheManagerTest 
 {
@@ -40,6 +42,19 @@ public class TransformationCacheManagerTest
 		Assert.assertTrue("Default cache mode", "JOIN".equals(manager.getDefaultCacheMode()));
 	}
 	
+	@Test
+	public void testDefaultCacheKey() throws Exception
+	{
+		manager.afterPropertiesSet();
+		
+		Assert.assertEquals("Initial cache key", TransformationCacheKey.EQUALITY, manager.getDefaultCacheKeyEnum());
+		
+		manager.setDefaultCacheKey("IDENTITY");
+		
+		Assert.assertEquals("Default cache key", "IDENTITY", manager.getDefaultCacheKey());
+		Assert.assertEquals("Default cache key enum", TransformationCacheKey.IDENTITY, manager.getDefaultCacheKeyEnum());
+	}
+	
 	@Test
 	public void testCacheFactory() throws Exception
 	{
@@ -108,4 +123,238 @@ public class TransformationCacheManagerTest
 		
 		Assert.assertNull("Flush local cache", manager.retrieveFromCache(String.class, "Hello"));		
 	}
+	
+	@Test
+	public void testSessionDefersFlush() throws Exception
+	{
+		manager.afterPropertiesSet();
+		
+		manager.beginSession();
+		Assert.assertTrue("Session active", manager.isSessionActive());
+		
+		manager.updateCache(String.class, "Hello", "World");
+		manager.flushCache(TransformationCacheMode.FLUSH, false);
+		
+		Assert.assertEquals("Flush deferred", "World", manager.retrieveFromCache(String.class, "Hello"));
+		
+		// Nested sessions do not perform the deferred flush
+		manager.beginSession();
+		manager.endSession();
+		
+		Assert.assertEquals("Flush deferred by nested session", "World", manager.retrieveFromCache(String.class, "Hello"));
+		
+		manager.endSession();
+		Assert.assertFalse("Session ended", manager.isSessionActive());
+		
+		Assert.assertNull("Deferred flush performed", manager.retrieveFromCache(String.class, "Hello"));
+	}
+	
+	@Test
+	public void testSessionWithoutFlush() throws Exception
+	{
+		manager.afterPropertiesSet();
+		
+		manager.beginSession();
+		manager.updateCache(String.class, "Hello", "World");
+		manager.flushCache(TransformationCacheMode.JOIN, false);
+		manager.endSession();
+		
+		Assert.assertEquals("No flush requested", "World", manager.retrieveFromCache(String.class, "Hello"));
+		
+		manager.flushCache();
+	}
+	
+	@Test(expected=IllegalStateException.class)
+	public void testUnbalancedSession()
+	{
+		manager.endSession();
+	}
+	
+	@Test
+	public void testSharedSession() throws Exception
+	{
+		manager.afterPropertiesSet();
+		
+		manager.updateCache(String.class, "Hello", "World");
+		
+		TransformationCache sharedCache = manager.createSharedCache();
+		manager.beginSession(sharedCache);
+		Assert.assertSame("Shared cache", sharedCache, manager.getSharedCache());
+		Assert.assertNull("Configured cache hidden", manager.retrieveFromCache(String.class, "Hello"));
+		
+		Assert.assertEquals("First cached value", "Shared", manager.updateCacheIfAbsent(String.class, "Hello", "Shared"));
+		Assert.assertEquals("Existing cached value", "Shared", manager.updateCacheIfAbsent(String.class, "Hello", "Other"));
+		
+		// Deferred flushes are left to the owner of the shared cache
+		manager.flushCache(TransformationCacheMode.FLUSH, false);
+		manager.endSession();
+		
+		Assert.assertNull("Shared session ended", manager.getSharedCache());
+		Assert.assertEquals("Shared cache not flushed", "Shared", sharedCache.get(String.class, "Hello"));
+		Assert.assertEquals("Configured cache restored", "World", manager.retrieveFromCache(String.class, "Hello"));
+		
+		manager.flushCache();
+	}
+	
+	@Test
+	public void testTransformationSession() throws Exception
+	{
+		manager.afterPropertiesSet();
+		
+		manager.updateCache(String.class, "Hello", "World");
+		
+		TransformationCache sessionCache;
+		try (TransformationSession transformationSession = manager.openSession())
+		{
+			sessionCache = transformationSession.getCache();
+			Assert.assertSame("Session cache", sessionCache, manager.getSharedCache());
+			Assert.assertNull("Configured cache hidden", manager.retrieveFromCache(String.class, "Hello"));
+			
+			manager.updateCache(String.class, "Hello", "Session");
+			Assert.assertEquals("Session value", "Session", manager.retrieveFromCache(String.class, "Hello"));
+			
+			// Flushes requested by transformations clear the session cache immediately
+			manager.flushCache(TransformationCacheMode.FLUSH, false);
+			Assert.assertNull("Session cache flushed", manager.retrieveFromCache(String.class, "Hello"));
+			
+			manager.updateCache(String.class, "Hello", "Session");
+		}
+		
+		Assert.assertFalse("Session closed", manager.isSessionActive());
+		Assert.assertNull("Session cache discarded", sessionCache.get(String.class, "Hello"));
+		Assert.assertEquals("Configured cache restored", "World", manager.retrieveFromCache(String.class, "Hello"));
+		
+		manager.flushCache();
+	}
+	
+	@Test
+	public void testSessionWithinTransformationSession() throws Exception
+	{
+		manager.afterPropertiesSet();
+		
+		try (TransformationSession transformationSession = manager.openSession())
+		{
+			// A batch within the transformation session uses the session cache...
+			manager.beginSession();
+			Assert.assertSame("Session cache", transformationSession.getCache(), manager.getSharedCache());
+			
+			manager.updateCache(String.class, "Hello", "World");
+			manager.flushCache(TransformationCacheMode.FLUSH, false);
+			Assert.assertEquals("Flush deferred", "World", manager.retrieveFromCache(String.class, "Hello"));
+			
+			// ...and its deferred flush is applied to the session cache when it ends
+			manager.endSession();
+			Assert.assertTrue("Transformation session active", manager.isSessionActive());
+			Assert.assertNull("Deferred flush performed", manager.retrieveFromCache(String.class, "Hello"));
+		}
+	}
+	
+	@Test(expected=IllegalStateException.class)
+	public void testTransformationSessionOrder() throws Exception
+	{
+		manager.afterPropertiesSet();
+		
+		TransformationSession outer = manager.openSession();
+		manager.openSession();
+		
+		outer.close();
+	}
+	
+	@Test
+	public void testMonitorFlush() throws Exception
+	{
+		manager.afterPropertiesSet();
+		
+		TransformationCacheMonitor monitor = new TransformationCacheMonitor(manager);
+		
+		// Thread-local caches cannot be flushed by the monitor
+		manager.updateCache(String.class, "Hello", "World");
+		Assert.assertFalse("Local cache not flushed", monitor.flushCache());
+		Assert.assertEquals("Local value retained", "World", manager.retrieveFromCache(String.class, "Hello"));
+		
+		manager.flushCache();
+	}
+	
+	@Test
+	public void testMonitorFlushGlobalCache() throws Exception
+	{
+		manager.setGlobalCacheScope(true);
+		manager.afterPropertiesSet();
+		
+		TransformationCacheMonitor monitor = new TransformationCacheMonitor(manager);
+		
+		manager.updateCache(String.class, "Hello", "World");
+		Assert.assertTrue("Global cache flushed", monitor.flushCache());
+		Assert.assertNull("Global value flushed", manager.retrieveFromCache(String.class, "Hello"));
+	}
+	
+	@Test
+	public void testGlobalCacheThreadSafe() throws Exception
+	{
+		manager.setGlobalCacheScope(true);
+		manager.afterPropertiesSet();
+		
+		// The global cache supports atomic conditional updates
+		Assert.assertEquals("First cached value", "World", manager.updateCacheIfAbsent(String.class, "Hello", "World"));
+		Assert.assertEquals("Existing cached value", "World", manager.updateCacheIfAbsent(String.class, "Hello", "Other"));
+		
+		manager.flushCache();
+		
+		Assert.assertNull("Flushed global cache", manager.retrieveFromCache(String.class, "Hello"));
+	}
+	
+	@Test
+	public void testStatistics() throws Exception
+	{
+		manager.setStatisticsEnabled(true);
+		manager.afterPropertiesSet();
+		
+		Assert.assertNull("Miss", manager.retrieveFromCache(String.class, "Hello"));
+		manager.updateCache(String.class, "Hello", "World");
+		Assert.assertEquals("Hit", "World", manager.retrieveFromCache(String.class, "Hello"));
+		
+		TransformationCacheStatistics statistics = manager.getStatistics();
+		Assert.assertEquals("Hits", 1, statistics.getHitCount(String.class));
+		Assert.assertEquals("Misses", 1, statistics.getMissCount(String.class));
+		Assert.assertEquals("Puts", 1, statistics.getPutCount(String.class));
+		Assert.assertEquals("Local caches", 1, manager.getLocalCacheCount());
+		Assert.assertEquals("Local size", Integer.valueOf(1), manager.getCacheSizes().get(String.class));
+		
+		manager.flushCache();
+		
+		Assert.assertEquals("Flushes", 1, statistics.getFlushCount());
+	}
+	
+	@Test
+	public void testResizeCache() throws Exception
+	{
+		BoundedTransformationCacheFactory factory = new BoundedTransformationCacheFactory();
+		factory.setMaxSize(3);
+		manager.setCacheFactory(factory);
+		manager.setGlobalCacheScope(true);
+		manager.setStatisticsEnabled(true);
+		manager.afterPropertiesSet();
+		
+		for (int i = 0; i < 3; i++)
+		{
+			manager.updateCache(String.class, i, "V" + i);
+		}
+		
+		Assert.assertTrue("Bounded cache resized", manager.resizeCache(1));
+		Assert.assertEquals("Factory limit", 1, factory.getMaxSize());
+		Assert.assertEquals("Resized cache", Integer.valueOf(1), manager.getCacheSizes().get(String.class));
+		Assert.assertEquals("Evictions", 2, manager.getStatistics().getEvictionCount(String.class));
+		Assert.assertEquals("Most recent entry retained", "V2", manager.retrieveFromCache(String.class, 2));
+		
+		manager.flushCache();
+	}
+	
+	@Test
+	public void testResizeUnboundedCache() throws Exception
+	{
+		manager.setGlobalCacheScope(true);
+		manager.afterPropertiesSet();
+		
+		Assert.assertFalse("Unbounded cache", manager.resizeCache(1));
+	}
 }
@@ -0,0 +1,90 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TransformationCacheStatisticsTest 
+{
+	@Test
+	public void testCounters()
+	{
+		TransformationCacheStatistics statistics = new TransformationCacheStatistics();
+		
+		statistics.recordMiss(String.class);
+		statistics.recordPut(String.class);
+		statistics.recordHit(String.class);
+		statistics.recordHit(String.class);
+		statistics.recordHit(Integer.class);
+		statistics.recordEviction(Integer.class);
+		statistics.recordFlush();
+		
+		Assert.assertEquals("Type hits", 2, statistics.getHitCount(String.class));
+		Assert.assertEquals("Type misses", 1, statistics.getMissCount(String.class));
+		Assert.assertEquals("Type puts", 1, statistics.getPutCount(String.class));
+		Assert.assertEquals("Type evictions", 1, statistics.getEvictionCount(Integer.class));
+		Assert.assertEquals("Unrecorded type", 0, statistics.getHitCount(Long.class));
+		
+		Assert.assertEquals("Total hits", 3, statistics.getHitCount());
+		Assert.assertEquals("Total misses", 1, statistics.getMissCount());
+		Assert.assertEquals("Flushes", 1, statistics.getFlushCount());
+		Assert.assertEquals("Hit ratio", 0.75, statistics.getHitRatio(), 0.0001);
+		Assert.assertEquals("Types", 2, statistics.getTypes().size());
+		
+		statistics.reset();
+		
+		Assert.assertEquals("Reset hits", 0, statistics.getHitCount());
+		Assert.assertEquals("Reset flushes", 0, statistics.getFlushCount());
+		Assert.assertEquals("Reset hit ratio", 0.0, statistics.getHitRatio(), 0.0001);
+	}
+	
+	@Test
+	public void testConcurrentUpdates() throws Exception
+	{
+		final TransformationCacheStatistics statistics = new TransformationCacheStatistics();
+		final int increments = 100000;
+		
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < 8; t++)
+		{
+			Thread thread = new Thread()
+			{
+				@Override
+				public void run()
+				{
+					for (int i = 0; i < increments; i++)
+					{
+						statistics.recordHit(String.class);
+					}
+				}
+			};
+			threads.add(thread);
+			thread.start();
+		}
+		
+		for (Thread thread : threads)
+		{
+			thread.join();
+		}
+		
+		Assert.assertEquals("No lost increments", 8L * increments, statistics.getHitCount(String.class));
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.simpliccity.sst.property.ValueHolder;
+import org.simpliccity.sst.transform.TransformationResult;
+import org.simpliccity.sst.transform.Transformer;
+import org.simpliccity.sst.transform.cache.BoundedTransformationCacheFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration({ "/TransformerConfigBoundedCacheIT.xml" })
+public class TransformerConfigBoundedCacheIT 
+{
+	@Autowired
+	private Transformer transformer;
+
+	@Test
+	public void testBoundedCacheFactory()
+	{
+		assertTrue("Cache factory", transformer.getCacheManager().getCacheFactory() instanceof BoundedTransformationCacheFactory);
+		
+		BoundedTransformationCacheFactory factory = (BoundedTransformationCacheFactory) transformer.getCacheManager().getCacheFactory();
+		assertEquals("Default max size", 2, factory.getMaxSize());
+		assertEquals("Time to live", 60000L, factory.getTimeToLive());
+		assertEquals("Type max size", Integer.valueOf(0), factory.getMaxSizes().get(ValueHolder.class));
+	}
+	
+	@Test
+	public void testEviction()
+	{
+		transformer.getCacheManager().flushCache();
+		
+		ValueHolder input1 = new ValueHolder();
+		input1.setValue("A");
+		ValueHolder input2 = new ValueHolder();
+		input2.setValue("B");
+		ValueHolder input3 = new ValueHolder();
+		input3.setValue("C");
+		
+		TransformationResult result1 = transformer.transform(input1, TransformationResult.class);
+		assertSame("Cached result", result1, transformer.transform(input1, TransformationResult.class));
+		
+		// Exceed the limit of two cached results, evicting the least recently used
+		transformer.transform(input2, TransformationResult.class);
+		transformer.transform(input3, TransformationResult.class);
+		
+		assertNotSame("Evicted result", result1, transformer.transform(input1, TransformationResult.class));
+		
+		transformer.getCacheManager().flushCache();
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.simpliccity.sst.property.ValueHolder;
+import org.simpliccity.sst.transform.TransformationResult;
+import org.simpliccity.sst.transform.Transformer;
+import org.simpliccity.sst.transform.cache.TransformationCacheStatistics;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.context.support.GenericXmlApplicationContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration({ "/TransformerConfigCacheStatisticsIT.xml" })
+public class TransformerConfigCacheStatisticsIT 
+{
+	@Autowired
+	private Transformer transformer;
+	
+	@Autowired
+	private BeanFactory beanFactory;
+	
+	@Before
+	public void resetCache()
+	{
+		transformer.getCacheManager().flushCache();
+		transformer.getCacheManager().getStatistics().reset();
+	}
+	
+	@Test
+	public void testStatisticsEnabled()
+	{
+		assertTrue("Statistics enabled", transformer.getCacheManager().isStatisticsEnabled());
+	}
+	
+	@Test
+	public void testStatistics()
+	{
+		ValueHolder input = new ValueHolder();
+		input.setValue("A");
+		
+		TransformationResult result = transformer.transform(input, TransformationResult.class);
+		assertSame("Cached result", result, transformer.transform(input, TransformationResult.class));
+		
+		TransformationCacheStatistics statistics = transformer.getCacheManager().getStatistics();
+		assertEquals("Hits", 1, statistics.getHitCount(TransformationResult.class));
+		assertEquals("Misses", 1, statistics.getMissCount(TransformationResult.class));
+		assertEquals("Puts", 1, statistics.getPutCount(TransformationResult.class));
+		assertEquals("Size", Integer.valueOf(1), transformer.getCacheManager().getCacheSizes().get(TransformationResult.class));
+	}
+	
+	@Test
+	public void testMonitor() throws Exception
+	{
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(TransformerBeanDefinitionParser.getCacheMonitorObjectName((BeanDefinitionRegistry) beanFactory));
+		
+		assertTrue("Monitor registered", server.isRegistered(name));
+		
+		ValueHolder input1 = new ValueHolder();
+		input1.setValue("A");
+		ValueHolder input2 = new ValueHolder();
+		input2.setValue("B");
+		
+		TransformationResult result1 = transformer.transform(input1, TransformationResult.class);
+		transformer.transform(input1, TransformationResult.class);
+		transformer.transform(input2, TransformationResult.class);
+		
+		assertEquals("Hit count", 1L, server.getAttribute(name, "HitCount"));
+		assertEquals("Cache size", 2L, server.getAttribute(name, "CacheSize"));
+		
+		// Shrink the cache at runtime, evicting the least recently used result
+		assertEquals("Resized", Boolean.TRUE, server.invoke(name, "resizeCache", new Object[] {1}, new String[] {int.class.getName()}));
+		assertEquals("Eviction count", 1L, server.getAttribute(name, "EvictionCount"));
+		assertNotSame("Evicted result", result1, transformer.transform(input1, TransformationResult.class));
+		
+		assertEquals("Flushed", Boolean.TRUE, server.invoke(name, "flushCache", new Object[0], new String[0]));
+		assertEquals("Flush count", 1L, server.getAttribute(name, "FlushCount"));
+		
+		// Restore the configured limit for other tests
+		server.invoke(name, "resizeCache", new Object[] {2}, new String[] {int.class.getName()});
+	}
+	
+	@Test
+	public void testMonitorPerContext() throws Exception
+	{
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(TransformerBeanDefinitionParser.getCacheMonitorObjectName((BeanDefinitionRegistry) beanFactory));
+		
+		// A second context with the same configuration registers its own monitor
+		ObjectName otherName;
+		try (GenericXmlApplicationContext other = new GenericXmlApplicationContext("/TransformerConfigCacheStatisticsIT.xml"))
+		{
+			otherName = new ObjectName(TransformerBeanDefinitionParser.getCacheMonitorObjectName((BeanDefinitionRegistry) other.getBeanFactory()));
+			
+			assertNotEquals("Distinct names", name, otherName);
+			assertTrue("Other monitor registered", server.isRegistered(otherName));
+			assertTrue("Monitor still registered", server.isRegistered(name));
+		}
+		
+		assertFalse("Other monitor unregistered", server.isRegistered(otherName));
+		assertTrue("Monitor unaffected", server.isRegistered(name));
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.simpliccity.sst.property.ValueHolder;
+import org.simpliccity.sst.transform.ComplexTransformationInput;
+import org.simpliccity.sst.transform.ComplexTransformationResult;
+import org.simpliccity.sst.transform.TransformationRegistry;
+import org.simpliccity.sst.transform.TransformationResult;
+import org.simpliccity.sst.transform.Transformer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration({ "/TransformerConfigWarmUpIT.xml" })
+public class TransformerConfigWarmUpIT 
+{
+	@Autowired
+	private Transformer transformer;
+	
+	@Autowired
+	private ApplicationContext context;
+	
+	@Test
+	public void testWarmUpEnabled()
+	{
+		assertTrue("Warm-up enabled", transformer.isWarmUp());
+	}
+	
+	@Test
+	public void testPreparedAtStartup()
+	{
+		TransformationRegistry registry = transformer.getTransformations();
+		
+		// Descriptors exist for both directions without any transformation having been requested
+		assertTrue("Outbound transformation", registry.contains(ValueHolder.class, TransformationResult.class));
+		assertTrue("Inbound gap", registry.contains(TransformationResult.class, ValueHolder.class));
+		assertTrue("Bidirectional outbound", registry.contains(ComplexTransformationInput.class, ComplexTransformationResult.class));
+		assertTrue("Bidirectional inbound", registry.contains(ComplexTransformationResult.class, ComplexTransformationInput.class));
+		assertTrue("Inbound only", registry.contains(String.class, ValueHolder.class));
+	}
+	
+	@Test
+	public void testRepeatedWarmUp()
+	{
+		int descriptors = transformer.getTransformations().size();
+		
+		// Preparing again finds the same pairs but leaves the registry unchanged
+		assertTrue("Prepared pairs", transformer.prepareTransformations(context) > 0);
+		assertEquals("Registered descriptors", descriptors, transformer.getTransformations().size());
+	}
+}
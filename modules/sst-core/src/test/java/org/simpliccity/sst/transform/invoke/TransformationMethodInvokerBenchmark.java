@@ -0,0 +1,95 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.invoke;
+
+import java.lang.reflect.Method;
+
+import org.simpliccity.sst.bean.annotation.BeanAnnotationUtils;
+import org.simpliccity.sst.property.ValueHolder;
+import org.simpliccity.sst.transform.TestValueTransformer;
+import org.simpliccity.sst.transform.annotation.OutTransform;
+import org.simpliccity.sst.transform.cache.annotation.OutTransformCacheIndex;
+
+/**
+ * A simple, stand-alone comparison of the per-call cost of the available {@link TransformationMethodInvokerFactory}
+ * implementations.  This is not a unit test; run it directly (e.g. from the IDE) with a warmed-up JVM:
+ * 
+ * <pre>
+ * java -cp [test classpath] org.simpliccity.sst.transform.invoke.TransformationMethodInvokerBenchmark [iterations]
+ * </pre>
+ */
+public final class TransformationMethodInvokerBenchmark 
+{
+	private static final int DEFAULT_ITERATIONS = 5000000;
+	private static final int ROUNDS = 5;
+	
+	private TransformationMethodInvokerBenchmark()
+	{
+		super();
+	}
+	
+	public static void main(String[] args) throws Exception
+	{
+		int iterations = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_ITERATIONS;
+		
+		TestValueTransformer transformer = new TestValueTransformer();
+		Method transformMethod = BeanAnnotationUtils.getAnnotatedMethodFromInstance(OutTransform.class, transformer);
+		Method indexMethod = BeanAnnotationUtils.getAnnotatedMethodFromInstance(OutTransformCacheIndex.class, transformer);
+		
+		TransformationMethodInvokerFactory[] factories = {new ReflectiveTransformationMethodInvokerFactory(), new MethodHandleTransformationMethodInvokerFactory()};
+		
+		ValueHolder input = new ValueHolder();
+		input.setValue("ABC");
+		
+		for (int round = 1; round <= ROUNDS; round++)
+		{
+			for (TransformationMethodInvokerFactory factory : factories)
+			{
+				TransformationMethodInvoker transformInvoker = factory.createInvoker(transformer, transformMethod);
+				TransformationMethodInvoker indexInvoker = factory.createInvoker(transformer, indexMethod);
+				
+				report(round, factory, "@OutTransform", measure(transformInvoker, input, iterations), iterations);
+				report(round, factory, "@OutTransformCacheIndex", measure(indexInvoker, input, iterations), iterations);
+			}
+		}
+	}
+	
+	private static long measure(TransformationMethodInvoker invoker, Object input, int iterations) throws Exception
+	{
+		// Accumulate results so the calls cannot be eliminated
+		int sink = 0;
+		
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++)
+		{
+			sink += System.identityHashCode(invoker.invoke(input)) & 1;
+		}
+		long elapsed = System.nanoTime() - start;
+		
+		if (sink < 0)
+		{
+			System.out.println(sink);
+		}
+		
+		return elapsed;
+	}
+	
+	private static void report(int round, TransformationMethodInvokerFactory factory, String method, long elapsed, int iterations)
+	{
+		System.out.println(String.format("Round %d: %-50s %-25s %8.2f ns/op", round, factory.getClass().getSimpleName(), method, (double) elapsed / iterations));
+	}
+}
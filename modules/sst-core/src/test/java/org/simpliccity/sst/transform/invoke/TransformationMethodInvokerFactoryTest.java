@@ -0,0 +1,139 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.transform.invoke;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+import org.simpliccity.sst.bean.annotation.BeanAnnotationUtils;
+import org.simpliccity.sst.property.ValueHolder;
+import org.simpliccity.sst.transform.FailingTransformer;
+import org.simpliccity.sst.transform.TestValueTransformer;
+import org.simpliccity.sst.transform.TransformationResult;
+import org.simpliccity.sst.transform.annotation.OutTransform;
+
+public class TransformationMethodInvokerFactoryTest 
+{
+	@Test
+	public void testMethodHandleInvoker() throws Exception
+	{
+		verifyInvoker(new MethodHandleTransformationMethodInvokerFactory());
+	}
+	
+	@Test
+	public void testReflectiveInvoker() throws Exception
+	{
+		verifyInvoker(new ReflectiveTransformationMethodInvokerFactory());
+	}
+	
+	@Test
+	public void testMethodHandleInvokerException() throws Exception
+	{
+		verifyInvokerException(new MethodHandleTransformationMethodInvokerFactory());
+	}
+	
+	@Test
+	public void testReflectiveInvokerException() throws Exception
+	{
+		verifyInvokerException(new ReflectiveTransformationMethodInvokerFactory());
+	}
+	
+	@Test
+	public void testMethodHandleFallback() throws Exception
+	{
+		RecordingInvokerFactory fallback = new RecordingInvokerFactory();
+		MethodHandleTransformationMethodInvokerFactory factory = new MethodHandleTransformationMethodInvokerFactory();
+		factory.setFallback(fallback);
+		
+		// Public method declared by a non-public class cannot be bound using the public lookup
+		HiddenTransformer transformer = new HiddenTransformer();
+		Method method = BeanAnnotationUtils.getAnnotatedMethodFromInstance(OutTransform.class, transformer);
+		
+		TransformationMethodInvoker invoker = factory.createInvoker(transformer, method);
+		
+		assertSame("Fallback invoker", fallback.getInvoker(), invoker);
+	}
+	
+	private void verifyInvoker(TransformationMethodInvokerFactory factory) throws Exception
+	{
+		TestValueTransformer transformer = new TestValueTransformer();
+		Method method = BeanAnnotationUtils.getAnnotatedMethodFromInstance(OutTransform.class, transformer);
+		
+		TransformationMethodInvoker invoker = factory.createInvoker(transformer, method);
+		
+		ValueHolder input = new ValueHolder();
+		input.setValue("ABC");
+		
+		Object result = invoker.invoke(input);
+		
+		assertEquals("Bound method", method, invoker.getMethod());
+		assertTrue("Result type", result instanceof TransformationResult);
+		assertEquals("Result value", "ABC", ((TransformationResult) result).getResult());
+	}
+	
+	private void verifyInvokerException(TransformationMethodInvokerFactory factory) throws Exception
+	{
+		FailingTransformer transformer = new FailingTransformer();
+		Method method = BeanAnnotationUtils.getAnnotatedMethodFromInstance(OutTransform.class, transformer);
+		
+		TransformationMethodInvoker invoker = factory.createInvoker(transformer, method);
+		
+		try
+		{
+			invoker.invoke(Double.valueOf(10.0));
+		}
+		catch (InvocationTargetException e)
+		{
+			assertTrue("Target exception", e.getCause() instanceof UnsupportedOperationException);
+			return;
+		}
+		
+		throw new AssertionError("Expected InvocationTargetException");
+	}
+	
+	static class HiddenTransformer
+	{
+		@OutTransform
+		public String transform(Object input)
+		{
+			return String.valueOf(input);
+		}
+	}
+	
+	private static class RecordingInvokerFactory implements TransformationMethodInvokerFactory
+	{
+		private TransformationMethodInvoker invoker;
+		
+		@Override
+		public TransformationMethodInvoker createInvoker(Object transformer, Method method) 
+		{
+			invoker = new ReflectiveTransformationMethodInvokerFactory().createInvoker(transformer, method);
+			
+			return invoker;
+		}
+		
+		public TransformationMethodInvoker getInvoker()
+		{
+			return invoker;
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.web.transform;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.simpliccity.sst.transform.Transformer;
+import org.simpliccity.sst.transform.cache.TransformationCacheManager;
+import org.simpliccity.sst.transform.cache.TransformationSession;
+import org.springframework.web.context.support.WebApplicationContextUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * <p>A servlet filter that performs each request within a {@link TransformationSession}, so that objects cached by the
+ * transformations performed for a request are discarded when the request completes, even when the request is handled
+ * by a pooled thread.</p>
+ * 
+ * <p>The filter can be declared directly in <code>web.xml</code>, in which case the cache manager of the 
+ * {@link Transformer} in the root web application context is used, or defined as a bean (e.g. for use with 
+ * <code>DelegatingFilterProxy</code>) with its cache manager set explicitly.  Asynchronous dispatches are not filtered, 
+ * so the session of a request that starts asynchronous processing ends when the initial dispatch returns.</p>
+ * 
+ * @author Kevin Fox
+ * @since 1.0.0
+ *
+ */
+public class TransformationSessionFilter extends OncePerRequestFilter 
+{
+	private TransformationCacheManager cacheManager;
+	
+	/**
+	 * Returns the cache manager used to open sessions.  If none has been set, the cache manager of the 
+	 * {@link Transformer} in the root web application context is used.
+	 * 
+	 * @return The cache manager for the transformer used by the application.
+	 */
+	public TransformationCacheManager getCacheManager() 
+	{
+		if (cacheManager == null)
+		{
+			cacheManager = WebApplicationContextUtils.getRequiredWebApplicationContext(getServletContext()).getBean(Transformer.class).getCacheManager();
+		}
+		
+		return cacheManager;
+	}
+
+	/**
+	 * Specifies the cache manager used to open sessions.
+	 * 
+	 * @param cacheManager The cache manager for the transformer used by the application.
+	 */
+	public void setCacheManager(TransformationCacheManager cacheManager) 
+	{
+		this.cacheManager = cacheManager;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException 
+	{
+		TransformationSession session = getCacheManager().openSession();
+		try
+		{
+			filterChain.doFilter(request, response);
+		}
+		finally
+		{
+			session.close();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ *    Copyright 2017 Information Control Company
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.simpliccity.sst.web.transform;
+
+import java.io.IOException;
+
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.simpliccity.sst.transform.cache.DefaultTransformationCacheFactory;
+import org.simpliccity.sst.transform.cache.TransformationCacheManager;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class TransformationSessionFilterTest 
+{
+	private TransformationCacheManager cacheManager;
+	
+	private TransformationSessionFilter filter;
+	
+	@Before
+	public void init() throws Exception
+	{
+		cacheManager = new TransformationCacheManager();
+		cacheManager.setCacheFactory(new DefaultTransformationCacheFactory());
+		cacheManager.setDefaultCacheMode("JOIN");
+		cacheManager.afterPropertiesSet();
+		
+		filter = new TransformationSessionFilter();
+		filter.setCacheManager(cacheManager);
+	}
+	
+	@Test
+	public void testRequestSession() throws Exception
+	{
+		final boolean[] sessionActive = new boolean[1];
+		
+		MockFilterChain chain = new MockFilterChain()
+		{
+			@Override
+			public void doFilter(ServletRequest request, ServletResponse response) throws IOException, ServletException 
+			{
+				sessionActive[0] = cacheManager.getSharedCache() != null;
+				cacheManager.updateCache(String.class, "Hello", "World");
+				
+				super.doFilter(request, response);
+			}
+		};
+		
+		filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain);
+		
+		Assert.assertTrue("Session active during request", sessionActive[0]);
+		Assert.assertFalse("Session closed after request", cacheManager.isSessionActive());
+		
+		// Objects cached during the request did not reach the thread-local cache
+		Assert.assertNull("Request cache discarded", cacheManager.retrieveFromCache(String.class, "Hello"));
+	}
+}